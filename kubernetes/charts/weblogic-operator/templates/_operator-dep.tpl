@@ -14,7 +14,7 @@ spec:
   selector:
     matchLabels:
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ .replicas | default 1 }}
   template:
     metadata:
      labels:
@@ -57,6 +57,14 @@ spec:
           value: "n"
           {{- end }}
         {{- end }}
+        {{- if .sharded }}
+        - name: "OPERATOR_SHARDED"
+          value: "true"
+        {{- end }}
+        {{- if .leaderElection }}
+        - name: "OPERATOR_LEADER_ELECTION"
+          value: "true"
+        {{- end }}
         {{- if .mockWLS }}
         - name: "MOCK_WLS"
           value: "true"
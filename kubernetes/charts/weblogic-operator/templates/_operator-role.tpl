@@ -14,4 +14,9 @@ rules:
 - apiGroups: [""]
   resources: ["secrets", "configmaps", "events"]
   verbs: ["get", "list", "watch", "create", "update", "patch", "delete", "deletecollection"]
+{{- if or .sharded .leaderElection }}
+- apiGroups: ["coordination.k8s.io"]
+  resources: ["leases"]
+  verbs: ["get", "list", "create", "update", "delete"]
+{{- end }}
 {{- end }}
@@ -40,6 +40,9 @@
 {{-   end -}}
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "dedicated") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "sharded") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "leaderElection") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "replicas") -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
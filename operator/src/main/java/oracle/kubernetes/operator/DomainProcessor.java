@@ -29,5 +29,11 @@ public interface DomainProcessor {
 
   public void stopNamespace(String ns);
 
+  public void releaseNamespace(String ns);
+
+  public void cancelDomainActivity();
+
   public void reportSuspendedFibers();
+
+  public void makeRightCachedDomains();
 }
@@ -39,6 +39,14 @@ public interface DomainProcessorDelegate {
    */
   boolean isNamespaceRunning(String namespace);
 
+  /**
+   * Returns true if this operator replica may make changes to domains. A standby replica only keeps its
+   * caches current.
+   *
+   * @return true unless this is a standby replica
+   */
+  boolean isLeader();
+
   /**
    * Returns the version of the Kubernetes environment in which the operator is running.
    *
@@ -78,4 +86,14 @@ public interface DomainProcessorDelegate {
    */
   ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  /**
+   * Schedules the specified command to run once after a delay.
+   *
+   * @param command the command to run
+   * @param delay the number of time units to wait before running the command
+   * @param unit the time unit for the delay
+   * @return a future which indicates completion of the command
+   */
+  ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
 }
@@ -5,15 +5,20 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ContainerState;
@@ -80,15 +85,24 @@ import static oracle.kubernetes.operator.helpers.LegalNames.toJobIntrospectorNam
 public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int MAX_COALESCING_DELAYS = 10;
 
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
   @SuppressWarnings("FieldMayBeFinal") // Map namespace to map of domainUID to Domain; tests may replace this value.
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
+  // Map domainUID to the namespace in which it was last registered; tests may replace this value.
+  @SuppressWarnings("FieldMayBeFinal")
+  private static Map<String, String> DOMAIN_NAMESPACES = new ConcurrentHashMap<>();
   private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
   private final DomainProcessorDelegate delegate;
 
+  // Map namespace and domainUID to a make-right which is waiting for further watch events for the same domain
+  private final Map<String, MakeRightDomainOperationImpl> pendingMakeRights = new ConcurrentHashMap<>();
+  private final AtomicLong watchEventsReceived = new AtomicLong();
+  private final AtomicLong makeRightFibersStarted = new AtomicLong();
+
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
     this.delegate = delegate;
   }
@@ -101,6 +115,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     DOMAINS
           .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
           .put(info.getDomainUid(), info);
+    DOMAIN_NAMESPACES.put(info.getDomainUid(), info.getNamespace());
   }
 
   private static void unregisterPresenceInfo(String ns, String domainUid) {
@@ -108,6 +123,53 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (map != null) {
       map.remove(domainUid);
     }
+    DOMAIN_NAMESPACES.remove(domainUid, ns);
+  }
+
+  /**
+   * Returns the domains currently known to the operator in the specified namespaces.
+   * @param namespaces the namespaces to search
+   * @return a list of domains
+   */
+  public static List<Domain> getDomains(Collection<String> namespaces) {
+    return namespaces.stream()
+          .map(DOMAINS::get)
+          .filter(Objects::nonNull)
+          .map(Map::values)
+          .flatMap(Collection::stream)
+          .map(DomainProcessorImpl::getLiveDomain)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the domain with the specified UID currently known to the operator, if it is in one of
+   * the specified namespaces.
+   * @param domainUid the UID of the domain
+   * @param namespaces the namespaces to search
+   * @return an optional domain
+   */
+  public static Optional<Domain> getDomain(String domainUid, Collection<String> namespaces) {
+    return Optional.ofNullable(DOMAIN_NAMESPACES.get(domainUid))
+          .filter(namespaces::contains)
+          .map(ns -> getLiveDomain(ns, domainUid))
+          .or(() -> searchForDomain(domainUid, namespaces));
+  }
+
+  private static Domain getLiveDomain(String ns, String domainUid) {
+    return Optional.ofNullable(DOMAINS.get(ns)).map(m -> m.get(domainUid)).map(DomainProcessorImpl::getLiveDomain)
+          .orElse(null);
+  }
+
+  private static Domain getLiveDomain(DomainPresenceInfo info) {
+    return info.isNotDeleting() ? info.getDomain() : null;
+  }
+
+  private static Optional<Domain> searchForDomain(String domainUid, Collection<String> namespaces) {
+    return namespaces.stream()
+          .map(ns -> getLiveDomain(ns, domainUid))
+          .filter(Objects::nonNull)
+          .findFirst();
   }
 
   private static void registerStatusUpdater(
@@ -249,6 +311,39 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  /**
+   * Stops managing the domains in a namespace which this operator no longer manages, such as one now assigned
+   * to another operator replica. Unlike {@link #stopNamespace(String)}, this leaves the domains' Kubernetes
+   * resources in place: it cancels their make-right fibers and status updates, and forgets them.
+   * @param ns the namespace
+   */
+  public void releaseNamespace(String ns) {
+    cancelDomainActivity(ns);
+    Optional.ofNullable(DOMAINS.get(ns))
+          .map(infos -> new ArrayList<>(infos.keySet()))
+          .ifPresent(domainUids -> domainUids.forEach(domainUid -> unregisterPresenceInfo(ns, domainUid)));
+  }
+
+  /**
+   * Cancels the make-right fibers, status updates and waiting make-rights of all domains, while keeping the
+   * cached domains. A replica which loses leadership calls this, so that it makes no further changes.
+   */
+  public void cancelDomainActivity() {
+    Set<String> namespaces = new HashSet<>(DOMAINS.keySet());
+    namespaces.addAll(statusUpdaters.keySet());
+    namespaces.addAll(makeRightFiberGates.keySet());
+    namespaces.addAll(statusFiberGates.keySet());
+    namespaces.forEach(this::cancelDomainActivity);
+  }
+
+  private void cancelDomainActivity(String ns) {
+    pendingMakeRights.keySet().removeIf(key -> key.startsWith(ns + "/"));
+    Optional.ofNullable(statusUpdaters.remove(ns))
+          .ifPresent(futures -> futures.values().forEach(future -> future.cancel(true)));
+    Optional.ofNullable(makeRightFiberGates.get(ns)).ifPresent(FiberGate::cancelAll);
+    Optional.ofNullable(statusFiberGates.get(ns)).ifPresent(FiberGate::cancelAll);
+  }
+
   /**
    * Report on currently suspended fibers. This is the first step toward diagnosing if we need special handling
    * to kill or kick these fibers.
@@ -279,11 +374,23 @@ public class DomainProcessorImpl implements DomainProcessor {
           .map(DomainPresenceInfo::getDomainUid).orElse("");
   }
 
+  /**
+   * Starts a make-right for every cached domain. A replica which has just become the leader calls this
+   * to act on the changes it recorded while on standby.
+   */
+  public void makeRightCachedDomains() {
+    DOMAINS.values().stream()
+          .flatMap(infos -> infos.values().stream())
+          .filter(info -> info.getDomain() != null)
+          .forEach(info -> createMakeRightOperation(info).withExplicitRecheck().execute());
+  }
+
   /**
    * Dispatch pod watch event.
    * @param item watch event
    */
   public void dispatchPodWatch(Watch.Response<V1Pod> item) {
+    watchEventsReceived.incrementAndGet();
     if (getPodLabel(item.object, LabelConstants.DOMAINUID_LABEL) == null) {
       return;
     }
@@ -314,7 +421,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && info.isNotDeleting() && !info.isServerPodBeingDeleted(serverName)) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getNamespace(pod), serverName);
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          createMakeRightOperation(info).rerunAfterCurrent().withExplicitRecheck().executeCoalesced();
         }
         break;
 
@@ -341,7 +448,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   private void processIntrospectorJobPodWatch(V1Pod pod, String watchType) {
     String domainUid = getPodLabel(pod, LabelConstants.DOMAINUID_LABEL);
     DomainPresenceInfo info = getExistingDomainPresenceInfo(getNamespace(pod), domainUid);
-    if (info == null) {
+    if (info == null || !delegate.isLeader()) {
       return;
     }
 
@@ -366,6 +473,7 @@ public class DomainProcessorImpl implements DomainProcessor {
    * @param item watch event
    */
   public void dispatchServiceWatch(Watch.Response<V1Service> item) {
+    watchEventsReceived.incrementAndGet();
     V1Service service = item.object;
     String domainUid = ServiceHelper.getServiceDomainUid(service);
     if (domainUid == null) {
@@ -386,7 +494,7 @@ public class DomainProcessorImpl implements DomainProcessor {
       case "DELETED":
         boolean removed = ServiceHelper.deleteFromEvent(info, item.object);
         if (removed && info.isNotDeleting()) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          createMakeRightOperation(info).rerunAfterCurrent().withExplicitRecheck().executeCoalesced();
         }
         break;
       default:
@@ -399,7 +507,7 @@ public class DomainProcessorImpl implements DomainProcessor {
    */
   public void dispatchConfigMapWatch(Watch.Response<V1ConfigMap> item) {
     V1ConfigMap c = item.object;
-    if (c != null && c.getMetadata() != null) {
+    if (c != null && c.getMetadata() != null && delegate.isLeader()) {
       switch (item.type) {
         case "MODIFIED":
         case "DELETED":
@@ -439,6 +547,7 @@ public class DomainProcessorImpl implements DomainProcessor {
    * @param item An item received from a Watch response.
    */
   public void dispatchDomainWatch(Watch.Response<Domain> item) {
+    watchEventsReceived.incrementAndGet();
     switch (item.type) {
       case "ADDED":
         handleAddedDomain(item.object);
@@ -457,17 +566,36 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private void handleAddedDomain(Domain domain) {
     LOGGER.info(MessageKeys.WATCH_DOMAIN, domain.getDomainUid());
-    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().withExplicitRecheck().execute();
+    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().withExplicitRecheck().executeCoalesced();
   }
 
   private void handleModifiedDomain(Domain domain) {
     LOGGER.fine(MessageKeys.WATCH_DOMAIN, domain.getDomainUid());
-    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().execute();
+    if (!isStatusOnlyChange(domain)) {
+      createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().executeCoalesced();
+    }
+  }
+
+  // Most modifications reported by the watcher are updates to the domain status, which do not require
+  // a make-right. Recognize those without creating a new domain presence, and just record the latest copy.
+  private boolean isStatusOnlyChange(Domain domain) {
+    if (!delegate.isNamespaceRunning(domain.getNamespace())) {
+      return true;
+    }
+
+    DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(domain.getNamespace(), domain.getDomainUid());
+    if (cachedInfo == null || cachedInfo.getDomain() == null || isSpecChanged(domain, cachedInfo.getDomain())) {
+      return false;
+    } else if (!isCachedDomainNewer(domain, cachedInfo.getDomain())) {
+      cachedInfo.setDomain(domain);
+    }
+    return true;
   }
 
   private void handleDeletedDomain(Domain domain) {
     LOGGER.info(MessageKeys.WATCH_DOMAIN_DELETED, domain.getDomainUid());
-    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().forDeletion().withExplicitRecheck().execute();
+    createMakeRightOperation(new DomainPresenceInfo(domain))
+          .interrupt().forDeletion().withExplicitRecheck().executeCoalesced();
   }
 
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
@@ -605,7 +733,10 @@ public class DomainProcessorImpl implements DomainProcessor {
     private boolean explicitRecheck;
     private boolean deleting;
     private boolean willInterrupt;
+    private boolean willRerun;
     private boolean inspectionRun;
+    private int coalescedEvents = 1;
+    private ScheduledFuture<?> pendingExecution;
 
     /**
      * Create the operation.
@@ -620,7 +751,7 @@ public class DomainProcessorImpl implements DomainProcessor {
      * @return the updated factory
      */
     @Override
-    public MakeRightDomainOperation withExplicitRecheck() {
+    public MakeRightDomainOperationImpl withExplicitRecheck() {
       explicitRecheck = true;
       return this;
     }
@@ -630,7 +761,7 @@ public class DomainProcessorImpl implements DomainProcessor {
      * @return the updated factory
      */
     @Override
-    public MakeRightDomainOperation forDeletion() {
+    public MakeRightDomainOperationImpl forDeletion() {
       deleting = true;
       return this;
     }
@@ -641,7 +772,7 @@ public class DomainProcessorImpl implements DomainProcessor {
      * @return the updated factory
      */
     @Override
-    public MakeRightDomainOperation withDeleting(boolean deleting) {
+    public MakeRightDomainOperationImpl withDeleting(boolean deleting) {
       this.deleting = deleting;
       return this;
     }
@@ -651,23 +782,81 @@ public class DomainProcessorImpl implements DomainProcessor {
      * @return the updated factory
      */
     @Override
-    public MakeRightDomainOperation interrupt() {
+    public MakeRightDomainOperationImpl interrupt() {
       willInterrupt = true;
       return this;
     }
 
+    /**
+     * Modifies the factory so that, rather than interrupt any current make-right thread, it will run once that
+     * thread completes.
+     * @return the updated factory
+     */
+    MakeRightDomainOperationImpl rerunAfterCurrent() {
+      willRerun = true;
+      return this;
+    }
+
     @Override
     public void execute() {
       if (!delegate.isNamespaceRunning(getNamespace())) {
         return;
       }
-      if (isShouldContinue()) {
+      if (!delegate.isLeader()) {
+        recordWhileStandby();
+      } else if (isShouldContinue()) {
         internalMakeRightDomainPresence();
       } else {
         LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, getDomainUid());
       }
     }
 
+    /**
+     * Executes the operation once no further watch events for its domain have arrived during the configured
+     * coalescing delay. An operation for a domain which is already waiting is merged into the waiting one,
+     * and restarts the delay, so that a burst of events starts a single make-right. So that a steady stream
+     * of events cannot postpone the make-right indefinitely, the delay is restarted at most
+     * {@value #MAX_COALESCING_DELAYS} times.
+     */
+    void executeCoalesced() {
+      long delay = getWatchEventCoalescingDelay();
+      if (delay <= 0) {
+        execute();
+        return;
+      }
+
+      String key = getNamespace() + "/" + getDomainUid();
+      pendingMakeRights.compute(key, (k, pending) -> {
+        MakeRightDomainOperationImpl chosen = pending == null ? this : pending.coalesce(this);
+        chosen.scheduleExecution(key, delay, pending);
+        return chosen;
+      });
+    }
+
+    private void scheduleExecution(String key, long delay, MakeRightDomainOperationImpl pending) {
+      if (pending != null && coalescedEvents > MAX_COALESCING_DELAYS) {
+        pendingExecution = pending.pendingExecution;
+      } else {
+        Optional.ofNullable(pending).map(p -> p.pendingExecution).ifPresent(future -> future.cancel(false));
+        pendingExecution = delegate.schedule(() -> executePending(key), delay, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    // Prefers the domain from a domain event over the cached domain presence used for a pod or service event,
+    // and otherwise the later operation. Any request to recheck or interrupt is kept.
+    private MakeRightDomainOperationImpl coalesce(MakeRightDomainOperationImpl later) {
+      MakeRightDomainOperationImpl chosen = later.isUsingCachedInfo() && !isUsingCachedInfo() ? this : later;
+      chosen.explicitRecheck = explicitRecheck || later.explicitRecheck;
+      chosen.willInterrupt = willInterrupt || later.willInterrupt;
+      chosen.willRerun = willRerun || later.willRerun;
+      chosen.coalescedEvents = coalescedEvents + 1;
+      return chosen;
+    }
+
+    private boolean isUsingCachedInfo() {
+      return liveInfo == getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
+    }
+
     @Override
     public void setInspectionRun() {
       inspectionRun = true;
@@ -682,15 +871,29 @@ public class DomainProcessorImpl implements DomainProcessor {
       DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
       if (cachedInfo == null || cachedInfo.getDomain() == null) {
         return true;
-      } else if (isCachedInfoNewer(liveInfo, cachedInfo)) {
+      } else if (isCachedDomainNewer(getDomain(), cachedInfo.getDomain())) {
         return false;  // we have already cached this
-      } else if (explicitRecheck || isSpecChanged(liveInfo, cachedInfo)) {
+      } else if (explicitRecheck || isSpecChanged(getDomain(), cachedInfo.getDomain())) {
         return true;
       }
       cachedInfo.setDomain(getDomain());
       return false;
     }
 
+    // A standby replica makes no changes, but keeps its cache current so that it can take over without
+    // reading all of the domain resources again.
+    private void recordWhileStandby() {
+      DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
+      if (deleting) {
+        unregisterPresenceInfo(getNamespace(), getDomainUid());
+      } else if (cachedInfo == null) {
+        registerDomainPresenceInfo(liveInfo);
+      } else if (getDomain() != null
+            && (cachedInfo.getDomain() == null || !isCachedDomainNewer(getDomain(), cachedInfo.getDomain()))) {
+        cachedInfo.setDomain(getDomain());
+      }
+    }
+
     private void internalMakeRightDomainPresence() {
       LOGGER.fine(MessageKeys.PROCESSING_DOMAIN, getDomainUid());
 
@@ -709,7 +912,8 @@ public class DomainProcessorImpl implements DomainProcessor {
             getNamespace(),
             createDomainPlanSteps(packet),
             deleting,
-            willInterrupt);
+            willInterrupt,
+            willRerun);
     }
 
     private StepAndPacket createDomainPlanSteps(Packet packet) {
@@ -742,20 +946,50 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private static boolean isSpecChanged(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
-    // TODO, RJE: now that we are switching to updating domain status using the separate
-    // status-specific endpoint, Kubernetes guarantees that changes to the main endpoint
-    // will only be for metadata and spec, so we can know that we have an important
-    // change just by looking at metadata.generation.
-    return Optional.ofNullable(liveInfo.getDomain())
-          .map(Domain::getSpec)
-          .map(spec -> !spec.equals(cachedInfo.getDomain().getSpec()))
+  private static long getWatchEventCoalescingDelay() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getWatchTuning)
+          .map(t -> t.watchEventCoalescingDelay)
+          .orElse(0L);
+  }
+
+  private void executePending(String key) {
+    Optional.ofNullable(pendingMakeRights.remove(key)).ifPresent(operation -> {
+      LOGGER.fine(MessageKeys.WATCH_EVENTS_COALESCED, operation.getDomainUid(), operation.coalescedEvents,
+            watchEventsReceived.get(), makeRightFibersStarted.get());
+      operation.execute();
+    });
+  }
+
+  long getWatchEventsReceived() {
+    return watchEventsReceived.get();
+  }
+
+  long getMakeRightFibersStarted() {
+    return makeRightFibersStarted.get();
+  }
+
+  // Because the domain status is updated through its own subresource, Kubernetes increments the generation
+  // only for changes to the spec. The spec itself is compared only if either domain lacks a generation.
+  private static boolean isSpecChanged(Domain liveDomain, @Nonnull Domain cachedDomain) {
+    if (liveDomain == null) {
+      return true;
+    }
+
+    Long liveGeneration = liveDomain.getMetadata().getGeneration();
+    Long cachedGeneration = cachedDomain.getMetadata().getGeneration();
+    if (liveGeneration != null && cachedGeneration != null) {
+      return !liveGeneration.equals(cachedGeneration);
+    }
+
+    return Optional.ofNullable(liveDomain.getSpec())
+          .map(spec -> !spec.equals(cachedDomain.getSpec()))
           .orElse(true);
   }
 
-  private static boolean isCachedInfoNewer(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
-    return liveInfo.getDomain() != null
-        && KubernetesUtils.isFirstNewer(cachedInfo.getDomain().getMetadata(), liveInfo.getDomain().getMetadata());
+  private static boolean isCachedDomainNewer(Domain liveDomain, @Nonnull Domain cachedDomain) {
+    return liveDomain != null
+        && KubernetesUtils.isFirstNewer(cachedDomain.getMetadata(), liveDomain.getMetadata());
   }
 
   private static Step readExistingServices(DomainPresenceInfo info) {
@@ -773,7 +1007,8 @@ public class DomainProcessorImpl implements DomainProcessor {
       String ns,
       Step.StepAndPacket plan,
       boolean isDeleting,
-      boolean isWillInterrupt) {
+      boolean isWillInterrupt,
+      boolean isWillRerun) {
     FiberGate gate = getMakeRightFiberGate(ns);
     CompletionCallback cc =
         new CompletionCallback() {
@@ -836,8 +1071,11 @@ public class DomainProcessorImpl implements DomainProcessor {
           }
         };
 
+    makeRightFibersStarted.incrementAndGet();
     if (isWillInterrupt) {
       gate.startFiber(domainUid, plan.step, plan.packet, cc);
+    } else if (isWillRerun) {
+      gate.startFiberOrQueueRerun(domainUid, plan.step, plan.packet, cc);
     } else {
       gate.startFiberIfNoCurrentFiber(domainUid, plan.step, plan.packet, cc);
     }
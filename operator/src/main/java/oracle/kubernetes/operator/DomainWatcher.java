@@ -3,21 +3,27 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 /**
  * This class handles Domain watching. It receives domain events and sends them into the operator
  * for processing.
  */
-public class DomainWatcher extends Watcher<Domain> {
+public class DomainWatcher extends Watcher<Domain> implements Watcher.Lister<Domain> {
   private final String ns;
 
   private DomainWatcher(
@@ -47,8 +53,31 @@ public class DomainWatcher extends Watcher<Domain> {
       WatchTuning tuning,
       WatchListener<Domain> listener,
       AtomicBoolean isStopping) {
+    return create(factory, ns, initialResourceVersion, Collections.emptyList(), tuning, listener, isStopping);
+  }
+
+  /**
+   * Create domain watcher which knows of the domains listed with its initial resource version.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param initialDomains the domains listed with the initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static DomainWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      List<Domain> initialDomains,
+      WatchTuning tuning,
+      WatchListener<Domain> listener,
+      AtomicBoolean isStopping) {
     DomainWatcher watcher =
         new DomainWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setKnownObjects(initialDomains);
     watcher.start(factory);
     return watcher;
   }
@@ -62,4 +91,27 @@ public class DomainWatcher extends Watcher<Domain> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  Lister<Domain> getLister() {
+    return this;
+  }
+
+  @Override
+  public ListPage<Domain> list(String continueToken) throws ApiException {
+    DomainList list = new CallBuilder().listDomain(ns, continueToken);
+    return new ListPage<>(list.getItems(), list.getMetadata());
+  }
+
+  @Override
+  public Domain createStub(Domain object) {
+    return new Domain()
+        .withMetadata(getIdentifyingMetadata(object.getMetadata()))
+        .withSpec(new DomainSpec().withDomainUid(object.getSpec().getDomainUid()));
+  }
+
+  @Override
+  V1ObjectMeta getMetadata(Domain object) {
+    return object.getMetadata();
+  }
 }
@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -67,4 +68,9 @@ public class EventWatcher extends Watcher<V1Event> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Event object) {
+    return object.getMetadata();
+  }
 }
@@ -88,6 +88,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     return namespace;
   }
 
+  @Override
+  V1ObjectMeta getMetadata(V1Job object) {
+    return object.getMetadata();
+  }
+
   /**
    * Creates a new JobWatcher and caches it by namespace.
    *
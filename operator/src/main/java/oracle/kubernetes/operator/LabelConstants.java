@@ -21,6 +21,7 @@ public interface LabelConstants {
   String MODEL_IN_IMAGE_MODEL_SECRETS_HASH = "weblogic.modelInImageModelSecretsHash";
   String MODEL_IN_IMAGE_DOMAINZIP_HASH = "weblogic.modelInImageDomainZipHash";
   String INTROSPECTION_STATE_LABEL = "weblogic.introspectVersion";
+  String SHARD_LEASE_LABEL = "weblogic.shardLease";
 
   static String forDomainUidSelector(String uid) {
     return String.format("%s=%s", DOMAINUID_LABEL, uid);
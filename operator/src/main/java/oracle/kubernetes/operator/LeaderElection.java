@@ -0,0 +1,200 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
+/**
+ * Chooses a single active operator replica. The replica which holds the leader Lease in the operator namespace
+ * makes changes to the domains; the others are standbys, which read and watch the same resources so that
+ * their caches are current, and take over the lease once the leader stops renewing it.
+ *
+ * <p>All times are measured on the local clock, so that the replicas need not agree on the time. A standby
+ * considers the lease expired once it has seen no change to it for the lease duration. The leader gives up
+ * leadership if it has not renewed the lease within a renew deadline shorter than the lease duration, even
+ * while a renewal is still in progress, so that it has stopped before any standby can take over.
+ */
+class LeaderElection {
+  static final String LEASE_NAME = "weblogic-operator-leader";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String operatorNamespace;
+  private final String identity;
+  private final int leaseDurationSeconds;
+  private final int renewDeadlineSeconds;
+  private final Runnable onLeadershipLost;
+  private final AtomicBoolean leader = new AtomicBoolean();
+  private volatile DateTime lastRenewal;
+  private String observedRecord;
+  private DateTime observedTime;
+  private long lastTakeoverMillis = -1;
+
+  /**
+   * Creates the leader election for one operator replica.
+   * @param operatorNamespace the namespace containing the leader lease
+   * @param identity the unique name of this replica, typically its pod name
+   * @param leaseDurationSeconds the time after its last renewal that the leader is considered to have failed
+   * @param onLeadershipLost the action to take when this replica stops being the leader
+   */
+  LeaderElection(String operatorNamespace, String identity, int leaseDurationSeconds, Runnable onLeadershipLost) {
+    this.operatorNamespace = operatorNamespace;
+    this.identity = identity;
+    this.leaseDurationSeconds = leaseDurationSeconds;
+    this.renewDeadlineSeconds = Math.max(1, leaseDurationSeconds * 2 / 3);
+    this.onLeadershipLost = onLeadershipLost;
+  }
+
+  /**
+   * Returns true if this replica currently holds the leader lease, and has renewed it within the renew deadline.
+   * @return true if this replica may make changes to the domains
+   */
+  boolean isLeader() {
+    return leader.get() && !isRenewDeadlinePassed();
+  }
+
+  /**
+   * Returns the time between this replica last seeing the lease change and it taking over.
+   * @return a duration in milliseconds, or -1 if this replica has not taken over from another
+   */
+  long getLastTakeoverMillis() {
+    return lastTakeoverMillis;
+  }
+
+  /**
+   * Gives up leadership if the lease has not been renewed within the renew deadline. This does not contact
+   * the API server, and so may be called frequently, independently of renewals which may be blocked.
+   */
+  void checkRenewDeadline() {
+    if (isRenewDeadlinePassed()) {
+      loseLeadership();
+    }
+  }
+
+  /**
+   * Renews the leader lease if this replica holds it, or acquires it if it is unheld or has expired.
+   * @return true if this replica has just become the leader
+   */
+  synchronized boolean acquireOrRenew() {
+    checkRenewDeadline();
+    DateTime attempted = SystemClock.now();
+    try {
+      if (tryAcquireOrRenew(readLease(), attempted)) {
+        lastRenewal = attempted;
+        return !leader.getAndSet(true);
+      }
+      loseLeadership();
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.LEADER_LEASE_RENEWAL_FAILED, identity, e.getMessage());
+      checkRenewDeadline();
+    }
+    return false;
+  }
+
+  private boolean isRenewDeadlinePassed() {
+    DateTime renewal = lastRenewal;
+    return renewal == null || !renewal.plusSeconds(renewDeadlineSeconds).isAfter(SystemClock.now());
+  }
+
+  private void loseLeadership() {
+    if (leader.compareAndSet(true, false)) {
+      LOGGER.warning(MessageKeys.LEADERSHIP_LOST, identity);
+      onLeadershipLost.run();
+    }
+  }
+
+  private V1Lease readLease() throws ApiException {
+    try {
+      return new CallBuilder().readLease(LEASE_NAME, operatorNamespace);
+    } catch (ApiException e) {
+      if (e.getCode() == HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private boolean tryAcquireOrRenew(V1Lease lease, DateTime now) throws ApiException {
+    if (lease == null) {
+      new CallBuilder().createLease(operatorNamespace, createLease(now));
+      recordAcquired();
+    } else if (identity.equals(getHolder(lease))) {
+      lease.getSpec().renewTime(now);
+      new CallBuilder().replaceLease(LEASE_NAME, operatorNamespace, lease);
+    } else if (isExpired(lease, now)) {
+      String previousHolder = getHolder(lease);
+      lease.setSpec(createLeaseSpec(now, getTransitions(lease) + 1));
+      new CallBuilder().replaceLease(LEASE_NAME, operatorNamespace, lease);
+      recordTakeover(previousHolder, now);
+    } else {
+      return false;
+    }
+
+    return true;
+  }
+
+  private void recordAcquired() {
+    LOGGER.info(MessageKeys.LEADERSHIP_ACQUIRED, identity);
+  }
+
+  private void recordTakeover(String previousHolder, DateTime now) {
+    lastTakeoverMillis = Optional.ofNullable(observedTime).map(t -> now.getMillis() - t.getMillis()).orElse(0L);
+    LOGGER.info(MessageKeys.LEADERSHIP_TAKEN_OVER, identity, previousHolder, lastTakeoverMillis);
+  }
+
+  private String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(null);
+  }
+
+  private int getTransitions(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getLeaseTransitions).orElse(0);
+  }
+
+  // The lease's renew time is written by another replica, whose clock may differ from this one. It is therefore
+  // used only to recognize that the lease has changed; the lease expires when this replica has seen no change
+  // for the lease duration.
+  private boolean isExpired(V1Lease lease, DateTime now) {
+    V1LeaseSpec spec = lease.getSpec();
+    if (spec == null || spec.getHolderIdentity() == null) {
+      return true;
+    }
+
+    String record = spec.getHolderIdentity() + "/" + spec.getRenewTime() + "/" + spec.getLeaseTransitions();
+    if (!record.equals(observedRecord)) {
+      observedRecord = record;
+      observedTime = now;
+    }
+    int duration = Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(leaseDurationSeconds);
+    return !observedTime.plusSeconds(duration).isAfter(now);
+  }
+
+  private V1Lease createLease(DateTime now) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta().name(LEASE_NAME).namespace(operatorNamespace))
+          .spec(createLeaseSpec(now, 0));
+  }
+
+  private V1LeaseSpec createLeaseSpec(DateTime now, int transitions) {
+    return new V1LeaseSpec()
+          .holderIdentity(identity)
+          .leaseDurationSeconds(leaseDurationSeconds)
+          .acquireTime(now)
+          .renewTime(now)
+          .leaseTransitions(transitions);
+  }
+}
@@ -19,9 +19,11 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -84,8 +86,8 @@ public class Main {
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
-  private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+  private static final ScheduledThreadPoolExecutor threadPool = Engine.createThreadPool("operator");
+  private static final ScheduledExecutorService wrappedExecutorService = Engine.wrap(container, threadPool);
   private static final TuningParameters tuningAndConfig;
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
@@ -96,6 +98,8 @@ public class Main {
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
   private static NamespaceWatcher namespaceWatcher = null;
+  private static NamespaceShards shards = null;
+  private static LeaderElection leaderElection = null;
   private static Function<String,String> getHelmVariable = System::getenv;
   private static final String operatorNamespace = computeOperatorNamespace();
   private static final AtomicReference<DateTime> lastFullRecheck =
@@ -105,8 +109,12 @@ public class Main {
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
   private static final Semaphore shutdownSignal = new Semaphore(0);
-  private static final Engine engine = new Engine(wrappedExecutorService);
+  private static final long TIMER_TICK_MILLIS = 100;
+  private static final Engine engine =
+      new Engine(wrappedExecutorService, "operator", TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS);
   private static String principal;
+  private static ScheduledFuture<?> domainRecheck;
+  private static int domainRecheckInterval;
   private static KubernetesVersion version = null;
   private static SemanticVersion productVersion = null;
 
@@ -121,6 +129,9 @@ public class Main {
 
       TuningParameters.initializeInstance(wrappedExecutorService, "/operator/config");
       tuningAndConfig = TuningParameters.getInstance();
+      resizeThreadPool();
+      tuningAndConfig.addChangeListener(Main::resizeThreadPool);
+      tuningAndConfig.addChangeListener(ClientPool::applyRequestLimits);
     } catch (IOException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       throw new RuntimeException(e);
@@ -190,6 +201,16 @@ public class Main {
     JobWatcher.defineFactory(
         threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
+    if (isSharded()) {
+      shards = new NamespaceShards(operatorNamespace, getReplicaIdentity(), getLeaseDurationSeconds());
+      shards.renewMembership(getConfiguredTargetNamespaces());
+    } else if (isLeaderElectionEnabled()) {
+      leaderElection = new LeaderElection(
+          operatorNamespace, getReplicaIdentity(), getLeaseDurationSeconds(), processor::cancelDomainActivity);
+      leaderElection.acquireOrRenew();
+      engine.getExecutor().scheduleWithFixedDelay(leaderElection::checkRenewDeadline, 1, 1, TimeUnit.SECONDS);
+    }
+
     Collection<String> targetNamespaces = getTargetNamespaces();
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
@@ -203,9 +224,7 @@ public class Main {
       if (!isDedicated()) {
         strategy = Step.chain(strategy, readExistingNamespaces(targetNamespaces));
       } else {
-        strategy = Step.chain(strategy, CrdHelper.createDomainCrdStep(
-                version, productVersion,
-                new StartNamespacesStep(targetNamespaces, false)));
+        strategy = Step.chain(strategy, createDomainCrdStep(new StartNamespacesStep(targetNamespaces, false)));
       }
       runSteps(
           strategy,
@@ -220,12 +239,9 @@ public class Main {
       // start the REST server
       startRestServer(principal, namespaceStoppingMap.keySet());
 
-      // start periodic retry and recheck
-      int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
-      engine
-          .getExecutor()
-          .scheduleWithFixedDelay(
-              recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
+      // start periodic retry and recheck, rescheduling it if the tuning parameters change its interval
+      scheduleDomainRecheck();
+      tuningAndConfig.addChangeListener(Main::scheduleDomainRecheck);
 
       // Wait until all other initialization is done before marking ready and
       // starting liveness thread
@@ -238,7 +254,7 @@ public class Main {
     }
   }
 
-  private static void stopNamespace(String ns, boolean inTargetNamespaceList) {
+  private static void stopNamespace(String ns, boolean inTargetNamespaceList, boolean reassigned) {
     AtomicBoolean isNamespaceStopping = isNamespaceStopping(ns);
 
     // Remove if namespace not in targetNamespace list
@@ -246,9 +262,12 @@ public class Main {
       namespaceStoppingMap.remove(ns);
     }
 
-    // stop all Domains for namespace being stopped (not active)
+    // stop all Domains for namespace being stopped (not active); leave those of a namespace
+    // now assigned to another operator replica running, but stop managing them here
     if (isNamespaceStopping.get()) {
       processor.stopNamespace(ns);
+    } else if (reassigned) {
+      processor.releaseNamespace(ns);
     }
 
     // set flag to indicate namespace is stopping.
@@ -265,12 +284,19 @@ public class Main {
   }
 
   private static void stopNamespaces(Collection<String> targetNamespaces,
-                                     Collection<String> namespacesToStop) {
+                                     Collection<String> namespacesToStop,
+                                     Collection<String> configuredNamespaces) {
     for (String ns : namespacesToStop) {
-      stopNamespace(ns, targetNamespaces.contains(ns));
+      stopNamespace(ns, targetNamespaces.contains(ns), isReassigned(ns, targetNamespaces, configuredNamespaces));
     }
   }
 
+  // A namespace is reassigned if it is still a target of the operator, but is now managed by another replica
+  private static boolean isReassigned(
+        String ns, Collection<String> targetNamespaces, Collection<String> configuredNamespaces) {
+    return shards != null && configuredNamespaces.contains(ns) && !targetNamespaces.contains(ns);
+  }
+
   private static AtomicBoolean isNamespaceStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
   }
@@ -296,8 +322,33 @@ public class Main {
     return new NullCompletionCallback(completionAction);
   }
 
+  private static synchronized void scheduleDomainRecheck() {
+    int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
+    if (recheckInterval != domainRecheckInterval) {
+      domainRecheckInterval = recheckInterval;
+      Optional.ofNullable(domainRecheck).ifPresent(future -> future.cancel(false));
+      domainRecheck = engine.getExecutor()
+          .scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
+    }
+  }
+
+  // The number of threads on which fibers run is set by the "engineThreadCount" tuning parameter.
+  private static void resizeThreadPool() {
+    try {
+      threadPool.setCorePoolSize(Math.max(1, Optional.ofNullable(tuningAndConfig.get("engineThreadCount"))
+            .map(Integer::parseInt).orElse(Engine.DEFAULT_THREAD_COUNT)));
+    } catch (NumberFormatException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
   static Runnable recheckDomains() {
     return () -> {
+      Collection<String> configuredNamespaces = getConfiguredTargetNamespaces();
+      Optional.ofNullable(shards).ifPresent(s -> s.renewMembership(configuredNamespaces));
+      if (leaderElection != null && leaderElection.acquireOrRenew()) {
+        runSteps(createLeaderStartupSteps(), processor::makeRightCachedDomains);
+      }
       Collection<String> targetNamespaces = getTargetNamespaces();
 
       // Check for namespaces that are removed from the operator's
@@ -305,11 +356,11 @@ public class Main {
       Set<String> namespacesToStop = new TreeSet<>(namespaceStoppingMap.keySet());
       for (String ns : targetNamespaces) {
         // the active namespaces are the ones that will not be stopped
-        if (delegate.isNamespaceRunning(ns)) {
+        if (!isNamespaceStopping(ns).get()) {
           namespacesToStop.remove(ns);
         }
       }
-      stopNamespaces(targetNamespaces, namespacesToStop);
+      stopNamespaces(targetNamespaces, namespacesToStop, configuredNamespaces);
 
       Collection<String> namespacesToStart = targetNamespaces;
       int recheckInterval = tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds;
@@ -338,15 +389,36 @@ public class Main {
 
   static Step readExistingResources(String operatorNamespace, String ns) {
     return Step.chain(
+        createScriptConfigMapStepIfLeader(operatorNamespace, ns),
         new ReadExistingResourcesBeforeStep(),
-        ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
         createConfigMapStep(ns),
         readExistingPods(ns),
         readExistingEvents(ns),
         readExistingServices(ns),
+        ConfigMapHelper.readIntrospectorConfigMaps(ns),
         readExistingDomains(ns));
   }
 
+  // A standby replica must not write shared resources; the leader has created them, or will when it takes over.
+  private static Step createScriptConfigMapStepIfLeader(String operatorNamespace, String ns) {
+    return isLeader() ? ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns) : null;
+  }
+
+  // A replica which has just become the leader creates the shared resources which it skipped as a standby.
+  private static Step createLeaderStartupSteps() {
+    Collection<String> namespaces = new ArrayList<>(namespaceStatuses.keySet());
+    return CrdHelper.createDomainCrdStep(
+        version, productVersion, namespaces.isEmpty() ? null : new CreateScriptConfigMapsStep(namespaces));
+  }
+
+  private static Step createDomainCrdStep(Step next) {
+    return isLeader() ? CrdHelper.createDomainCrdStep(version, productVersion, next) : next;
+  }
+
+  private static boolean isLeader() {
+    return leaderElection == null || leaderElection.isLeader();
+  }
+
   private static Step readExistingDomains(String ns) {
     LOGGER.fine(MessageKeys.LISTING_DOMAINS);
     return callBuilderFactory.create().listDomainAsync(ns, new DomainListStep(ns));
@@ -408,10 +480,18 @@ public class Main {
   }
 
   private static Collection<String> getTargetNamespaces() {
-    return isDedicated()
-        ? Collections.singleton(operatorNamespace)
-        : getTargetNamespaces(Optional.ofNullable(getHelmVariable.apply("OPERATOR_TARGET_NAMESPACES"))
-            .orElse(tuningAndConfig.get("targetNamespaces")), operatorNamespace);
+    Collection<String> targetNamespaces = getConfiguredTargetNamespaces();
+    return Optional.ofNullable(shards).map(s -> s.selectOwned(targetNamespaces)).orElse(targetNamespaces);
+  }
+
+  // The target namespaces of the operator as a whole, before they are divided among sharded replicas
+  private static Collection<String> getConfiguredTargetNamespaces() {
+    if (isDedicated()) {
+      return Collections.singleton(operatorNamespace);
+    }
+
+    return getTargetNamespaces(Optional.ofNullable(getHelmVariable.apply("OPERATOR_TARGET_NAMESPACES"))
+        .orElse(tuningAndConfig.get("targetNamespaces")), operatorNamespace);
   }
 
   public static boolean isDedicated() {
@@ -419,9 +499,41 @@ public class Main {
         .orElse(tuningAndConfig.get("dedicated")));
   }
 
+  /**
+   * Returns true if the target namespaces are divided among several operator replicas. A dedicated operator
+   * manages only its own namespace, and so is never sharded.
+   *
+   * @return true if this replica manages only its share of the target namespaces
+   */
+  public static boolean isSharded() {
+    return !isDedicated()
+        && "true".equalsIgnoreCase(Optional.ofNullable(getHelmVariable.apply("OPERATOR_SHARDED"))
+            .orElse(tuningAndConfig.get("sharded")));
+  }
+
+  /**
+   * Returns true if only one of several operator replicas should make changes, while the others stand by
+   * with current caches. Ignored if the operator is sharded, since each shard then has its own namespaces.
+   *
+   * @return true if this replica must hold the leader lease before making changes
+   */
+  public static boolean isLeaderElectionEnabled() {
+    return "true".equalsIgnoreCase(Optional.ofNullable(getHelmVariable.apply("OPERATOR_LEADER_ELECTION"))
+        .orElse(tuningAndConfig.get("leaderElection")));
+  }
+
+  private static String getReplicaIdentity() {
+    return Optional.ofNullable(getHelmVariable.apply("HOSTNAME")).orElse(UUID.randomUUID().toString());
+  }
+
+  // A replica is considered to have left once it has missed three namespace rechecks.
+  private static int getLeaseDurationSeconds() {
+    return 3 * Math.max(1, tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds);
+  }
+
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
-    RestServer.create(new RestConfigImpl(principal, targetNamespaces));
+    RestServer.create(new RestConfigImpl(principal, targetNamespaces, engine));
     RestServer.getInstance().start(container);
   }
 
@@ -472,31 +584,37 @@ public class Main {
         isNamespaceStopping(ns));
   }
 
-  private static PodWatcher createPodWatcher(String ns, String initialResourceVersion) {
+  private static PodWatcher createPodWatcher(
+        String ns, String initialResourceVersion, List<V1Pod> initialPods) {
     return PodWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
+        initialPods,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchPodWatch,
         isNamespaceStopping(ns));
   }
 
-  private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
+  private static ServiceWatcher createServiceWatcher(
+        String ns, String initialResourceVersion, List<V1Service> initialServices) {
     return ServiceWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
+        initialServices,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchServiceWatch,
         isNamespaceStopping(ns));
   }
 
-  private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
+  private static DomainWatcher createDomainWatcher(
+        String ns, String initialResourceVersion, List<Domain> initialDomains) {
     return DomainWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
+        initialDomains,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchDomainWatch,
         isNamespaceStopping(ns));
@@ -565,8 +683,7 @@ public class Main {
 
   private static Step getScriptCreationSteps(String ns) {
     try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
-      return Step.chain(
-          ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns), createConfigMapStep(ns));
+      return Step.chain(createScriptConfigMapStepIfLeader(operatorNamespace, ns), createConfigMapStep(ns));
     }
   }
 
@@ -629,6 +746,17 @@ public class Main {
     }
   }
 
+  private static class CreateScriptConfigMapsStep extends ForEachNamespaceStep {
+    CreateScriptConfigMapsStep(Collection<String> targetNamespaces) {
+      super(targetNamespaces);
+    }
+
+    @Override
+    protected Step action(String ns) {
+      return ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns);
+    }
+  }
+
   private static class StartNamespaceBeforeStep extends Step {
     private final String ns;
     private final boolean isFullRecheck;
@@ -769,8 +897,8 @@ public class Main {
           });
 
       if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
+        DomainList result = callResponse.getResult();
+        domainWatchers.put(ns, createDomainWatcher(ns, getResourceVersion(result), getItems(result)));
       }
       return doNext(packet);
     }
@@ -778,6 +906,10 @@ public class Main {
     String getResourceVersion(DomainList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private List<Domain> getItems(DomainList result) {
+      return result != null ? result.getItems() : Collections.emptyList();
+    }
   }
 
   private static class ServiceListStep extends ResponseStep<V1ServiceList> {
@@ -813,7 +945,7 @@ public class Main {
       }
 
       if (!serviceWatchers.containsKey(ns)) {
-        serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
+        serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result), getItems(result)));
       }
       return doNext(packet);
     }
@@ -821,6 +953,10 @@ public class Main {
     private String getInitialResourceVersion(V1ServiceList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private List<V1Service> getItems(V1ServiceList result) {
+      return result != null ? result.getItems() : Collections.emptyList();
+    }
   }
 
   private static class EventListStep extends ResponseStep<V1EventList> {
@@ -887,7 +1023,7 @@ public class Main {
       }
 
       if (!podWatchers.containsKey(ns)) {
-        podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
+        podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result), getItems(result)));
       }
       return doNext(packet);
     }
@@ -895,6 +1031,10 @@ public class Main {
     private String getInitialResourceVersion(V1PodList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private List<V1Pod> getItems(V1PodList result) {
+      return result != null ? result.getItems() : Collections.emptyList();
+    }
   }
 
   private static class NamespaceListStep extends ResponseStep<V1NamespaceList> {
@@ -937,17 +1077,13 @@ public class Main {
         strategy = Step.chain(createDomainCrdAndStartNamespaces(namespacesToStart),
           new CreateNamespaceWatcherStep(intialResourceVersion));
       } else {
-        strategy = CrdHelper.createDomainCrdStep(
-          version, productVersion,
-            new CreateNamespaceWatcherStep(intialResourceVersion));
+        strategy = createDomainCrdStep(new CreateNamespaceWatcherStep(intialResourceVersion));
       }
       return doNext(strategy, packet);
     }
     
     private Step createDomainCrdAndStartNamespaces(Collection<String> namespacesToStart) {
-      return CrdHelper.createDomainCrdStep(
-          version, productVersion,
-            new StartNamespacesStep(namespacesToStart, false));
+      return createDomainCrdStep(new StartNamespacesStep(namespacesToStart, false));
     }
 
     private String getInitialResourceVersion(V1NamespaceList result) {
@@ -1012,6 +1148,11 @@ public class Main {
       return operatorNamespace;
     }
 
+    @Override
+    public boolean isLeader() {
+      return Main.isLeader();
+    }
+
     @Override
     public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
       return podWatchers.get(namespace);
@@ -1025,10 +1166,8 @@ public class Main {
 
     @Override
     public boolean isNamespaceRunning(String namespace) {
-      // make sure the map entry is initialized the value to "false" if absent
-      isNamespaceStopping(namespace);
-
-      return !namespaceStoppingMap.get(namespace).get();
+      // a namespace which this operator does not manage has no entry, and must not acquire one here
+      return Optional.ofNullable(namespaceStoppingMap.get(namespace)).map(stopping -> !stopping.get()).orElse(false);
     }
 
     @Override
@@ -1056,5 +1195,10 @@ public class Main {
         Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return Main.engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return Main.engine.getExecutor().schedule(command, delay, unit);
+    }
   }
 }
@@ -0,0 +1,334 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+import static oracle.kubernetes.operator.LabelConstants.SHARD_LEASE_LABEL;
+
+/**
+ * Divides the target namespaces among the replicas of a sharded operator. Each replica renews a member Lease of its
+ * own in the operator namespace; the replicas whose member leases have not expired are the live members, and each
+ * namespace is assigned to the member which follows its hash on a consistent-hash ring. When a member joins or
+ * leaves, only the namespaces on the affected arcs of the ring change hands.
+ *
+ * <p>Because each replica computes the ring from its own view of the members, two replicas may briefly disagree
+ * about a namespace. Ownership is therefore made exclusive by a second Lease for each namespace, naming the replica
+ * which manages it. A replica manages a namespace only while it holds that lease. A replica which is no longer
+ * assigned a namespace stops managing it at once, and deletes its lease at the following renewal, once the operator
+ * has stopped the namespace; the newly assigned replica acquires the lease only after it has been deleted, or once
+ * its holder is no longer a live member.
+ *
+ * <p>As with leader election, all times are measured on the local clock, so that the replicas need not agree on the
+ * time. A member lease expires once this replica has seen no change to it for the lease duration.
+ */
+class NamespaceShards {
+  static final String LEASE_NAME_PREFIX = "weblogic-operator-shard-";
+  static final String NAMESPACE_LEASE_NAME_PREFIX = "weblogic-operator-namespace-";
+  static final String MEMBER_LEASE = "member";
+  static final String NAMESPACE_LEASE = "namespace";
+  static final int VIRTUAL_NODES_PER_MEMBER = 64;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String operatorNamespace;
+  private final String identity;
+  private final int leaseDurationSeconds;
+  private final Map<String, ObservedRecord> observedRecords = new HashMap<>();
+  private volatile Set<String> members = Collections.emptySet();
+  private volatile TreeMap<Long, String> ring = new TreeMap<>();
+  private volatile Set<String> ownedNamespaces = Collections.emptySet();
+  private Set<String> releasingNamespaces = new TreeSet<>();
+  private volatile DateTime lastRenewal;
+
+  /**
+   * Creates the shard membership for one operator replica.
+   * @param operatorNamespace the namespace in which the replicas hold their leases
+   * @param identity the unique name of this replica, typically its pod name
+   * @param leaseDurationSeconds the time after its last renewal that a replica is considered to have left
+   */
+  NamespaceShards(String operatorNamespace, String identity, int leaseDurationSeconds) {
+    this.operatorNamespace = operatorNamespace;
+    this.identity = identity;
+    this.leaseDurationSeconds = leaseDurationSeconds;
+  }
+
+  /**
+   * Renews this replica's member lease, recomputes the live members from the leases of all replicas, and then
+   * updates the namespace leases: it deletes those of the namespaces which it stopped managing at the previous
+   * renewal, gives up those no longer assigned to it, and acquires those newly assigned to it which are free. If
+   * the leases cannot be read or written, the previous namespaces are retained only until this replica's own lease
+   * would expire, after which the other replicas may take them over. Until the first renewal succeeds, this replica
+   * owns no namespaces.
+   * @param targetNamespaces all target namespaces
+   */
+  synchronized void renewMembership(Collection<String> targetNamespaces) {
+    DateTime attempted = SystemClock.now();
+    try {
+      V1LeaseList leases = new CallBuilder().withLabelSelectors(SHARD_LEASE_LABEL).listLease(operatorNamespace);
+      renewLease(findLease(leases, MEMBER_LEASE, getLeaseName()));
+      lastRenewal = attempted;
+      updateMembers(leases, attempted);
+      updateNamespaces(leases, targetNamespaces);
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.SHARD_LEASE_RENEWAL_FAILED, identity, e.getMessage());
+      if (!isOwnLeaseCurrent()) {
+        clearMembers();
+      }
+    }
+  }
+
+  /**
+   * Returns true if the specified namespace is managed by this replica. No namespace is, once the time since
+   * this replica last renewed its lease, as measured locally from before the renewal request was sent, reaches
+   * the lease duration.
+   * @param namespace the name of a target namespace
+   * @return true if this replica should manage the namespace
+   */
+  boolean owns(String namespace) {
+    return isOwnLeaseCurrent() && ownedNamespaces.contains(namespace);
+  }
+
+  private boolean isOwnLeaseCurrent() {
+    DateTime renewal = lastRenewal;
+    return renewal != null && renewal.plusSeconds(leaseDurationSeconds).isAfter(SystemClock.now());
+  }
+
+  private void clearMembers() {
+    if (!members.isEmpty()) {
+      members = Collections.emptySet();
+      ring = new TreeMap<>();
+      LOGGER.warning(MessageKeys.SHARD_LEASE_EXPIRED, identity);
+    }
+  }
+
+  /**
+   * Returns the target namespaces managed by this replica.
+   * @param namespaces all target namespaces
+   * @return the subset of namespaces which this replica should manage
+   */
+  Collection<String> selectOwned(Collection<String> namespaces) {
+    return namespaces.stream().filter(this::owns).collect(Collectors.toList());
+  }
+
+  Set<String> getMembers() {
+    return members;
+  }
+
+  private String getOwner(String namespace) {
+    TreeMap<Long, String> currentRing = ring;
+    if (currentRing.isEmpty()) {
+      return null;
+    }
+    Map.Entry<Long, String> entry = currentRing.ceilingEntry(hash(namespace));
+    return (entry != null ? entry : currentRing.firstEntry()).getValue();
+  }
+
+  private boolean isAssigned(String namespace, Collection<String> targetNamespaces) {
+    return targetNamespaces.contains(namespace) && identity.equals(getOwner(namespace));
+  }
+
+  private V1Lease findLease(V1LeaseList leases, String type, String name) {
+    return leases.getItems().stream()
+          .filter(lease -> isLeaseOfType(lease, type))
+          .filter(lease -> name.equals(lease.getMetadata().getName()))
+          .findFirst()
+          .orElse(null);
+  }
+
+  private boolean isLeaseOfType(V1Lease lease, String type) {
+    return Optional.ofNullable(lease.getMetadata().getLabels()).map(l -> l.get(SHARD_LEASE_LABEL))
+          .map(type::equals).orElse(false);
+  }
+
+  private String getLeaseName() {
+    return LEASE_NAME_PREFIX + identity;
+  }
+
+  private String getNamespaceLeaseName(String namespace) {
+    return NAMESPACE_LEASE_NAME_PREFIX + namespace;
+  }
+
+  private void renewLease(V1Lease existing) throws ApiException {
+    if (existing == null) {
+      new CallBuilder().createLease(operatorNamespace, createLease(getLeaseName(), MEMBER_LEASE));
+    } else {
+      existing.setSpec(createLeaseSpec());
+      new CallBuilder().replaceLease(getLeaseName(), operatorNamespace, existing);
+    }
+  }
+
+  private V1Lease createLease(String name, String type) {
+    return new V1Lease()
+          .metadata(new V1ObjectMeta().name(name).namespace(operatorNamespace).putLabelsItem(SHARD_LEASE_LABEL, type))
+          .spec(createLeaseSpec());
+  }
+
+  private V1LeaseSpec createLeaseSpec() {
+    return new V1LeaseSpec()
+          .holderIdentity(identity)
+          .leaseDurationSeconds(leaseDurationSeconds)
+          .renewTime(SystemClock.now());
+  }
+
+  private void updateMembers(V1LeaseList leases, DateTime now) {
+    Set<String> liveMembers = new TreeSet<>();
+    liveMembers.add(identity);
+    Set<String> listedNames = new TreeSet<>();
+    for (V1Lease lease : leases.getItems()) {
+      if (isLeaseOfType(lease, MEMBER_LEASE)) {
+        listedNames.add(lease.getMetadata().getName());
+        if (isLive(lease, now)) {
+          liveMembers.add(lease.getSpec().getHolderIdentity());
+        }
+      }
+    }
+    observedRecords.keySet().retainAll(listedNames);
+
+    if (!liveMembers.equals(members)) {
+      members = Collections.unmodifiableSet(liveMembers);
+      ring = createRing(liveMembers);
+      LOGGER.info(MessageKeys.SHARD_MEMBERSHIP_CHANGED, identity, String.join(", ", liveMembers));
+    }
+  }
+
+  // The lease's renew time is written by another replica, whose clock may differ from this one. It is therefore
+  // used only to recognize that the lease has changed; the lease expires when this replica has seen no change
+  // for the lease duration.
+  private boolean isLive(V1Lease lease, DateTime now) {
+    V1LeaseSpec spec = lease.getSpec();
+    if (spec == null || spec.getHolderIdentity() == null) {
+      return false;
+    }
+
+    String record = spec.getHolderIdentity() + "/" + spec.getRenewTime();
+    ObservedRecord observed = observedRecords.get(lease.getMetadata().getName());
+    if (observed == null || !observed.record.equals(record)) {
+      observed = new ObservedRecord(record, now);
+      observedRecords.put(lease.getMetadata().getName(), observed);
+    }
+    int duration = Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(leaseDurationSeconds);
+    return observed.time.plusSeconds(duration).isAfter(now);
+  }
+
+  private void updateNamespaces(V1LeaseList leases, Collection<String> targetNamespaces) {
+    Set<String> owned = new TreeSet<>();
+    Set<String> releasing = new TreeSet<>();
+    for (V1Lease lease : leases.getItems()) {
+      if (isLeaseOfType(lease, NAMESPACE_LEASE) && identity.equals(getHolder(lease))) {
+        String namespace = lease.getMetadata().getName().substring(NAMESPACE_LEASE_NAME_PREFIX.length());
+        if (releasingNamespaces.contains(namespace)) {
+          deleteNamespaceLease(namespace, lease, releasing);
+        } else if (isAssigned(namespace, targetNamespaces)) {
+          owned.add(namespace);
+        } else {
+          releasing.add(namespace);
+        }
+      }
+    }
+
+    for (String namespace : targetNamespaces) {
+      if (isAssigned(namespace, targetNamespaces) && !owned.contains(namespace) && !releasing.contains(namespace)
+            && acquireNamespaceLease(namespace, findLease(leases, NAMESPACE_LEASE, getNamespaceLeaseName(namespace)))) {
+        owned.add(namespace);
+      }
+    }
+
+    ownedNamespaces = Collections.unmodifiableSet(owned);
+    releasingNamespaces = releasing;
+  }
+
+  private String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(null);
+  }
+
+  // The operator stopped managing the namespace after the previous renewal, so its lease may now be given up.
+  // If that fails, it is retried at the next renewal.
+  private void deleteNamespaceLease(String namespace, V1Lease lease, Set<String> releasing) {
+    try {
+      new CallBuilder().deleteLease(lease.getMetadata().getName(), operatorNamespace, new V1DeleteOptions());
+      LOGGER.info(MessageKeys.SHARD_NAMESPACE_RELEASED, identity, namespace);
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.SHARD_NAMESPACE_LEASE_FAILED, identity, namespace, e.getMessage());
+      releasing.add(namespace);
+    }
+  }
+
+  // A namespace lease may be acquired if there is none, or if its holder is no longer a live member. If another
+  // replica acquires it first, the create or replace fails with a conflict, and this replica does not manage it.
+  private boolean acquireNamespaceLease(String namespace, V1Lease existing) {
+    try {
+      if (existing == null) {
+        new CallBuilder()
+              .createLease(operatorNamespace, createLease(getNamespaceLeaseName(namespace), NAMESPACE_LEASE));
+      } else if (!members.contains(getHolder(existing))) {
+        existing.setSpec(createLeaseSpec());
+        new CallBuilder().replaceLease(getNamespaceLeaseName(namespace), operatorNamespace, existing);
+      } else {
+        return false;
+      }
+      LOGGER.info(MessageKeys.SHARD_NAMESPACE_ACQUIRED, identity, namespace);
+      return true;
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.SHARD_NAMESPACE_LEASE_FAILED, identity, namespace, e.getMessage());
+      return false;
+    }
+  }
+
+  private static TreeMap<Long, String> createRing(Collection<String> members) {
+    TreeMap<Long, String> ring = new TreeMap<>();
+    for (String member : members) {
+      for (int i = 0; i < VIRTUAL_NODES_PER_MEMBER; i++) {
+        ring.put(hash(member + "#" + i), member);
+      }
+    }
+    return ring;
+  }
+
+  // A 64-bit FNV-1a hash, with a final mix so that similar names spread evenly around the ring.
+  // Every replica must compute the same value for the same key, so this must not depend on String.hashCode().
+  static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static class ObservedRecord {
+    private final String record;
+    private final DateTime time;
+
+    ObservedRecord(String record, DateTime time) {
+      this.record = record;
+      this.time = time;
+    }
+  }
+}
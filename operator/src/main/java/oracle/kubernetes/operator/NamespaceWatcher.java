@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -59,4 +60,9 @@ public class NamespaceWatcher extends Watcher<V1Namespace> {
   public String getNamespace() {
     return null;
   }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Namespace object) {
+    return object.getMetadata();
+  }
 }
@@ -23,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
@@ -42,7 +43,8 @@ import static oracle.kubernetes.operator.helpers.LegalNames.DOMAIN_INTROSPECTOR_
 /**
  * Watches for changes to pods.
  */
-public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>, PodAwaiterStepFactory {
+public class PodWatcher extends Watcher<V1Pod>
+    implements WatchListener<V1Pod>, PodAwaiterStepFactory, Watcher.Lister<V1Pod> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private final String namespace;
   private final WatchListener<V1Pod> listener;
@@ -90,7 +92,30 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       WatchTuning tuning,
       WatchListener<V1Pod> listener,
       AtomicBoolean isStopping) {
+    return create(factory, ns, initialResourceVersion, Collections.emptyList(), tuning, listener, isStopping);
+  }
+
+  /**
+   * Create pod watcher which knows of the pods listed with its initial resource version.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param initialPods the pods listed with the initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static PodWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      List<V1Pod> initialPods,
+      WatchTuning tuning,
+      WatchListener<V1Pod> listener,
+      AtomicBoolean isStopping) {
     PodWatcher watcher = new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setKnownObjects(initialPods);
     watcher.start(factory);
     return watcher;
   }
@@ -143,6 +168,29 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return namespace;
   }
 
+  @Override
+  Lister<V1Pod> getLister() {
+    return this;
+  }
+
+  @Override
+  public ListPage<V1Pod> list(String continueToken) throws ApiException {
+    V1PodList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listPod(namespace, continueToken);
+    return new ListPage<>(list.getItems(), list.getMetadata());
+  }
+
+  @Override
+  public V1Pod createStub(V1Pod object) {
+    return new V1Pod().metadata(getIdentifyingMetadata(object.getMetadata()));
+  }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Pod object) {
+    return object.getMetadata();
+  }
+
   /**
    * Receive response.
    * @param item item
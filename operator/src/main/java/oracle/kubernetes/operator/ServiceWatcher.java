@@ -3,21 +3,26 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 /**
  * This class handles Service watching. It receives service change events and sends them into the
  * operator for processing.
  */
-public class ServiceWatcher extends Watcher<V1Service> {
+public class ServiceWatcher extends Watcher<V1Service> implements Watcher.Lister<V1Service> {
   private final String ns;
 
   private ServiceWatcher(
@@ -47,8 +52,31 @@ public class ServiceWatcher extends Watcher<V1Service> {
       WatchTuning tuning,
       WatchListener<V1Service> listener,
       AtomicBoolean isStopping) {
+    return create(factory, ns, initialResourceVersion, Collections.emptyList(), tuning, listener, isStopping);
+  }
+
+  /**
+   * Create service watcher which knows of the services listed with its initial resource version.
+   * @param factory thread factory
+   * @param ns namespace
+   * @param initialResourceVersion initial resource version
+   * @param initialServices the services listed with the initial resource version
+   * @param tuning tuning parameters
+   * @param listener listener
+   * @param isStopping stopping flag
+   * @return watcher
+   */
+  public static ServiceWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      List<V1Service> initialServices,
+      WatchTuning tuning,
+      WatchListener<V1Service> listener,
+      AtomicBoolean isStopping) {
     ServiceWatcher watcher =
         new ServiceWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setKnownObjects(initialServices);
     watcher.start(factory);
     return watcher;
   }
@@ -64,4 +92,27 @@ public class ServiceWatcher extends Watcher<V1Service> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  Lister<V1Service> getLister() {
+    return this;
+  }
+
+  @Override
+  public ListPage<V1Service> list(String continueToken) throws ApiException {
+    V1ServiceList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listService(ns, continueToken);
+    return new ListPage<>(list.getItems(), list.getMetadata());
+  }
+
+  @Override
+  public V1Service createStub(V1Service object) {
+    return new V1Service().metadata(getIdentifyingMetadata(object.getMetadata()));
+  }
+
+  @Override
+  V1ObjectMeta getMetadata(V1Service object) {
+    return object.getMetadata();
+  }
 }
@@ -30,6 +30,13 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  /**
+   * Registers a callback to be run whenever the tuning parameters change, so that a component
+   * may reconfigure itself without an operator restart.
+   * @param listener the callback
+   */
+  public void addChangeListener(Runnable listener);
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -176,6 +183,7 @@ public interface TuningParameters extends Map<String, String> {
     public final int watchLifetime;
     public final int watchMinimumDelay;
     public final int watchBackstopRecheckDelay;
+    public final long watchEventCoalescingDelay;
 
     /**
      * Create watch tuning.
@@ -184,9 +192,23 @@ public interface TuningParameters extends Map<String, String> {
      * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
      */
     public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay) {
+      this(watchLifetime, watchMinimumDelay, watchBackstopRecheckDelay, 0);
+    }
+
+    /**
+     * Create watch tuning.
+     * @param watchLifetime Watch lifetime
+     * @param watchMinimumDelay Minimum delay before accepting new events to prevent hot loops
+     * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
+     * @param watchEventCoalescingDelay Milliseconds to wait for further watch events for a domain before
+     *                                  starting its make-right; zero to start it at once
+     */
+    public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay,
+                       long watchEventCoalescingDelay) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
       this.watchBackstopRecheckDelay = watchBackstopRecheckDelay;
+      this.watchEventCoalescingDelay = watchEventCoalescingDelay;
     }
 
     @Override
@@ -195,13 +217,15 @@ public interface TuningParameters extends Map<String, String> {
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
           .append("watchBackstopRecheckDelay", watchBackstopRecheckDelay)
+          .append("watchEventCoalescingDelay", watchEventCoalescingDelay)
           .toString();
     }
 
     @Override
     public int hashCode() {
       return new HashCodeBuilder()
-              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay).toHashCode();
+              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay)
+              .append(watchEventCoalescingDelay).toHashCode();
     }
 
     @Override
@@ -217,6 +241,7 @@ public interface TuningParameters extends Map<String, String> {
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
           .append(watchBackstopRecheckDelay, wt.watchBackstopRecheckDelay)
+          .append(watchEventCoalescingDelay, wt.watchEventCoalescingDelay)
           .isEquals();
     }
   }
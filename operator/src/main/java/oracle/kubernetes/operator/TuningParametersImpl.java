@@ -4,9 +4,10 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.helpers.ConfigMapConsumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -17,11 +18,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static TuningParameters INSTANCE = null;
 
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
-  private MainTuning main = null;
-  private CallBuilderTuning callBuilder = null;
-  private WatchTuning watch = null;
-  private PodTuning pod = null;
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(null, null, null, null));
+  private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -32,7 +30,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   static synchronized TuningParameters initializeInstance(
       ScheduledExecutorService executorService, String mountPoint) throws IOException {
     if (INSTANCE == null) {
-      INSTANCE = new TuningParametersImpl(executorService, mountPoint);
+      TuningParametersImpl instance = new TuningParametersImpl(executorService, mountPoint);
+      INSTANCE = instance;
+      instance.startWatching();
     }
     return INSTANCE;
   }
@@ -41,8 +41,21 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     return INSTANCE;
   }
 
+  // Listeners are notified of every change to the mounted values, including those not in a tuning snapshot,
+  // so that a listener may read a named parameter with get().
   private static void updateTuningParameters() {
-    ((TuningParametersImpl) INSTANCE).update();
+    TuningParametersImpl instance = (TuningParametersImpl) INSTANCE;
+    instance.update();
+    LOGGER.info(MessageKeys.TUNING_PARAMETERS);
+    instance.changeListeners.forEach(TuningParametersImpl::notifyListener);
+  }
+
+  private static void notifyListener(Runnable listener) {
+    try {
+      listener.run();
+    } catch (RuntimeException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
   }
 
   private void update() {
@@ -67,7 +80,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
             (int) readTuningParameter("watchMinimumDelay", 5),
-            (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5));
+            (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5),
+            readTuningParameter("watchEventCoalescingDelayMillis", 250));
 
     PodTuning pod =
         new PodTuning(
@@ -79,60 +93,46 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
             readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
 
-    lock.writeLock().lock();
-    try {
-      if (!main.equals(this.main)
-          || !callBuilder.equals(this.callBuilder)
-          || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
-        LOGGER.info(MessageKeys.TUNING_PARAMETERS);
-      }
-      this.main = main;
-      this.callBuilder = callBuilder;
-      this.watch = watch;
-      this.pod = pod;
-    } finally {
-      lock.writeLock().unlock();
-    }
+    snapshot.set(new Snapshot(main, callBuilder, watch, pod));
+  }
+
+  @Override
+  public void addChangeListener(Runnable listener) {
+    changeListeners.add(listener);
   }
 
   @Override
   public MainTuning getMainTuning() {
-    lock.readLock().lock();
-    try {
-      return main;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.get().main;
   }
 
   @Override
   public CallBuilderTuning getCallBuilderTuning() {
-    lock.readLock().lock();
-    try {
-      return callBuilder;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.get().callBuilder;
   }
 
   @Override
   public WatchTuning getWatchTuning() {
-    lock.readLock().lock();
-    try {
-      return watch;
-    } finally {
-      lock.readLock().unlock();
-    }
+    return snapshot.get().watch;
   }
 
   @Override
   public PodTuning getPodTuning() {
-    lock.readLock().lock();
-    try {
-      return pod;
-    } finally {
-      lock.readLock().unlock();
+    return snapshot.get().pod;
+  }
+
+  // The tuning values read at one time, so that a reader always sees a consistent set.
+  private static class Snapshot {
+    private final MainTuning main;
+    private final CallBuilderTuning callBuilder;
+    private final WatchTuning watch;
+    private final PodTuning pod;
+
+    Snapshot(MainTuning main, CallBuilderTuning callBuilder, WatchTuning watch, PodTuning pod) {
+      this.main = main;
+      this.callBuilder = callBuilder;
+      this.watch = watch;
+      this.pod = pod;
     }
   }
 }
@@ -3,20 +3,26 @@
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
-import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
-import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -36,6 +42,7 @@ abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED_RESOURCE_VERSION = "0";
+  private static final String BOOKMARK_TYPE = "BOOKMARK";
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -44,6 +51,7 @@ abstract class Watcher<T> {
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private final Map<String, T> knownObjects = new ConcurrentHashMap<>();
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -76,6 +84,18 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
+  /**
+   * Records the objects which existed when this watcher's initial resource version was obtained. Only used by
+   * watchers which can resynchronize by listing; must be called before the watcher is started.
+   *
+   * @param objects the objects listed with the initial resource version
+   */
+  void setKnownObjects(Collection<T> objects) {
+    if (getLister() != null) {
+      objects.forEach(this::recordKnownObject);
+    }
+  }
+
   /** Waits for this watcher's thread to exit. For unit testing only. */
   void waitForExit() {
     try {
@@ -128,9 +148,15 @@ abstract class Watcher<T> {
     return stopping.get();
   }
 
+  // The tuning parameters are read again for each watch, so that changes to them apply without a restart.
+  private WatchTuning getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getWatchTuning).orElse(tuning);
+  }
+
   private void watchForEvents() {
+    WatchTuning currentTuning = getTuning();
     long now = System.currentTimeMillis();
-    long delay = (tuning.watchMinimumDelay * 1000) - (now - lastInitialize);
+    long delay = (currentTuning.watchMinimumDelay * 1000) - (now - lastInitialize);
     if (lastInitialize != 0 && delay > 0) {
       try {
         Thread.sleep(delay);
@@ -146,7 +172,7 @@ abstract class Watcher<T> {
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion)
-                .withTimeoutSeconds(tuning.watchLifetime))) {
+                .withTimeoutSeconds(currentTuning.watchLifetime))) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
 
@@ -160,6 +186,8 @@ abstract class Watcher<T> {
         try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
           if (isError(item)) {
             handleErrorResponse(item);
+          } else if (isBookmark(item)) {
+            trackResourceVersion(item.object);
           } else {
             handleRegularUpdate(item);
           }
@@ -199,16 +227,43 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase(BOOKMARK_TYPE);
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
+    trackResourceVersion(item.object);
+    dispatch(item);
+  }
+
+  private void dispatch(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
-    trackResourceVersion(item.type, item.object);
+    if (getLister() != null) {
+      trackKnownObject(item);
+    }
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  private void trackKnownObject(Watch.Response<T> item) {
+    if (item.type.equalsIgnoreCase("DELETED")) {
+      Optional.ofNullable(getName(item.object)).ifPresent(knownObjects::remove);
+    } else {
+      recordKnownObject(item.object);
+    }
+  }
+
+  private void recordKnownObject(T object) {
+    Optional.ofNullable(getName(object)).ifPresent(name -> knownObjects.put(name, getLister().createStub(object)));
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
     V1Status status = item.status;
+    if (isResourceVersionExpired(status) && resynchronize()) {
+      return;
+    }
+
     if (status == null) {
       // The kubernetes client parsing logic can mistakenly parse a status as a type
       // with similar fields, such as V1ConfigMap. In this case, the actual status is
@@ -233,49 +288,166 @@ abstract class Watcher<T> {
     return IGNORED_RESOURCE_VERSION;
   }
 
+  private boolean isResourceVersionExpired(V1Status status) {
+    return status != null && status.getCode() == HTTP_GONE;
+  }
+
   /**
-   * Track resourceVersion and keep highest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * Lists the watched objects in order to resume watching after the resource version has expired. Rather than
+   * replaying the state of every object, only the differences from the objects already seen are sent to the
+   * listener, as synthetic events, and watching resumes from the version of the list.
    *
-   * @param type the type of operation
-   * @param object the object that is returned
+   * @return true if the watcher has resynchronized; false if it cannot list or the list failed
    */
-  private void trackResourceVersion(String type, Object object) {
-    updateResourceVersion(getNewResourceVersion(type, object));
-  }
-
-  private String getNewResourceVersion(String type, Object object) {
-    String newResourceVersion = getResourceVersionFromMetadata(object);
-    if (type.equalsIgnoreCase("DELETED")) {
-      BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
-      if (biResourceVersion.compareTo(BigInteger.ZERO) > 0) {
-        return biResourceVersion.add(BigInteger.ONE).toString();
-      }
+  private boolean resynchronize() {
+    Lister<T> lister = getLister();
+    if (lister == null) {
+      return false;
     }
-    return newResourceVersion;
-  }
 
-  private String getResourceVersionFromMetadata(Object object) {
     try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED_RESOURCE_VERSION);
-    } catch (Exception e) {
+      Map<String, T> listedObjects = new HashMap<>();
+      ListPage<T> page = lister.list(null);
+      page.addTo(listedObjects, this::getName);
+      while (page.hasMore()) {
+        page = lister.list(page.continueToken);
+        page.addTo(listedObjects, this::getName);
+      }
+      dispatchDifferences(listedObjects);
+      resourceVersion = Optional.ofNullable(page.resourceVersion).orElse(IGNORED_RESOURCE_VERSION);
+      return true;
+    } catch (ApiException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED_RESOURCE_VERSION;
+      return false;
     }
   }
 
-  private void updateResourceVersion(String newResourceVersion) {
-    if (isNullOrEmpty(resourceVersion) || resourceVersion.equals(IGNORED_RESOURCE_VERSION)) {
-      resourceVersion = newResourceVersion;
-    } else {
-      BigInteger biNewResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
-      BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(resourceVersion);
-      if (biNewResourceVersion.compareTo(biResourceVersion) > 0) {
-        resourceVersion = newResourceVersion;
+  private void dispatchDifferences(Map<String, T> listedObjects) {
+    for (Map.Entry<String, T> entry : listedObjects.entrySet()) {
+      T knownObject = knownObjects.get(entry.getKey());
+      if (knownObject == null) {
+        dispatch(new Watch.Response<>("ADDED", entry.getValue()));
+      } else if (!Objects.equals(getResourceVersion(knownObject), getResourceVersion(entry.getValue()))) {
+        dispatch(new Watch.Response<>("MODIFIED", entry.getValue()));
       }
     }
+
+    for (String name : new ArrayList<>(knownObjects.keySet())) {
+      if (!listedObjects.containsKey(name)) {
+        dispatch(new Watch.Response<>("DELETED", knownObjects.get(name)));
+      }
+    }
+  }
+
+  private String getName(T object) {
+    return Optional.ofNullable(object).map(this::getMetadata).map(V1ObjectMeta::getName).orElse(null);
+  }
+
+  private String getResourceVersion(T object) {
+    return Optional.ofNullable(object).map(this::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  /**
+   * Returns the means to list the watched objects a page at a time, if this watcher resynchronizes by listing when
+   * its resource version expires. Such watchers keep a stub of the last version of each object they have seen.
+   * Watchers which return null instead resume from the resource version reported with the expiration.
+   *
+   * @return a lister, or null
+   */
+  Lister<T> getLister() {
+    return null;
+  }
+
+  /**
+   * Returns a copy of the metadata which identifies an object: its name, namespace, uid, labels, creation time
+   * and resource version.
+   *
+   * @param metadata the metadata of a watched object
+   * @return the identifying metadata, or null if there is none
+   */
+  static V1ObjectMeta getIdentifyingMetadata(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata)
+        .map(m -> new V1ObjectMeta()
+            .name(m.getName())
+            .namespace(m.getNamespace())
+            .uid(m.getUid())
+            .labels(m.getLabels())
+            .creationTimestamp(m.getCreationTimestamp())
+            .resourceVersion(m.getResourceVersion()))
+        .orElse(null);
+  }
+
+  /**
+   * Returns the metadata of a watched object.
+   *
+   * @param object an object returned by the watch
+   * @return the object's metadata, or null if it has none
+   */
+  abstract V1ObjectMeta getMetadata(T object);
+
+  /**
+   * Track the resourceVersion of the latest event, from which the next watch iteration will start. Resource versions
+   * are opaque: the API server delivers the events of a watch in order, so the most recent one is always the place
+   * to resume, even for a deleted object.
+   *
+   * @param object the object that is returned
+   */
+  private void trackResourceVersion(T object) {
+    Optional.ofNullable(object)
+        .map(this::getMetadata)
+        .map(V1ObjectMeta::getResourceVersion)
+        .filter(version -> !isNullOrEmpty(version))
+        .ifPresent(version -> resourceVersion = version);
+  }
+
+  /**
+   * The means by which a watcher resynchronizes after its resource version expires.
+   *
+   * @param <T> the type of the watched objects
+   */
+  interface Lister<T> {
+
+    /**
+     * Lists a page of the watched objects.
+     *
+     * @param continueToken the token returned with the previous page, or null for the first page
+     * @return the page
+     * @throws ApiException if the list fails
+     */
+    ListPage<T> list(String continueToken) throws ApiException;
+
+    /**
+     * Returns a copy of a watched object which retains only what is needed to detect that it has changed, and to
+     * report its deletion to the listener.
+     *
+     * @param object an object returned by the watch or the lister
+     * @return a stub of the object
+     */
+    T createStub(T object);
+  }
+
+  /**
+   * One page of a list of watched objects.
+   *
+   * @param <T> the type of the objects
+   */
+  static class ListPage<T> {
+    private final List<T> items;
+    private final String continueToken;
+    private final String resourceVersion;
+
+    ListPage(List<T> items, V1ListMeta metadata) {
+      this.items = Optional.ofNullable(items).orElse(new ArrayList<>());
+      this.continueToken = Optional.ofNullable(metadata).map(V1ListMeta::getContinue).orElse(null);
+      this.resourceVersion = Optional.ofNullable(metadata).map(V1ListMeta::getResourceVersion).orElse(null);
+    }
+
+    private boolean hasMore() {
+      return !isNullOrEmpty(continueToken);
+    }
+
+    private void addTo(Map<String, T> objects, Function<T, String> getName) {
+      items.forEach(item -> Optional.ofNullable(getName.apply(item)).ifPresent(name -> objects.put(name, item)));
+    }
   }
 }
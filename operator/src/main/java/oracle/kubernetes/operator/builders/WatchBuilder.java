@@ -3,8 +3,7 @@
 
 package oracle.kubernetes.operator.builders;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
@@ -18,9 +17,10 @@ import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
-import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
@@ -33,7 +33,8 @@ public class WatchBuilder {
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
-  private static final Boolean ALLOW_BOOKMARKS = false;
+  /** Bookmarks keep the resource version current, so that restarting a watch is less likely to find it expired. */
+  private static final Boolean ALLOW_BOOKMARKS = true;
 
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
@@ -42,25 +43,6 @@ public class WatchBuilder {
   public WatchBuilder() {
   }
 
-  private static Type getType(Class<?> responseBodyType) {
-    return new ParameterizedType() {
-      @Override
-      public Type[] getActualTypeArguments() {
-        return new Type[] {responseBodyType};
-      }
-
-      @Override
-      public Type getRawType() {
-        return Watch.Response.class;
-      }
-
-      @Override
-      public Type getOwnerType() {
-        return Watch.class;
-      }
-    };
-  }
-
   /**
    * Creates a web hook object to track service calls.
    *
@@ -210,15 +192,37 @@ public class WatchBuilder {
         throws ApiException {
       ApiClient client = pool.take();
       try {
+        ResponseBody body = openWatchStream(function.apply(client, callParams));
         return new WatchImpl<>(
             pool,
             client,
-            Watch.createWatch(
-                client, function.apply(client, callParams), getType(responseBodyType)));
+            new WatchEventReader<>(body.charStream(), client.getJSON().getGson(), responseBodyType));
       } catch (UncheckedApiException e) {
         throw e.getCause();
       }
     }
+
+    private ResponseBody openWatchStream(Call call) throws ApiException {
+      try {
+        Response response = call.execute();
+        if (!response.isSuccessful()) {
+          throw toApiException(response);
+        }
+        return response.body();
+      } catch (IOException e) {
+        throw new ApiException(e);
+      }
+    }
+
+    private ApiException toApiException(Response response) throws IOException {
+      try (ResponseBody body = response.body()) {
+        return new ApiException(
+            response.message(),
+            response.code(),
+            response.headers().toMultimap(),
+            body == null ? null : body.string());
+      }
+    }
   }
 
   private class ListNamespacedServiceCall implements BiFunction<ApiClient, CallParams, Call> {
@@ -381,6 +385,7 @@ public class WatchBuilder {
             .listNamespacedDomainCall(
                 namespace,
                 callParams.getPretty(),
+                ALLOW_BOOKMARKS,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
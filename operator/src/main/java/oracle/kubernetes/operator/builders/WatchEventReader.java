@@ -0,0 +1,105 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+
+/**
+ * Decodes the events of a watch directly from its response stream. The Kubernetes client reads each event into a
+ * string and then parses that string twice: once to find out whether it is an error and again to build the event.
+ * This reader instead makes a single pass over the stream. As the API server sends the event type before the
+ * object, the object can be decoded straight into its model class, or into a status for an error event; an
+ * object which arrives before its type is first read into a tree.
+ *
+ * @param <T> the type of the watched objects
+ */
+class WatchEventReader<T> implements Closeable {
+  private static final String TYPE_FIELD = "type";
+  private static final String OBJECT_FIELD = "object";
+  private static final String ERROR_TYPE = "ERROR";
+
+  private final JsonReader reader;
+  private final TypeAdapter<T> objectAdapter;
+  private final TypeAdapter<V1Status> statusAdapter;
+  private final TypeAdapter<JsonElement> treeAdapter;
+
+  @SuppressWarnings("unchecked")
+  WatchEventReader(Reader in, Gson gson, Class<?> objectType) {
+    reader = new JsonReader(in);
+    reader.setLenient(true);  // a watch stream is a sequence of top-level objects
+    objectAdapter = (TypeAdapter<T>) gson.getAdapter(objectType);
+    statusAdapter = gson.getAdapter(V1Status.class);
+    treeAdapter = gson.getAdapter(JsonElement.class);
+  }
+
+  /**
+   * Returns true if another event is available, waiting for the server to send it if necessary.
+   * @return true if the stream has not ended
+   * @throws IOException if unable to read from the stream
+   */
+  boolean hasNext() throws IOException {
+    try {
+      return reader.peek() != JsonToken.END_DOCUMENT;
+    } catch (EOFException e) {
+      return false;  // the reader reports a stream with no events at all this way
+    }
+  }
+
+  /**
+   * Reads the next event from the stream.
+   * @return a watch response
+   * @throws IOException if unable to read from the stream, or if it is not well-formed
+   */
+  Watch.Response<T> next() throws IOException {
+    String type = null;
+    T object = null;
+    V1Status status = null;
+    JsonElement untypedObject = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (TYPE_FIELD.equals(name)) {
+        type = reader.nextString();
+      } else if (!OBJECT_FIELD.equals(name)) {
+        reader.skipValue();
+      } else if (type == null) {
+        untypedObject = treeAdapter.read(reader);
+      } else if (isError(type)) {
+        status = statusAdapter.read(reader);
+      } else {
+        object = objectAdapter.read(reader);
+      }
+    }
+    reader.endObject();
+
+    if (untypedObject != null && isError(type)) {
+      status = statusAdapter.fromJsonTree(untypedObject);
+    } else if (untypedObject != null) {
+      object = objectAdapter.fromJsonTree(untypedObject);
+    }
+
+    return isError(type) ? new Watch.Response<>(type, status) : new Watch.Response<>(type, object);
+  }
+
+  private boolean isError(String type) {
+    return ERROR_TYPE.equalsIgnoreCase(type);
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
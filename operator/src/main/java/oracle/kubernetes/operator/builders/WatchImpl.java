@@ -12,22 +12,25 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.Pool;
 
 /**
- * A pass-through implementation of the Kubernetes Watch class which implements a facade interface.
+ * An implementation of the watch facade interface which decodes the events of a watch as they arrive.
  */
 public class WatchImpl<T> implements WatchI<T> {
+  private static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
+  private static final String NEXT_EXCEPTION_MESSAGE = "IO Exception during next method.";
+
   private final Pool<ApiClient> pool;
   private ApiClient client;
-  private final Watch<T> impl;
+  private final WatchEventReader<T> reader;
 
-  WatchImpl(Pool<ApiClient> pool, ApiClient client, Watch<T> impl) {
+  WatchImpl(Pool<ApiClient> pool, ApiClient client, WatchEventReader<T> reader) {
     this.pool = pool;
     this.client = client;
-    this.impl = impl;
+    this.reader = reader;
   }
 
   @Override
   public void close() throws IOException {
-    impl.close();
+    reader.close();
     if (client != null) {
       pool.recycle(client);
     }
@@ -36,19 +39,26 @@ public class WatchImpl<T> implements WatchI<T> {
   @Override
   @Nonnull
   public Iterator<Watch.Response<T>> iterator() {
-    return impl.iterator();
+    return this;
   }
 
   @Override
   public boolean hasNext() {
-    return impl.hasNext();
+    try {
+      return reader.hasNext();
+    } catch (IOException e) {
+      throw new RuntimeException(HAS_NEXT_EXCEPTION_MESSAGE, e);
+    }
   }
 
   @Override
   public Watch.Response<T> next() {
     try {
-      return impl.next();
-    } catch (Exception e) {
+      return reader.next();
+    } catch (IOException e) {
+      client = null;
+      throw new RuntimeException(NEXT_EXCEPTION_MESSAGE, e);
+    } catch (RuntimeException e) {
       client = null;
       throw e;
     }
@@ -24,6 +24,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -135,6 +136,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
     final ApiClient client;
+    private volatile Cancellable timeoutCheck;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -152,6 +154,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // The Kubernetes request succeeded. Recycle the client, add the response to the packet, and proceed.
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
@@ -167,6 +170,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
         if (statusCode != CallBuilder.NOT_FOUND && LOGGER.isFineEnabled()) {
           logFailure(ae, statusCode, responseHeaders);
         }
@@ -205,6 +209,19 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       }
     }
 
+    // A response may arrive before the timeout check is recorded, in which case the check is cancelled here.
+    private void setTimeoutCheck(Cancellable timeoutCheck) {
+      this.timeoutCheck = timeoutCheck;
+      if (didResume.get()) {
+        timeoutCheck.cancel();
+      }
+    }
+
+    // Once a response has arrived, the timeout check has nothing to do, and need not wait until it expires.
+    private void cancelTimeoutCheck() {
+      Optional.ofNullable(timeoutCheck).ifPresent(Cancellable::cancel);
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -251,7 +268,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         (fiber) -> {
           try {
             CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(requestParams, fiber, cc));
+            processing.setTimeoutCheck(
+                scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(requestParams, fiber, cc)));
           } catch (ApiException t) {
             logAsyncFailure(t, t.getResponseBody());
             processing.resumeAfterThrowable(fiber);
@@ -263,8 +281,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
-  private void scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
-    fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
+  private Cancellable scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
+    return fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
   }
 
   private void logAsyncRequest() {
@@ -3,6 +3,12 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewSpec;
@@ -17,6 +23,22 @@ public class AuthenticationProxy {
 
   private static final AuthorizationProxy authorizationProxy = new AuthorizationProxy();
 
+  private static final long TOKEN_REVIEW_TIME_TO_LIVE_MILLIS = 60_000;
+  private static final int TOKEN_REVIEW_CACHE_SIZE = 1000;
+
+  // Successful token reviews, keyed by a hash of the token so that the credential itself is not retained
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static ExpiringCache<String, V1TokenReviewStatus> tokenReviewCache
+      = new ExpiringCache<>(TOKEN_REVIEW_TIME_TO_LIVE_MILLIS, TOKEN_REVIEW_CACHE_SIZE);
+
+  /**
+   * Returns the cache of successful token reviews, primarily for reporting its hit rate.
+   * @return the token review cache
+   */
+  public static ExpiringCache<String, V1TokenReviewStatus> getTokenReviewCache() {
+    return tokenReviewCache;
+  }
+
   /**
    * Check if the specified access token can be authenticated.
    *
@@ -29,6 +51,14 @@ public class AuthenticationProxy {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
+    String tokenHash = hash(token);
+    V1TokenReviewStatus cachedStatus = tokenReviewCache.get(tokenHash);
+    if (cachedStatus != null) {
+      LOGGER.fine("Using cached TokenReview status", tokenReviewCache);
+      LOGGER.exiting(cachedStatus);
+      return cachedStatus;
+    }
+
     V1TokenReview result = null;
     try {
       boolean allowed =
@@ -51,10 +81,30 @@ public class AuthenticationProxy {
     }
     LOGGER.fine("Returned TokenReview", result);
     V1TokenReviewStatus status = result != null ? result.getStatus() : null;
+    if (isSuccessful(status)) {
+      tokenReviewCache.put(tokenHash, status);
+    }
     LOGGER.exiting(status);
     return status;
   }
 
+  private boolean isSuccessful(V1TokenReviewStatus status) {
+    return status != null
+        && status.getError() == null
+        && Boolean.TRUE.equals(status.getAuthenticated())
+        && status.getUser() != null;
+  }
+
+  private String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] bytes = Optional.ofNullable(token).orElse("").getBytes(StandardCharsets.UTF_8);
+      return Base64.getEncoder().encodeToString(digest.digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   private V1TokenReview prepareTokenReview(String token) {
     return new V1TokenReview().spec(new V1TokenReviewSpec().token(token));
   }
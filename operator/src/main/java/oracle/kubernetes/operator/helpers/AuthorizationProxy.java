@@ -3,7 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -15,14 +18,38 @@ import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 
 /** Delegate authorization decisions to Kubernetes ABAC and/or RBAC. */
 public class AuthorizationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // The packet key under which the decision of a step created by createCheckStep is recorded
+  public static final String ACCESS_ALLOWED = "accessAllowed";
+
+  private static final long ACCESS_REVIEW_TIME_TO_LIVE_MILLIS = 60_000;
+  private static final int ACCESS_REVIEW_CACHE_SIZE = 1000;
+
+  // Allowed SubjectAccessReview decisions, keyed by the user, groups and resource attributes which were reviewed.
+  // Denials are not cached, so that a permission granted after a request was refused applies to the next request.
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static ExpiringCache<List<Object>, Boolean> accessReviewCache
+      = new ExpiringCache<>(ACCESS_REVIEW_TIME_TO_LIVE_MILLIS, ACCESS_REVIEW_CACHE_SIZE);
+
+  /**
+   * Returns the cache of subject access review decisions, primarily for reporting its hit rate.
+   * @return the access review cache
+   */
+  public static ExpiringCache<List<Object>, Boolean> getAccessReviewCache() {
+    return accessReviewCache;
+  }
+
   /**
    * Check if the specified principal is allowed to perform the specified operation on the specified
    * resource in the specified scope. Call this version of the method when you know that the
@@ -70,6 +97,14 @@ public class AuthorizationProxy {
       Scope scope,
       String namespaceName) {
     LOGGER.entering();
+    List<Object> cacheKey = createCacheKey(principal, groups, operation, resource, resourceName, scope, namespaceName);
+    Boolean cachedResult = accessReviewCache.get(cacheKey);
+    if (cachedResult != null) {
+      LOGGER.fine("Using cached SubjectAccessReview decision", accessReviewCache);
+      LOGGER.exiting(cachedResult);
+      return cachedResult;
+    }
+
     V1SubjectAccessReview subjectAccessReview =
         prepareSubjectAccessReview(
             principal, groups, operation, resource, resourceName, scope, namespaceName);
@@ -81,11 +116,13 @@ public class AuthorizationProxy {
       return Boolean.FALSE;
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
-    Boolean result = subjectAccessReviewStatus.getAllowed();
+    boolean result = Boolean.TRUE.equals(subjectAccessReviewStatus.getAllowed());
+    recordDecision(cacheKey, result);
     LOGGER.exiting(result);
     return result;
   }
 
+
   /**
    * Check access.
    *
@@ -113,6 +150,65 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Creates a step which checks, without blocking the thread, whether the specified principal is allowed to perform
+   * the specified operation. The decision is recorded in the packet under {@link #ACCESS_ALLOWED}, and is cached
+   * as for {@link #check(String, List, Operation, Resource, String, Scope, String)}.
+   *
+   * @param principal The user, group or service account.
+   * @param groups The groups that principal is a member of.
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param resourceName The name of the resource instance on which the operation is to be
+   *     authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @param next the step to run once the decision is recorded
+   * @return a new step
+   */
+  public Step createCheckStep(
+      String principal,
+      final List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName,
+      Step next) {
+    return new CheckAccessStep(
+        createCacheKey(principal, groups, operation, resource, resourceName, scope, namespaceName),
+        prepareSubjectAccessReview(principal, groups, operation, resource, resourceName, scope, namespaceName),
+        next);
+  }
+
+  /**
+   * Returns the decision recorded by a step created by {@link #createCheckStep}.
+   *
+   * @param packet the packet in which the decision was recorded
+   * @return true if the operation is allowed, or false if not.
+   */
+  public static boolean isAllowed(Packet packet) {
+    return Boolean.TRUE.equals(packet.get(ACCESS_ALLOWED));
+  }
+
+  private List<Object> createCacheKey(
+      String principal,
+      List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
+    return Arrays.asList(principal, groups == null ? null : new ArrayList<>(groups),
+        operation, resource, resourceName, scope, namespaceName);
+  }
+
+  private static void recordDecision(List<Object> cacheKey, boolean allowed) {
+    if (allowed) {
+      accessReviewCache.put(cacheKey, Boolean.TRUE);
+    }
+  }
+
   private Boolean createSelfSubjectAccessReview(V1SelfSubjectAccessReview subjectAccessReview) {
     try {
       subjectAccessReview = new CallBuilder().createSelfSubjectAccessReview(subjectAccessReview);
@@ -235,6 +331,57 @@ public class AuthorizationProxy {
     }
   }
 
+  private static class CheckAccessStep extends Step {
+    private final List<Object> cacheKey;
+    private final V1SubjectAccessReview subjectAccessReview;
+
+    CheckAccessStep(List<Object> cacheKey, V1SubjectAccessReview subjectAccessReview, Step next) {
+      super(next);
+      this.cacheKey = cacheKey;
+      this.subjectAccessReview = subjectAccessReview;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Boolean cachedResult = accessReviewCache.get(cacheKey);
+      if (cachedResult != null) {
+        LOGGER.fine("Using cached SubjectAccessReview decision", accessReviewCache);
+        packet.put(ACCESS_ALLOWED, cachedResult);
+        return doNext(packet);
+      }
+
+      return doNext(new CallBuilder().createSubjectAccessReviewAsync(subjectAccessReview,
+          new SubjectAccessReviewResponseStep(cacheKey, getNext())), packet);
+    }
+  }
+
+  private static class SubjectAccessReviewResponseStep extends ResponseStep<V1SubjectAccessReview> {
+    private final List<Object> cacheKey;
+
+    SubjectAccessReviewResponseStep(List<Object> cacheKey, Step next) {
+      super(next);
+      this.cacheKey = cacheKey;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1SubjectAccessReview> callResponse) {
+      boolean result = Optional.ofNullable(callResponse.getResult())
+          .map(V1SubjectAccessReview::getStatus)
+          .map(V1SubjectAccessReviewStatus::getAllowed)
+          .orElse(Boolean.FALSE);
+      recordDecision(cacheKey, result);
+      packet.put(ACCESS_ALLOWED, result);
+      return doNext(packet);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<V1SubjectAccessReview> callResponse) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, callResponse.getE());
+      packet.put(ACCESS_ALLOWED, Boolean.FALSE);
+      return doNext(packet);
+    }
+  }
+
   public enum Operation {
     get,
     list,
@@ -3,9 +3,11 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.lang.reflect.Type;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import com.google.gson.JsonObject;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
@@ -15,6 +17,7 @@ import io.kubernetes.client.openapi.apis.ApiextensionsV1beta1Api;
 import io.kubernetes.client.openapi.apis.AuthenticationV1Api;
 import io.kubernetes.client.openapi.apis.AuthorizationV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoordinationV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -23,6 +26,8 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -40,7 +45,10 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.kubernetes.client.util.ProxyContentTypeRequestBody;
 import okhttp3.Call;
+import okhttp3.Request;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.calls.AsyncRequestStep;
@@ -79,11 +87,15 @@ public class CallBuilder {
 
   private static SynchronousCallDispatcher DISPATCHER = DEFAULT_DISPATCHER;
   private static final AsyncRequestStepFactory DEFAULT_STEP_FACTORY = AsyncRequestStep::new;
+  private static final String METADATA_ONLY_LIST =
+      "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
   private static AsyncRequestStepFactory STEP_FACTORY = DEFAULT_STEP_FACTORY;
   private final ClientPool helper;
   private final Boolean allowWatchBookmarks = false;
   private final String dryRun = null;
   private final String pretty = "false";
+  private final String fieldManager = KubernetesConstants.OPERATOR_FIELD_MANAGER;
+  private final Boolean forceApply = Boolean.TRUE;
   private final CallFactory<Domain> replaceDomain =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -182,6 +194,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> applyService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  toApplyPatch(usage, "Service", requestParams.body),
+                  callback));
   private final CallFactory<V1PersistentVolume> createPersistentvolume =
       ((requestParams, client, cont, callback) ->
           wrap(
@@ -251,6 +272,9 @@ public class CallBuilder {
   private final CallFactory<V1SecretList> listSecrets =
       (requestParams, usage, cont, callback) ->
           wrap(listSecretsAsync(usage, requestParams.namespace, cont, callback));
+  private final CallFactory<V1SecretList> listSecretMetadata =
+      (requestParams, usage, cont, callback) ->
+          wrap(listSecretMetadataAsync(usage, requestParams.namespace, cont, callback));
   private final CallFactory<V1ServiceList> listService =
       (requestParams, usage, cont, callback) ->
           wrap(listServiceAsync(usage, requestParams.namespace, cont, callback));
@@ -357,12 +381,13 @@ public class CallBuilder {
                       propagationPolicy,
                       (V1DeleteOptions) requestParams.body,
                       callback));
-  private final SynchronousCallFactory<DomainList> listDomainCall =
+  private final SynchronousCallFactory<V1LeaseList> listLeaseCall =
       (client, requestParams) ->
-          new WeblogicApi(client)
-              .listNamespacedDomain(
+          new CoordinationV1Api(client)
+              .listNamespacedLease(
                   requestParams.namespace,
                   pretty,
+                  allowWatchBookmarks,
                   null,
                   fieldSelector,
                   labelSelector,
@@ -370,6 +395,31 @@ public class CallBuilder {
                   resourceVersion,
                   timeoutSeconds,
                   watch);
+  private final SynchronousCallFactory<V1Lease> readLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .readNamespacedLease(requestParams.name, requestParams.namespace, pretty, exact, export);
+  private final SynchronousCallFactory<V1Lease> createLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .createNamespacedLease(requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1Lease> replaceLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .replaceNamespacedLease(
+                  requestParams.name, requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1Status> deleteLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .deleteNamespacedLease(
+                  requestParams.name,
+                  requestParams.namespace,
+                  pretty,
+                  dryRun,
+                  gracePeriodSeconds,
+                  orphanDependents,
+                  propagationPolicy,
+                  (V1DeleteOptions) requestParams.body);
   private final SynchronousCallFactory<Domain> replaceDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
@@ -573,8 +623,34 @@ public class CallBuilder {
    * @throws ApiException API exception
    */
   public DomainList listDomain(String namespace) throws ApiException {
+    return listDomain(namespace, null);
+  }
+
+  /**
+   * List domains, a page at a time.
+   *
+   * @param namespace Namespace
+   * @param cont the continue token returned with the previous page, or null to list the first page
+   * @return Domain list
+   * @throws ApiException API exception
+   */
+  public DomainList listDomain(String namespace, String cont) throws ApiException {
     RequestParams requestParams = new RequestParams("listDomain", namespace, null, null);
-    return executeSynchronousCall(requestParams, listDomainCall);
+    return executeSynchronousCall(requestParams, (client, params) -> listDomain(client, params.namespace, cont));
+  }
+
+  private DomainList listDomain(ApiClient client, String namespace, String cont) throws ApiException {
+    return new WeblogicApi(client)
+        .listNamespacedDomain(
+            namespace,
+            pretty,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch);
   }
 
   private Call listDomainAsync(
@@ -1033,6 +1109,34 @@ public class CallBuilder {
         patchConfigMap);
   }
 
+  /**
+   * List pods, a page at a time.
+   *
+   * @param namespace Namespace
+   * @param cont the continue token returned with the previous page, or null to list the first page
+   * @return List of pods
+   * @throws ApiException API Exception
+   */
+  public V1PodList listPod(String namespace, String cont) throws ApiException {
+    RequestParams requestParams = new RequestParams("listPod", namespace, null, null);
+    return executeSynchronousCall(requestParams, (client, params) -> listPod(client, params.namespace, cont));
+  }
+
+  private V1PodList listPod(ApiClient client, String namespace, String cont) throws ApiException {
+    return new CoreV1Api(client)
+        .listNamespacedPod(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch);
+  }
+
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
@@ -1314,6 +1418,34 @@ public class CallBuilder {
     }
   }
 
+  /**
+   * List services, a page at a time.
+   *
+   * @param namespace Namespace
+   * @param cont the continue token returned with the previous page, or null to list the first page
+   * @return List of services
+   * @throws ApiException API Exception
+   */
+  public V1ServiceList listService(String namespace, String cont) throws ApiException {
+    RequestParams requestParams = new RequestParams("listService", namespace, null, null);
+    return executeSynchronousCall(requestParams, (client, params) -> listService(client, params.namespace, cont));
+  }
+
+  private V1ServiceList listService(ApiClient client, String namespace, String cont) throws ApiException {
+    return new CoreV1Api(client)
+        .listNamespacedService(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch);
+  }
+
   private Call listServiceAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ServiceList> callback)
       throws ApiException {
@@ -1403,6 +1535,48 @@ public class CallBuilder {
         responseStep, new RequestParams("createService", namespace, null, body), createService);
   }
 
+  // Server-side apply requires the body to identify its type, which the generated models leave unset.
+  private V1Patch toApplyPatch(ApiClient client, String kind, Object body) {
+    JsonObject object = client.getJSON().getGson().toJsonTree(body).getAsJsonObject();
+    object.addProperty("apiVersion", "v1");
+    object.addProperty("kind", kind);
+    return new V1Patch(object.toString());
+  }
+
+  // The generated client sends every patch in the client's override format, so the content type of an apply
+  // request is set here, as PatchUtils does for synchronous calls.
+  private <T> Call executeApplyAsync(ApiClient client, Call call, Type returnType, ApiCallback<T> callback) {
+    Request request = call.request();
+    Call applyCall = client.getHttpClient().newCall(request.newBuilder()
+        .patch(new ProxyContentTypeRequestBody(request.body(), V1Patch.PATCH_FORMAT_APPLY_YAML))
+        .build());
+    client.executeAsync(applyCall, returnType, callback);
+    return applyCall;
+  }
+
+  private Call applyServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    Call call = new CoreV1Api(client)
+        .patchNamespacedServiceCall(name, namespace, patch, pretty, null, fieldManager, forceApply, null);
+    return executeApplyAsync(client, call, V1Service.class, callback);
+  }
+
+  /**
+   * Asynchronous step for creating or updating a service using server-side apply.
+   *
+   * @param namespace Namespace
+   * @param body the desired service
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyServiceAsync(String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyService", namespace, KubernetesUtils.getResourceName(body), body),
+        applyService);
+  }
+
   /**
    * Delete service.
    *
@@ -1471,6 +1645,74 @@ public class CallBuilder {
         deleteService);
   }
 
+  /* Leases */
+
+  /**
+   * List leases.
+   *
+   * @param namespace Namespace
+   * @return List of leases
+   * @throws ApiException API Exception
+   */
+  public V1LeaseList listLease(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listLease", namespace, null, null);
+    return executeSynchronousCall(requestParams, listLeaseCall);
+  }
+
+  /**
+   * Read lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease readLease(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readLease", namespace, name, null);
+    return executeSynchronousCall(requestParams, readLeaseCall);
+  }
+
+  /**
+   * Create lease.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @return Created lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease createLease(String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("createLease", namespace, null, body);
+    return executeSynchronousCall(requestParams, createLeaseCall);
+  }
+
+  /**
+   * Replace lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @return Replaced lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease replaceLease(String name, String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("replaceLease", namespace, name, body);
+    return executeSynchronousCall(requestParams, replaceLeaseCall);
+  }
+
+  /**
+   * Delete lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param deleteOptions Delete options
+   * @return Status of deletion
+   * @throws ApiException API Exception
+   */
+  public V1Status deleteLease(String name, String namespace, V1DeleteOptions deleteOptions) throws ApiException {
+    RequestParams requestParams = new RequestParams("deleteLease", namespace, name, deleteOptions);
+    return executeSynchronousCall(requestParams, deleteLeaseCall);
+  }
+
   /* Secrets */
 
   private Call listEventAsync(
@@ -1647,6 +1889,45 @@ public class CallBuilder {
           listSecrets);
   }
 
+  // Asks for only the metadata of each secret, which the API server returns as a PartialObjectMetadataList:
+  // a list whose items have the shape of secrets without their data. A server which does not support that
+  // representation returns the full list instead.
+  private Call listSecretMetadataAsync(
+      ApiClient client, String namespace, String cont, ApiCallback<V1SecretList> callback)
+      throws ApiException {
+    Call call = new CoreV1Api(client)
+        .listNamespacedSecretCall(
+            namespace,
+            pretty,
+            allowWatchBookmarks,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            null);
+    Call metadataCall = client.getHttpClient().newCall(
+        call.request().newBuilder().header("Accept", METADATA_ONLY_LIST).build());
+    client.executeAsync(metadataCall, V1SecretList.class, callback);
+    return metadataCall;
+  }
+
+  /**
+   * Asynchronous step for listing the metadata of the secrets in a namespace, without their contents.
+   *
+   * @param namespace the namespace from which to list secrets
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listSecretMetadataAsync(String namespace, ResponseStep<V1SecretList> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("listSecret", namespace, null, null),
+          listSecretMetadata);
+  }
+
   /**
    * Create subject access review.
    *
@@ -4,6 +4,9 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -18,6 +21,7 @@ import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -29,6 +33,10 @@ public class ClientPool extends Pool<ApiClient> {
   private static ClientFactory FACTORY = new DefaultClientFactory();
   private static ClientPool SINGLETON = new ClientPool();
   private static ThreadFactory threadFactory;
+  private static final String MAX_REQUESTS_PER_HOST = "callMaxRequestsPerHost";
+  private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+  private static final int DEFAULT_MAX_REQUESTS = 64;
+  private static final Set<Dispatcher> dispatchers = ConcurrentHashMap.newKeySet();
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
 
   // With OKHttp3, each client has it's own connection pool, so instance will be shared
@@ -56,6 +64,32 @@ public class ClientPool extends Pool<ApiClient> {
     return SINGLETON;
   }
 
+  /**
+   * Applies the "callMaxRequestsPerHost" tuning parameter, which limits the number of asynchronous requests
+   * made concurrently to the Kubernetes API server, to the clients already created. Clients created later
+   * read the limit when they are built.
+   */
+  public static void applyRequestLimits() {
+    dispatchers.forEach(ClientPool::applyRequestLimit);
+  }
+
+  private static void applyRequestLimit(Dispatcher dispatcher) {
+    int maxRequestsPerHost = getMaxRequestsPerHost();
+    dispatcher.setMaxRequests(Math.max(DEFAULT_MAX_REQUESTS, maxRequestsPerHost));
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+  }
+
+  private static int getMaxRequestsPerHost() {
+    try {
+      return Math.max(1, Optional.ofNullable(TuningParameters.getInstance())
+            .map(t -> t.get(MAX_REQUESTS_PER_HOST))
+            .map(Integer::parseInt)
+            .orElse(DEFAULT_MAX_REQUESTS_PER_HOST));
+    } catch (NumberFormatException e) {
+      return DEFAULT_MAX_REQUESTS_PER_HOST;
+    }
+  }
+
   @Override
   protected ApiClient create() {
     // We no longer need this connection pooling because OkHttp 3 now supports
@@ -122,8 +156,11 @@ public class ClientPool extends Pool<ApiClient> {
                   super.execute(wrapRunnable(command));
                 }
               };
+          Dispatcher dispatcher = new Dispatcher(exec);
+          applyRequestLimit(dispatcher);
+          dispatchers.add(dispatcher);
           OkHttpClient httpClient =
-              client.getHttpClient().newBuilder().dispatcher(new Dispatcher(exec)).build();
+              client.getHttpClient().newBuilder().dispatcher(dispatcher).build();
           client.setHttpClient(httpClient);
         }
 
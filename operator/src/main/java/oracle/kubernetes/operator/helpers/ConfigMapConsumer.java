@@ -6,9 +6,13 @@ package oracle.kubernetes.operator.helpers;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -19,10 +23,16 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
 /**
  * Kubernetes mounts ConfigMaps in the Pod's file-system as directories where the contained files
  * are named with the keys and the contents of the file are the values. This class assists with
- * parsing this data and representing it as a Map.
+ * parsing this data and representing it as a Map. The values are read into an immutable snapshot,
+ * which is replaced when Kubernetes updates the mounted files; Kubernetes makes such an update
+ * visible by atomically replacing the '..data' link in the mount point, which a file watch reports.
  */
 public class ConfigMapConsumer implements Map<String, String> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -30,10 +40,12 @@ public class ConfigMapConsumer implements Map<String, String> {
   private final File mountPointDir;
   private final ScheduledExecutorService threadPool;
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>(null);
+  private final AtomicReference<Map<String, String>> snapshot = new AtomicReference<>(Collections.emptyMap());
   private final Runnable onUpdate;
 
   /**
-   * Construct config map consumer.
+   * Construct config map consumer. The consumer reads the mounted values, but does not look for updates
+   * until {@link #startWatching()} is called.
    * @param executorService executor
    * @param mountPoint mount point
    * @param onUpdate on update flag
@@ -44,19 +56,56 @@ public class ConfigMapConsumer implements Map<String, String> {
     this.mountPointDir = new File(mountPoint);
     this.onUpdate = onUpdate;
     if (mountPointDir.exists()) {
+      snapshot.set(readSnapshot());
+    }
+  }
+
+  /**
+   * Starts looking for updates to the mounted values. This is separate from construction so that the update
+   * callback never runs against a partially constructed consumer.
+   */
+  public void startWatching() {
+    if (mountPointDir.exists()) {
+      watchForUpdates();
+    }
+  }
+
+  private void watchForUpdates() {
+    try {
+      WatchService watchService = mountPointDir.toPath().getFileSystem().newWatchService();
+      mountPointDir.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      Thread watcher = new Thread(() -> processFileEvents(watchService), "config-map-watcher");
+      watcher.setDaemon(true);
+      watcher.start();
+    } catch (IOException | UnsupportedOperationException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
       schedule();
     }
   }
 
+  private void processFileEvents(WatchService watchService) {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        key.pollEvents();
+        handleChange();
+        if (!key.reset()) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Used if the file system cannot report changes.
   private void schedule() {
     long initialDelay = readTuningParameter("configMapUpdateInitialDelay", 3);
     long delay = readTuningParameter("configMapUpdateDelay", 10);
     ScheduledFuture<?> old =
         future.getAndSet(
             threadPool.scheduleWithFixedDelay(
-                () -> {
-                  onUpdate.run();
-                },
+                this::handleChange,
                 initialDelay,
                 delay,
                 TimeUnit.SECONDS));
@@ -65,6 +114,36 @@ public class ConfigMapConsumer implements Map<String, String> {
     }
   }
 
+  // Any failure is logged here, as an exception would otherwise end the watcher thread or the scheduled refresh.
+  void handleChange() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  /**
+   * Re-reads the mounted files, and invokes the update callback if any value has changed.
+   */
+  protected void refresh() {
+    Map<String, String> latest = readSnapshot();
+    if (!latest.equals(snapshot.getAndSet(latest))) {
+      onUpdate.run();
+    }
+  }
+
+  private Map<String, String> readSnapshot() {
+    Map<String, String> values = new HashMap<>();
+    String[] list = mountPointDir.list();
+    if (list != null) {
+      for (String key : list) {
+        Optional.ofNullable(readValue(key)).ifPresent(value -> values.put(key, value));
+      }
+    }
+    return Collections.unmodifiableMap(values);
+  }
+
   /**
    * read tuning parameter.
    * @param parameter parameter
@@ -86,8 +165,7 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public int size() {
-    String[] list = mountPointDir.list();
-    return list == null ? null : list.length;
+    return snapshot.get().size();
   }
 
   @Override
@@ -97,11 +175,7 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public boolean containsKey(Object key) {
-    if (key instanceof String) {
-      File child = new File(mountPointDir, (String) key);
-      return child.exists();
-    }
-    return false;
+    return snapshot.get().containsKey(key);
   }
 
   @Override
@@ -111,10 +185,7 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public String get(Object key) {
-    if (key instanceof String) {
-      return readValue((String) key);
-    }
-    return null;
+    return snapshot.get().get(key);
   }
 
   @Override
@@ -139,14 +210,7 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public Set<String> keySet() {
-    Set<String> keys = new HashSet<>();
-    String[] list = mountPointDir.list();
-    if (list != null) {
-      for (String s : list) {
-        keys.add(s);
-      }
-    }
-    return keys;
+    return snapshot.get().keySet();
   }
 
   @Override
@@ -156,36 +220,12 @@ public class ConfigMapConsumer implements Map<String, String> {
 
   @Override
   public Set<Entry<String, String>> entrySet() {
-    Set<Entry<String, String>> entries = new HashSet<>();
-    String[] list = mountPointDir.list();
-    if (list != null) {
-      for (String s : list) {
-        entries.add(
-            new Entry<String, String>() {
-
-              @Override
-              public String getKey() {
-                return s;
-              }
-
-              @Override
-              public String getValue() {
-                return readValue(s);
-              }
-
-              @Override
-              public String setValue(String value) {
-                throw new UnsupportedOperationException();
-              }
-            });
-      }
-    }
-    return entries;
+    return snapshot.get().entrySet();
   }
 
   private String readValue(String key) {
     File child = new File(mountPointDir, key);
-    if (child.exists()) {
+    if (child.isFile()) {
       try {
         return new String(Files.readAllBytes(child.toPath()));
       } catch (IOException e) {
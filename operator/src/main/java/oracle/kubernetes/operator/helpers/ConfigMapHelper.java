@@ -19,6 +19,7 @@ import javax.validation.constraints.NotNull;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.DomainStatusUpdater;
@@ -702,6 +703,81 @@ public class ConfigMapHelper {
     return new CallBuilder().readConfigMapAsync(configMapName, ns, new ReadIntrospectorConfigMapStep());
   }
 
+  /**
+   * Lists the introspector config maps in the specified namespace, recording in the scan cache the topology
+   * of each domain for which no scan has yet been recorded. Parsing of each topology is deferred until
+   * it is first needed, so that a restarted operator can answer REST requests and compute domain status
+   * without waiting for each domain to be processed.
+   * @param ns the namespace to search
+   * @return the step to list the maps
+   */
+  public static Step readIntrospectorConfigMaps(String ns) {
+    return new CallBuilder()
+          .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+          .listConfigMapsAsync(ns, new IntrospectorConfigMapListStep(ns));
+  }
+
+  private static boolean isIntrospectorConfigMap(V1ConfigMap configMap) {
+    return Optional.ofNullable(getDomainUid(configMap))
+          .map(ConfigMapHelper::getIntrospectorConfigMapName)
+          .map(name -> name.equals(configMap.getMetadata().getName()))
+          .orElse(false);
+  }
+
+  private static String getDomainUid(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap.getMetadata())
+          .map(V1ObjectMeta::getLabels)
+          .map(l -> l.get(LabelConstants.DOMAINUID_LABEL))
+          .orElse(null);
+  }
+
+  private static String getResourceVersion(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap).map(V1ConfigMap::getMetadata).map(V1ObjectMeta::getResourceVersion)
+          .orElse(null);
+  }
+
+  private static String getTopologyYaml(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap)
+          .map(V1ConfigMap::getData)
+          .map(data -> data.get(IntrospectorConfigMapKeys.TOPOLOGY_YAML))
+          .orElse(null);
+  }
+
+  private static WlsDomainConfig parseDomainConfig(String topologyYaml) {
+    return Optional.ofNullable(topologyYaml)
+          .map(DomainTopology::parseDomainTopologyYaml)
+          .map(DomainTopology::getDomain)
+          .orElse(null);
+  }
+
+  private static class IntrospectorConfigMapListStep extends DefaultResponseStep<V1ConfigMapList> {
+    private final String ns;
+
+    IntrospectorConfigMapListStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
+      Optional.ofNullable(callResponse.getResult())
+            .map(V1ConfigMapList::getItems)
+            .orElse(Collections.emptyList())
+            .stream()
+            .filter(ConfigMapHelper::isIntrospectorConfigMap)
+            .forEach(this::recordDeferredScan);
+      return doNext(packet);
+    }
+
+    private void recordDeferredScan(V1ConfigMap configMap) {
+      String topologyYaml = getTopologyYaml(configMap);
+      if (topologyYaml != null) {
+        Scan scan = Scan.createDeferred(
+            () -> parseDomainConfig(topologyYaml), new DateTime(), getResourceVersion(configMap));
+        ScanCache.INSTANCE.registerScanIfAbsent(ns, getDomainUid(configMap), scan);
+      }
+    }
+  }
+
   private static class ReadIntrospectorConfigMapStep extends DefaultResponseStep<V1ConfigMap> {
 
     ReadIntrospectorConfigMapStep() {
@@ -715,32 +791,33 @@ public class ConfigMapHelper {
       copyMapEntryToPacket(result, packet, DOMAIN_RESTART_VERSION);
       copyMapEntryToPacket(result, packet, DOMAIN_INPUTS_HASH);
 
-      DomainTopology domainTopology =
-            Optional.ofNullable(result)
-                  .map(V1ConfigMap::getData)
-                  .map(this::getTopologyYaml)
-                  .map(DomainTopology::parseDomainTopologyYaml)
-                  .orElse(null);
-
-      if (domainTopology != null) {
-        recordTopology(packet, packet.getSpi(DomainPresenceInfo.class), domainTopology);
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      WlsDomainConfig domainConfig = getDomainConfig(info, result);
+      if (domainConfig != null) {
+        recordTopology(packet, info, domainConfig, getResourceVersion(result));
         return doNext(DomainValidationSteps.createValidateDomainTopologyStep(getNext()), packet);
       } else {
         return doNext(packet);
       }
     }
 
-    private String getTopologyYaml(Map<String, String> data) {
-      return data.get(IntrospectorConfigMapKeys.TOPOLOGY_YAML);
+    // Reuses the topology already parsed from this version of the map, if any.
+    private WlsDomainConfig getDomainConfig(DomainPresenceInfo info, V1ConfigMap result) {
+      return Optional.ofNullable(info)
+            .map(i -> ScanCache.INSTANCE.lookupScan(i.getNamespace(), i.getDomainUid()))
+            .filter(scan -> scan.isFromResourceVersion(getResourceVersion(result)))
+            .map(Scan::getWlsDomainConfig)
+            .orElseGet(() -> parseDomainConfig(getTopologyYaml(result)));
     }
 
-    private void recordTopology(Packet packet, DomainPresenceInfo info, DomainTopology domainTopology) {
+    private void recordTopology(
+          Packet packet, DomainPresenceInfo info, WlsDomainConfig domainConfig, String resourceVersion) {
       ScanCache.INSTANCE.registerScan(
           info.getNamespace(),
           info.getDomainUid(),
-          new Scan(domainTopology.getDomain(), new DateTime()));
+          new Scan(domainConfig, new DateTime(), resourceVersion));
 
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
+      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainConfig);
     }
 
     private void copyMapEntryToPacket(V1ConfigMap result, Packet packet, String mapKey) {
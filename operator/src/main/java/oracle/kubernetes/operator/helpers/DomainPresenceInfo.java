@@ -6,11 +6,16 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,6 +28,7 @@ import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -52,6 +58,11 @@ public class DomainPresenceInfo {
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
 
+  // ready servers, mapped to their cluster names ("" for non-clustered servers), and the reverse index
+  private final Map<String, String> readyServers = new HashMap<>();
+  private final Map<String, Set<String>> readyClusterMembers = new HashMap<>();
+  private final List<Runnable> readinessListeners = new CopyOnWriteArrayList<>();
+
   /**
    * Create presence for a domain.
    *
@@ -125,6 +136,7 @@ public class DomainPresenceInfo {
    */
   public void setServerPod(String serverName, V1Pod pod) {
     getSko(serverName).getPod().set(pod);
+    updateReadiness(serverName);
   }
 
   /**
@@ -181,6 +193,7 @@ public class DomainPresenceInfo {
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
     getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    updateReadiness(serverName);
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -233,9 +246,95 @@ public class DomainPresenceInfo {
     if (deletedPod != null) {
       sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
     }
+    updateReadiness(serverName);
     return deletedPod != null;
   }
 
+  // Recomputes the readiness of the specified server from its current pod, and notifies any readiness
+  // listeners if it has changed.
+  private void updateReadiness(String serverName) {
+    V1Pod pod = getServerPod(serverName);
+    String clusterName = isReady(pod) ? getClusterName(pod) : null;
+
+    synchronized (readyServers) {
+      String oldClusterName = readyServers.get(serverName);
+      if (Objects.equals(oldClusterName, clusterName)) {
+        return;
+      }
+
+      if (oldClusterName != null) {
+        readyServers.remove(serverName);
+        Optional.ofNullable(readyClusterMembers.get(oldClusterName)).ifPresent(s -> s.remove(serverName));
+      }
+      if (clusterName != null) {
+        readyServers.put(serverName, clusterName);
+        readyClusterMembers.computeIfAbsent(clusterName, c -> new HashSet<>()).add(serverName);
+      }
+    }
+
+    readinessListeners.forEach(Runnable::run);
+  }
+
+  private boolean isReady(V1Pod pod) {
+    return pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod);
+  }
+
+  private String getClusterName(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+        .map(V1ObjectMeta::getLabels)
+        .map(labels -> labels.get(LabelConstants.CLUSTERNAME_LABEL))
+        .orElse("");
+  }
+
+  /**
+   * Returns true if the pod for the specified server is ready and not being deleted.
+   *
+   * @param serverName the name of the server
+   * @return true if the server is ready
+   */
+  public boolean isServerReady(String serverName) {
+    synchronized (readyServers) {
+      return readyServers.containsKey(serverName);
+    }
+  }
+
+  /**
+   * Returns the number of ready servers in the specified cluster.
+   *
+   * @param clusterName the name of the cluster
+   * @return the number of cluster members whose pods are ready
+   */
+  public int getNumReadyServers(String clusterName) {
+    synchronized (readyServers) {
+      return Optional.ofNullable(readyClusterMembers.get(clusterName)).map(Set::size).orElse(0);
+    }
+  }
+
+  /**
+   * Returns the names of the ready servers in the specified cluster.
+   *
+   * @param clusterName the name of the cluster
+   * @return a copy of the names of the cluster members whose pods are ready
+   */
+  public List<String> getReadyServerNames(String clusterName) {
+    synchronized (readyServers) {
+      return new ArrayList<>(Optional.ofNullable(readyClusterMembers.get(clusterName)).orElse(Collections.emptySet()));
+    }
+  }
+
+  /**
+   * Registers a callback to be run whenever a server becomes ready, or stops being ready.
+   *
+   * @param listener the callback
+   */
+  public void addServerReadinessListener(Runnable listener) {
+    readinessListeners.add(listener);
+  }
+
+  public void removeServerReadinessListener(Runnable listener) {
+    readinessListeners.remove(listener);
+  }
+
   private V1Pod getNewerCurrentOrNull(V1Pod pod, V1Pod event) {
     return KubernetesUtils.isFirstNewer(getMetadata(pod), getMetadata(event)) ? pod : null;
   }
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -23,9 +24,14 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 public class DomainTopology {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // An object reader is immutable and thread-safe, so a single one may be shared by all parses.
+  private static final ObjectReader TOPOLOGY_READER
+        = new ObjectMapper(new YAMLFactory()).readerFor(DomainTopology.class);
+
   private boolean domainValid;
   private WlsDomainConfig domain;
   private List<String> validationErrors;
+  private boolean dynamicClustersProcessed;
 
   @SuppressWarnings("unused") // Used by parser
   public DomainTopology() {
@@ -58,13 +64,13 @@ public class DomainTopology {
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = TOPOLOGY_READER.readValue(topologyYaml);
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(
+            ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      }
 
       return domainTopology;
 
@@ -94,13 +100,21 @@ public class DomainTopology {
   }
 
 
-  public WlsDomainConfig getDomain() {
-    this.domain.processDynamicClusters();
+  /**
+   * Returns the parsed domain. Its dynamic clusters are processed on the first call only.
+   * @return the domain configuration
+   */
+  public synchronized WlsDomainConfig getDomain() {
+    if (!dynamicClustersProcessed) {
+      this.domain.processDynamicClusters();
+      dynamicClustersProcessed = true;
+    }
     return this.domain;
   }
 
-  public void setDomain(WlsDomainConfig domain) {
+  public synchronized void setDomain(WlsDomainConfig domain) {
     this.domain = domain;
+    this.dynamicClustersProcessed = false;
   }
 
   /**
@@ -4,16 +4,27 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Strings;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -23,6 +34,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Cluster;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
@@ -35,65 +47,180 @@ import static oracle.kubernetes.operator.logging.MessageKeys.DOMAIN_VALIDATION_F
 public class DomainValidationSteps {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String SECRETS = "secrets";
-  private static final String CONFIGMAPS = "configmaps";
-
+  private static final String SECRET_NAMES = "secretNames";
+  private static final String CONFIGMAP_NAMES = "configMapNames";
+  private static final String RESOURCE_NAMES_LISTED = "resourceNamesListed";
+  private static final int DEFAULT_RECHECK_SECONDS = 120;
+  private static final long MINIMUM_RELIST_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  // The names of the secrets and config maps in each namespace, shared by all of the domains in that namespace,
+  // so that validating a domain does not require listing (and downloading the contents of) every secret.
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static Map<String, ResourceNames> namespaceResourceNames = new ConcurrentHashMap<>();
+
+  /**
+   * Creates steps to validate the domain in the packet. The names of the secrets and config maps in the namespace
+   * are listed only if they have not been read recently, or if the domain appears to refer to a missing one
+   * and they were not listed within the past few seconds.
+   * @param namespace the namespace containing the domain
+   * @param next the step to run if the domain is valid
+   * @return the first of the validation steps
+   */
   public static Step createDomainValidationSteps(String namespace, Step next) {
-    return Step.chain(createListSecretsStep(namespace), createListConfigMapsStep(namespace),
-              new DomainValidationStep(next));
-  }
-
-  private static Step createListSecretsStep(String domainNamespace) {
-    return new CallBuilder().listSecretsAsync(domainNamespace, new ListSecretsResponseStep());
+    return new ListResourceNamesIfNeededStep(namespace, new DomainValidationStep(namespace, next));
   }
 
   public static Step createValidateDomainTopologyStep(Step next) {
     return new ValidateDomainTopologyStep(next);
   }
 
-  static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
+  /** Discards all remembered secret and config map names, so that they will be listed again when needed. */
+  static void clearResourceNames() {
+    namespaceResourceNames.clear();
+  }
+
+  private static Step createListResourceNamesSteps(String namespace, Step next) {
+    return Step.chain(
+          new CallBuilder().listSecretMetadataAsync(namespace, new ListSecretsResponseStep()),
+          new CallBuilder().listConfigMapsAsync(namespace, new ListConfigMapsResponseStep(namespace)),
+          next);
+  }
+
+  private static long getRecheckIntervalMillis() {
+    return TimeUnit.SECONDS.toMillis(Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getMainTuning().domainPresenceRecheckIntervalSeconds)
+          .orElse(DEFAULT_RECHECK_SECONDS));
+  }
+
+  static class ResourceNames {
+    private final Set<String> secretNames;
+    private final Set<String> configMapNames;
+    private final long listTime;
+    private final long expirationTime;
+
+    ResourceNames(Set<String> secretNames, Set<String> configMapNames) {
+      this.secretNames = secretNames;
+      this.configMapNames = configMapNames;
+      this.listTime = SystemClock.now().getMillis();
+      this.expirationTime = listTime + getRecheckIntervalMillis();
+    }
+
+    boolean isExpired() {
+      return SystemClock.now().getMillis() >= expirationTime;
+    }
+
+    // A reference which is still missing shortly after the names were listed is most likely missing for good,
+    // and listing again on every pass would only repeat the same answer.
+    boolean isRecentlyListed() {
+      return SystemClock.now().getMillis() < listTime + MINIMUM_RELIST_MILLIS;
+    }
+  }
+
+  static class ListResourceNamesIfNeededStep extends Step {
+    private final String namespace;
+
+    ListResourceNamesIfNeededStep(String namespace, Step next) {
+      super(next);
+      this.namespace = namespace;
+    }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1SecretList> callResponse) {
-      packet.put(SECRETS, callResponse.getResult().getItems());
-      return doNext(packet);
+    public NextAction apply(Packet packet) {
+      ResourceNames names = namespaceResourceNames.get(namespace);
+      if (names != null && !names.isExpired()) {
+        return doNext(packet);
+      }
+
+      return doNext(createListResourceNamesSteps(namespace, getNext()), packet);
     }
   }
 
-  private static Step createListConfigMapsStep(String domainNamespace) {
-    return new CallBuilder().listConfigMapsAsync(domainNamespace, new ListConfigMapsResponseStep());
+  static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1SecretList> callResponse) {
+      V1SecretList result = callResponse.getResult();
+      getNames(packet, SECRET_NAMES).addAll(getItemNames(result.getItems(), V1Secret::getMetadata));
+      return hasContinue(result.getMetadata()) ? doContinueList(packet) : doNext(packet);
+    }
   }
 
   static class ListConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
+    private final String namespace;
+
+    ListConfigMapsResponseStep(String namespace) {
+      this.namespace = namespace;
+    }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
-      packet.put(CONFIGMAPS, callResponse.getResult().getItems());
+      V1ConfigMapList result = callResponse.getResult();
+      getNames(packet, CONFIGMAP_NAMES).addAll(getItemNames(result.getItems(), V1ConfigMap::getMetadata));
+      if (hasContinue(result.getMetadata())) {
+        return doContinueList(packet);
+      }
+
+      namespaceResourceNames.put(namespace,
+            new ResourceNames(getNames(packet, SECRET_NAMES), getNames(packet, CONFIGMAP_NAMES)));
+      packet.remove(SECRET_NAMES);
+      packet.remove(CONFIGMAP_NAMES);
+      packet.put(RESOURCE_NAMES_LISTED, Boolean.TRUE);
       return doNext(packet);
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static Set<String> getNames(Packet packet, String key) {
+    return (Set<String>) packet.computeIfAbsent(key, k -> new HashSet<>());
+  }
+
+  // only the names of the resources are retained; the contents of secrets in particular should not be kept
+  private static <T> List<String> getItemNames(List<T> items, Function<T, V1ObjectMeta> getMetadata) {
+    return items.stream()
+          .map(getMetadata)
+          .filter(Objects::nonNull)
+          .map(V1ObjectMeta::getName)
+          .collect(Collectors.toList());
+  }
+
+  private static boolean hasContinue(V1ListMeta metadata) {
+    return metadata != null && !Strings.isNullOrEmpty(metadata.getContinue());
+  }
+
   static class DomainValidationStep extends Step {
+    private final String namespace;
 
-    DomainValidationStep(Step next) {
+    DomainValidationStep(String namespace, Step next) {
       super(next);
+      this.namespace = namespace;
     }
 
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       Domain domain = info.getDomain();
-      List<String> validationFailures = domain.getValidationFailures(new KubernetesResourceLookupImpl(packet));
+      boolean namesJustListed = packet.remove(RESOURCE_NAMES_LISTED) != null;
+      List<String> validationFailures = domain.getValidationFailures(new KubernetesResourceLookupImpl(namespace));
 
       if (validationFailures.isEmpty()) {
         return doNext(packet);
       }
 
+      // the remembered names may be out of date, so check again with the current ones before failing the domain
+      if (!namesJustListed && !isRecentlyListed()) {
+        return doNext(createListResourceNamesSteps(namespace, this), packet);
+      }
+
       LOGGER.severe(DOMAIN_VALIDATION_FAILED, domain.getDomainUid(), perLine(validationFailures));
       Step step = DomainStatusUpdater.createFailedStep(BAD_DOMAIN, perLine(validationFailures), null);
       return doNext(step, packet);
     }
 
+    private boolean isRecentlyListed() {
+      return Optional.ofNullable(namespaceResourceNames.get(namespace)).map(ResourceNames::isRecentlyListed)
+            .orElse(false);
+    }
+
     private String perLine(List<String> validationFailures) {
       return String.join(lineSeparator(), validationFailures);
     }
@@ -149,44 +276,26 @@ public class DomainValidationSteps {
 
   static class KubernetesResourceLookupImpl implements KubernetesResourceLookup {
 
-    private final Packet packet;
+    private final ResourceNames names;
+    private final String namespace;
 
-    KubernetesResourceLookupImpl(Packet packet) {
-      this.packet = packet;
+    KubernetesResourceLookupImpl(String namespace) {
+      this.namespace = namespace;
+      this.names = namespaceResourceNames.get(namespace);
     }
 
     @Override
     public boolean isSecretExists(String name, String namespace) {
-      return getSecrets(packet).stream().anyMatch(s -> isSpecifiedSecret(s, name, namespace));
-    }
-
-    boolean isSpecifiedSecret(V1Secret secret, String name, String namespace) {
-      return hasMatchingMetadata(secret.getMetadata(), name, namespace);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<V1Secret> getSecrets(Packet packet) {
-      return (List<V1Secret>) packet.get(SECRETS);
+      return isInNamespace(namespace) && names != null && names.secretNames.contains(name);
     }
 
     @Override
     public boolean isConfigMapExists(String name, String namespace) {
-      return getConfigMaps(packet).stream().anyMatch(s -> isSpecifiedConfigMap(s, name, namespace));
-    }
-
-    boolean isSpecifiedConfigMap(V1ConfigMap configmap, String name, String namespace) {
-      return hasMatchingMetadata(configmap.getMetadata(), name, namespace);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return (List<V1ConfigMap>) packet.get(CONFIGMAPS);
+      return isInNamespace(namespace) && names != null && names.configMapNames.contains(name);
     }
 
-    private boolean hasMatchingMetadata(V1ObjectMeta metadata, String name, String namespace) {
-      return metadata != null
-            && Objects.equals(name, metadata.getName())
-            && Objects.equals(namespace, metadata.getNamespace());
+    private boolean isInNamespace(String namespace) {
+      return Objects.equals(this.namespace, namespace);
     }
   }
 }
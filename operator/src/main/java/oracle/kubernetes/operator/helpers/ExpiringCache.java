@@ -0,0 +1,149 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.utils.SystemClock;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A size-bounded cache whose entries expire a fixed time after they are added. When the cache is full,
+ * the least recently used entry is discarded. Hit and miss counts are kept so that the effectiveness
+ * of the cache may be reported.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public class ExpiringCache<K, V> {
+  private final long timeToLiveMillis;
+  private final Map<K, CacheEntry<V>> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates a cache.
+   * @param timeToLiveMillis the time, in milliseconds, for which an entry remains valid
+   * @param maxSize the maximum number of entries to retain
+   */
+  public ExpiringCache(long timeToLiveMillis, int maxSize) {
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the unexpired value cached for the specified key, if any.
+   * @param key the key
+   * @return the cached value, or null if none is present
+   */
+  public V get(K key) {
+    long now = SystemClock.now().getMillis();
+    synchronized (entries) {
+      CacheEntry<V> entry = entries.get(key);
+      if (entry != null && entry.expirationTime > now) {
+        hits.incrementAndGet();
+        return entry.value;
+      }
+
+      if (entry != null) {
+        entries.remove(key);
+      }
+      misses.incrementAndGet();
+      return null;
+    }
+  }
+
+  /**
+   * Adds a value to the cache. Null values are not cached.
+   * @param key the key
+   * @param value the value to cache
+   */
+  public void put(K key, V value) {
+    if (value == null) {
+      return;
+    }
+
+    long expirationTime = SystemClock.now().getMillis() + timeToLiveMillis;
+    synchronized (entries) {
+      entries.put(key, new CacheEntry<>(value, expirationTime));
+    }
+  }
+
+  /**
+   * Returns the value cached for the specified key, computing and caching it on a miss.
+   * @param key the key
+   * @param supplier a function to compute the value if it is not cached
+   * @return the cached or computed value
+   */
+  public V computeIfAbsent(K key, Supplier<V> supplier) {
+    V value = get(key);
+    if (value == null) {
+      value = supplier.get();
+      put(key, value);
+    }
+    return value;
+  }
+
+  /** Discards all cached entries. */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Returns the number of entries in the cache, including any which have expired but not yet been discarded.
+   * @return the number of entries
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the fraction of lookups which have been satisfied from the cache.
+   * @return a value between 0 and 1
+   */
+  public double getHitRate() {
+    long hitCount = hits.get();
+    long total = hitCount + misses.get();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("size", size())
+        .append("hits", getHitCount())
+        .append("misses", getMissCount())
+        .toString();
+  }
+
+  private static class CacheEntry<V> {
+    private final V value;
+    private final long expirationTime;
+
+    CacheEntry(V value, long expirationTime) {
+      this.value = value;
+      this.expirationTime = expirationTime;
+    }
+  }
+}
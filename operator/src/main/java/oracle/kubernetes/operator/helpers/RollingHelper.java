@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,21 +13,25 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.ServerDownIteratorStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 
 /**
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
@@ -36,7 +41,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static long DELAY_IN_SECONDS = 1;
+  private static final int DEFAULT_RECHECK_SECONDS = 5;
 
   private RollingHelper() {
   }
@@ -57,18 +62,6 @@ public class RollingHelper {
     return new RollingStep(rolling, next);
   }
 
-  private static List<String> getReadyServers(DomainPresenceInfo info) {
-    // These are presently Ready servers
-    List<String> availableServers = new ArrayList<>();
-    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-      V1Pod pod = entry.getValue().getPod().get();
-      if (pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod)) {
-        availableServers.add(entry.getKey());
-      }
-    }
-    return availableServers;
-  }
-
   private static class RollingStep extends Step {
     private final Map<String, StepAndPacket> rolling;
 
@@ -88,8 +81,6 @@ public class RollingHelper {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
 
       Domain dom = info.getDomain();
-      // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
 
       Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
       Map<String, Queue<StepAndPacket>> clusteredRestarts = new HashMap<>();
@@ -98,7 +89,7 @@ public class RollingHelper {
       for (Map.Entry<String, StepAndPacket> entry : rolling.entrySet()) {
         // If this server isn't currently Ready, then it can be safely restarted now
         // regardless of the state of its cluster (if any)
-        if (!availableServers.contains(entry.getKey())) {
+        if (!info.isServerReady(entry.getKey())) {
           servers.add(entry.getKey());
           serversThatCanRestartNow.add(entry.getValue());
           continue;
@@ -167,6 +158,8 @@ public class RollingHelper {
   private static class RollSpecificClusterStep extends Step {
     private final String clusterName;
     private final Queue<StepAndPacket> servers;
+    private final List<String> surgeServers = new ArrayList<>();
+    private boolean surgeConsidered;
 
     public RollSpecificClusterStep(
         String clusterName, Queue<StepAndPacket> clusteredServerRestarts, Step next) {
@@ -183,34 +176,19 @@ public class RollingHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-
-      // Refresh as this is constantly changing
-      Domain dom = info.getDomain();
-      // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
-
-      List<String> readyServers = new ArrayList<>();
-
-      int countReady = 0;
-      WlsClusterConfig cluster = config != null ? config.getClusterConfig(clusterName) : null;
-      if (cluster != null) {
-        List<WlsServerConfig> serversConfigs = cluster.getServerConfigs();
-        if (serversConfigs != null) {
-          for (WlsServerConfig s : serversConfigs) {
-            // figure out how many servers are currently ready
-            String name = s.getName();
-            if (availableServers.contains(name)) {
-              readyServers.add(s.getName());
-              countReady++;
-            }
-          }
+      if (!surgeConsidered) {
+        surgeConsidered = true;
+        Collection<StepAndPacket> surgeStarts = createSurgeServerStarts(info, packet);
+        if (!surgeStarts.isEmpty()) {
+          return doForkJoin(this, packet, surgeStarts);
         }
       }
 
-      LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getDomainUid(), servers, readyServers);
+      // Refresh as this is constantly changing
+      Domain dom = info.getDomain();
+      LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getDomainUid(), servers, info.getReadyServerNames(clusterName));
 
-      int countToRestartNow = countReady - dom.getMinAvailable(clusterName);
+      int countToRestartNow = getNumServersThatMayStop(info);
       Collection<StepAndPacket> restarts = new ArrayList<>();
       for (int i = 0; i < countToRestartNow; i++) {
         Optional.ofNullable(servers.poll())
@@ -220,10 +198,97 @@ public class RollingHelper {
       if (!restarts.isEmpty()) {
         return doForkJoin(this, packet, restarts);
       } else if (!servers.isEmpty()) {
-        return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
+        return doSuspend(this, fiber -> waitForReadinessChange(info, fiber, packet));
+      } else if (!surgeServers.isEmpty()) {
+        return doNext(ServerDownIteratorStep.createServersDownStep(surgeServers, getNext()), packet);
       } else {
         return doNext(packet);
       }
     }
+
+    // Each ready surge server raises the number of servers which must remain available, up to the replica count,
+    // so that replacement capacity comes from the surge servers rather than from the existing ones.
+    private int getNumServersThatMayStop(DomainPresenceInfo info) {
+      Domain dom = info.getDomain();
+      int minAvailable = Math.min(
+          dom.getMinAvailable(clusterName) + surgeServers.size(), dom.getReplicaCount(clusterName));
+      return info.getNumReadyServers(clusterName) - minAvailable;
+    }
+
+    // Selects up to maxSurge configured members of a dynamic cluster which are not running, and creates the steps
+    // to start them with the current domain specification.
+    private Collection<StepAndPacket> createSurgeServerStarts(DomainPresenceInfo info, Packet packet) {
+      Domain dom = info.getDomain();
+      int maxSurge = dom.getMaxSurge(clusterName);
+      WlsClusterConfig clusterConfig = getDynamicClusterConfig(packet);
+      if (maxSurge <= 0 || clusterConfig == null) {
+        return Collections.emptyList();
+      }
+
+      Collection<StepAndPacket> surgeStarts = new ArrayList<>();
+      for (WlsServerConfig serverConfig : clusterConfig.getServerConfigs()) {
+        if (surgeServers.size() >= maxSurge) {
+          break;
+        }
+
+        ServerSpec serverSpec = dom.getServer(serverConfig.getName(), clusterName);
+        if (info.getServerPod(serverConfig.getName()) == null && !serverSpec.isShuttingDown()) {
+          surgeServers.add(serverConfig.getName());
+          surgeStarts.add(
+              new StepAndPacket(createSurgeServerStep(), createSurgePacket(packet, serverConfig, serverSpec)));
+        }
+      }
+
+      if (!surgeServers.isEmpty()) {
+        LOGGER.info(MessageKeys.ROLLING_SURGE_SERVERS, dom.getDomainUid(), clusterName, surgeServers);
+      }
+      return surgeStarts;
+    }
+
+    private WlsClusterConfig getDynamicClusterConfig(Packet packet) {
+      return Optional.ofNullable((WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY))
+          .map(config -> config.getClusterConfig(clusterName))
+          .filter(WlsClusterConfig::hasDynamicServers)
+          .orElse(null);
+    }
+
+    private Step createSurgeServerStep() {
+      return ServiceHelper.createForServerStep(PodHelper.createManagedPodStep(null));
+    }
+
+    private Packet createSurgePacket(Packet packet, WlsServerConfig serverConfig, ServerSpec serverSpec) {
+      Packet p = packet.clone();
+      p.put(ProcessingConstants.CLUSTER_NAME, clusterName);
+      p.put(ProcessingConstants.SERVER_NAME, serverConfig.getName());
+      p.put(ProcessingConstants.SERVER_SCAN, serverConfig);
+      p.put(ProcessingConstants.ENVVARS, serverSpec.getEnvironmentVariables());
+      return p;
+    }
+
+    // Resumes the fiber when a server's readiness changes, or after the watch backstop delay in case an event
+    // is missed. Since readiness may have changed before the listener was registered, it is rechecked here.
+    private void waitForReadinessChange(DomainPresenceInfo info, AsyncFiber fiber, Packet packet) {
+      AtomicBoolean resumed = new AtomicBoolean(false);
+      Runnable[] listener = new Runnable[1];
+      listener[0] = () -> {
+        if (resumed.compareAndSet(false, true)) {
+          info.removeServerReadinessListener(listener[0]);
+          fiber.resume(packet);
+        }
+      };
+
+      info.addServerReadinessListener(listener[0]);
+      fiber.scheduleOnce(getWatchBackstopRecheckDelaySeconds(), TimeUnit.SECONDS, listener[0]);
+      if (getNumServersThatMayStop(info) > 0) {
+        listener[0].run();
+      }
+    }
+  }
+
+  private static int getWatchBackstopRecheckDelaySeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getWatchTuning)
+        .map(tuning -> tuning.watchBackstopRecheckDelay)
+        .orElse(DEFAULT_RECHECK_SECONDS);
   }
 }
@@ -8,16 +8,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1Status;
 import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -56,6 +59,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REP
 public class ServiceHelper {
   public static final String CLUSTER_IP_TYPE = "ClusterIP";
   public static final String NODE_PORT_TYPE = "NodePort";
+  private static final String APPLY_OPERATION = "Apply";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private ServiceHelper() {
@@ -164,6 +168,32 @@ public class ServiceHelper {
     return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
   }
 
+  // A service may be updated by applying the new model only if that does not change its immutable addressing,
+  // and only if the operator already owns its fields by apply. Apply removes only the fields its own manager
+  // set, so a port or label dropped from a service created some other way would remain.
+  private static boolean canUpdateInPlace(V1Service model, V1Service current) {
+    return isOwnedByOperatorApply(current)
+        && Objects.equals(getSpecType(model), getSpecType(current))
+        && isHeadless(model) == isHeadless(current);
+  }
+
+  private static boolean isOwnedByOperatorApply(V1Service service) {
+    return Optional.ofNullable(service.getMetadata())
+        .map(V1ObjectMeta::getManagedFields)
+        .orElse(Collections.emptyList())
+        .stream()
+        .anyMatch(ServiceHelper::isOperatorApplyEntry);
+  }
+
+  private static boolean isOperatorApplyEntry(V1ManagedFieldsEntry entry) {
+    return KubernetesConstants.OPERATOR_FIELD_MANAGER.equals(entry.getManager())
+        && APPLY_OPERATION.equals(entry.getOperation());
+  }
+
+  private static boolean isHeadless(V1Service service) {
+    return Optional.ofNullable(service.getSpec()).map(V1ServiceSpec::getClusterIP).map("None"::equals).orElse(false);
+  }
+
   /**
    * Create asynchronous step for external, NodePort service.
    *
@@ -511,6 +541,8 @@ public class ServiceHelper {
       } else if (canUseCurrentService(createModel(), service)) {
         logServiceExists();
         return next;
+      } else if (canUpdateInPlace(createModel(), service)) {
+        return createReplacementService(next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
@@ -540,7 +572,7 @@ public class ServiceHelper {
 
     private Step createService(String messageKey, Step next) {
       return new CallBuilder()
-          .createServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
+          .applyServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
     }
 
     private class ConflictStep extends Step {
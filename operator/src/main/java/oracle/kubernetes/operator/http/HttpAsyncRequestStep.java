@@ -5,7 +5,6 @@ package oracle.kubernetes.operator.http;
 
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Optional;
@@ -16,6 +15,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -26,18 +26,18 @@ import oracle.kubernetes.operator.work.Step;
 public class HttpAsyncRequestStep extends Step {
 
   interface FutureFactory {
-    CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request);
+    CompletableFuture<HttpResponse<String>> createFuture(String clientKey, HttpRequest request);
   }
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static FutureFactory DEFAULT_FACTORY = HttpAsyncRequestStep::createFuture;
+  private static FutureFactory DEFAULT_FACTORY = HttpClientPool.getInstance()::sendAsync;
 
   private static final long DEFAULT_TIMEOUT_SECONDS = 5;
 
   private static FutureFactory factory = DEFAULT_FACTORY;
   private final HttpRequest request;
   private long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
-  private static final HttpClient httpClient = HttpClient.newBuilder().build();
+  private String clientKey = HttpClientPool.DEFAULT_CLIENT_KEY;
 
   private HttpAsyncRequestStep(HttpRequest request, HttpResponseStep responseStep) {
     super(responseStep);
@@ -77,6 +77,17 @@ public class HttpAsyncRequestStep extends Step {
     return this;
   }
 
+  /**
+   * Sends this request with the pooled client for the specified domain, so that connections to its
+   * servers are reused.
+   * @param clientKey the key for the domain's client, as returned by {@link HttpClientPool#getClientKey}
+   * @return this step
+   */
+  public HttpAsyncRequestStep withClientKey(String clientKey) {
+    this.clientKey = clientKey;
+    return this;
+  }
+
   @Override
   public NextAction apply(Packet packet) {
     AsyncProcessing processing = new AsyncProcessing(packet);
@@ -86,6 +97,8 @@ public class HttpAsyncRequestStep extends Step {
   class AsyncProcessing {
     private Packet packet;
     private CompletableFuture<HttpResponse<String>> future;
+    private volatile Cancellable timeoutCheck;
+    private long startNanos;
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -93,13 +106,18 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
-      future = factory.createFuture(request);
+      startNanos = System.nanoTime();
+      future = factory.createFuture(clientKey, request);
       future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
-      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      timeoutCheck = fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      if (future.isDone()) {
+        timeoutCheck.cancel();
+      }
     }
 
     private void checkTimeout(AsyncFiber fiber) {
       if (!future.isDone()) {
+        future.cancel(true);
         resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
       }
     }
@@ -109,11 +127,14 @@ public class HttpAsyncRequestStep extends Step {
         LOGGER.fine(MessageKeys.HTTP_REQUEST_TIMED_OUT, request.method(), request.uri(), throwable);
       }
       
+      Optional.ofNullable(timeoutCheck).ifPresent(Cancellable::cancel);
       Optional.ofNullable(response).ifPresent(this::recordResponse);
       fiber.resume(packet);
     }
 
     private void recordResponse(HttpResponse<String> response) {
+      HttpClientPool.getInstance().getLatencies().record(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
       if (response.statusCode() != HttpURLConnection.HTTP_OK) {
         LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, request.method(), request.uri(), response.statusCode());
       }
@@ -121,11 +142,6 @@ public class HttpAsyncRequestStep extends Step {
     }
   }
 
-
-  private static CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request) {
-    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
-  }
-
   static class HttpTimeoutException extends RuntimeException {
     private final String method;
     private final URI uri;
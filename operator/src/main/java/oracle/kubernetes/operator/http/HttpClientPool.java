@@ -0,0 +1,155 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.TuningParameters;
+
+/**
+ * The HTTP clients used to read server health from WebLogic. Each JDK client runs its own selector thread, so
+ * rather than create a client per domain, the pool holds a small, fixed number of clients, and assigns each domain
+ * to one of them by its key. A domain thus always uses the same client, which keeps the connections to its servers
+ * open between status polls. All clients share a single, bounded executor which handles their responses.
+ *
+ * <p>The following tuning parameters are recognized:
+ * <ul>
+ *   <li>httpClientCount: the number of clients (default 2)</li>
+ *   <li>httpClientThreads: the number of threads which handle responses (default 4)</li>
+ *   <li>httpClientConnectTimeoutSeconds: the time allowed to open a connection (default 10)</li>
+ *   <li>httpClientVersion: HTTP_1_1 or HTTP_2 (default HTTP_1_1)</li>
+ *   <li>httpMaxResponseBytes: the largest response body to accept (default 1048576)</li>
+ * </ul>
+ * All but the last are read only when the clients are first created; changes to them take effect only when the
+ * operator is restarted.
+ */
+public class HttpClientPool {
+
+  static final String DEFAULT_CLIENT_KEY = "";
+
+  private static final String CLIENT_COUNT = "httpClientCount";
+  private static final String THREADS = "httpClientThreads";
+  private static final String CONNECT_TIMEOUT = "httpClientConnectTimeoutSeconds";
+  private static final String VERSION = "httpClientVersion";
+  private static final String MAX_RESPONSE_BYTES = "httpMaxResponseBytes";
+
+  private static final int DEFAULT_CLIENT_COUNT = 2;
+  private static final int DEFAULT_THREADS = 4;
+  private static final int DEFAULT_CONNECT_TIMEOUT_SECONDS = 10;
+  private static final int DEFAULT_MAX_RESPONSE_BYTES = 1024 * 1024;
+
+  private static final HttpClientPool INSTANCE = new HttpClientPool();
+
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private volatile HttpClient[] clients;
+
+  public static HttpClientPool getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sends a request asynchronously, using the client assigned to the specified domain.
+   * @param clientKey identifies the domain whose servers are addressed, or the empty string for none
+   * @param request the request to send
+   * @return a future which will complete with the response
+   */
+  CompletableFuture<HttpResponse<String>> sendAsync(String clientKey, HttpRequest request) {
+    return getClient(clientKey).sendAsync(request, new SizeLimitedBodyHandler(getMaxResponseBytes()));
+  }
+
+  /**
+   * Returns the key used to select the client for the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return a client key
+   */
+  public static String getClientKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  /**
+   * Returns the distribution of the time taken by HTTP requests to WebLogic servers.
+   * @return a latency histogram
+   */
+  public LatencyHistogram getLatencies() {
+    return latencies;
+  }
+
+  private HttpClient getClient(String clientKey) {
+    HttpClient[] pool = getClients();
+    return pool[Math.floorMod(Optional.ofNullable(clientKey).orElse(DEFAULT_CLIENT_KEY).hashCode(), pool.length)];
+  }
+
+  private HttpClient[] getClients() {
+    HttpClient[] pool = clients;
+    return pool != null ? pool : createClients();
+  }
+
+  private synchronized HttpClient[] createClients() {
+    if (clients == null) {
+      ExecutorService executor
+            = Executors.newFixedThreadPool(getIntParameter(THREADS, DEFAULT_THREADS), new DaemonThreadFactory());
+      HttpClient[] pool = new HttpClient[Math.max(1, getIntParameter(CLIENT_COUNT, DEFAULT_CLIENT_COUNT))];
+      for (int i = 0; i < pool.length; i++) {
+        pool[i] = createClient(executor);
+      }
+      clients = pool;
+    }
+    return clients;
+  }
+
+  private HttpClient createClient(ExecutorService executor) {
+    return HttpClient.newBuilder()
+          .version(getVersion())
+          .connectTimeout(Duration.ofSeconds(getIntParameter(CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT_SECONDS)))
+          .followRedirects(HttpClient.Redirect.NEVER)
+          .executor(executor)
+          .build();
+  }
+
+  private HttpClient.Version getVersion() {
+    try {
+      return getParameter(VERSION).map(String::toUpperCase).map(HttpClient.Version::valueOf)
+            .orElse(HttpClient.Version.HTTP_1_1);
+    } catch (IllegalArgumentException e) {
+      return HttpClient.Version.HTTP_1_1;
+    }
+  }
+
+  private int getMaxResponseBytes() {
+    return getIntParameter(MAX_RESPONSE_BYTES, DEFAULT_MAX_RESPONSE_BYTES);
+  }
+
+  private int getIntParameter(String name, int defaultValue) {
+    try {
+      return getParameter(name).map(Integer::parseInt).orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private Optional<String> getParameter(String name) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(t -> t.get(name));
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "http-client-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count of request latencies in fixed buckets. Recording a latency does not allocate or lock, so it is
+ * cheap enough to do for every request.
+ */
+public class LatencyHistogram {
+  private static final long[] BUCKET_LIMITS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+  private final LongAdder[] counts = new LongAdder[BUCKET_LIMITS_MILLIS.length + 1];
+
+  LatencyHistogram() {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records the latency of one request.
+   * @param millis the latency in milliseconds
+   */
+  public void record(long millis) {
+    counts[getBucket(millis)].increment();
+  }
+
+  private int getBucket(long millis) {
+    for (int i = 0; i < BUCKET_LIMITS_MILLIS.length; i++) {
+      if (millis <= BUCKET_LIMITS_MILLIS[i]) {
+        return i;
+      }
+    }
+    return BUCKET_LIMITS_MILLIS.length;
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   * @return a non-negative count
+   */
+  public long getCount() {
+    long total = 0;
+    for (LongAdder count : counts) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Returns an upper bound on the latency at the specified percentile.
+   * @param percentile a percentile between 0 and 100
+   * @return the upper limit of the bucket holding the percentile in milliseconds, Long.MAX_VALUE if above
+   *     the largest bucket, or -1 if no latencies have been recorded
+   */
+  public long getPercentileUpperBound(double percentile) {
+    long total = getCount();
+    if (total == 0) {
+      return -1;
+    }
+
+    long target = (long) Math.ceil(percentile / 100 * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_LIMITS_MILLIS.length; i++) {
+      seen += counts[i].sum();
+      if (seen >= target) {
+        return BUCKET_LIMITS_MILLIS[i];
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < BUCKET_LIMITS_MILLIS.length; i++) {
+      sb.append("<=").append(BUCKET_LIMITS_MILLIS[i]).append("ms:").append(counts[i].sum()).append(' ');
+    }
+    return sb.append(">").append(BUCKET_LIMITS_MILLIS[BUCKET_LIMITS_MILLIS.length - 1]).append("ms:")
+          .append(counts[BUCKET_LIMITS_MILLIS.length].sum()).toString();
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * A body handler which reads a response body as a string, but fails the response if the body exceeds
+ * a maximum size, so that a misbehaving server cannot make the operator buffer an unbounded response.
+ */
+class SizeLimitedBodyHandler implements HttpResponse.BodyHandler<String> {
+  private final int maxBytes;
+
+  SizeLimitedBodyHandler(int maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public HttpResponse.BodySubscriber<String> apply(HttpResponse.ResponseInfo responseInfo) {
+    return new SizeLimitedSubscriber();
+  }
+
+  static class ResponseTooLargeException extends IOException {
+    ResponseTooLargeException(int maxBytes) {
+      super("response body exceeds " + maxBytes + " bytes");
+    }
+  }
+
+  class SizeLimitedSubscriber implements HttpResponse.BodySubscriber<String> {
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private Flow.Subscription subscription;
+
+    @Override
+    public CompletionStage<String> getBody() {
+      return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+      if (result.isDone()) {
+        return;
+      }
+      for (ByteBuffer buffer : buffers) {
+        if (body.size() + buffer.remaining() > maxBytes) {
+          subscription.cancel();
+          result.completeExceptionally(new ResponseTooLargeException(maxBytes));
+          return;
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        body.write(bytes, 0, bytes.length);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      result.complete(body.toString(StandardCharsets.UTF_8));
+    }
+  }
+}
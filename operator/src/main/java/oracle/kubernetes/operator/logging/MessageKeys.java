@@ -133,6 +133,21 @@ public class MessageKeys {
   public static final String INTROSPECTOR_JOB_FAILED = "WLSKO-0175";
   public static final String INTROSPECTOR_JOB_FAILED_DETAIL = "WLSKO-0176";
   public static final String INTROSPECTOR_POD_FAILED = "WLSKO-0177";
+  public static final String INVALID_SCALING_TARGET = "WLSKO-0178";
+  public static final String SCALING_CLUSTER_NOT_FOUND = "WLSKO-0179";
+  public static final String ROLLING_SURGE_SERVERS = "WLSKO-0180";
+  public static final String SERVER_SHUT_DOWN = "WLSKO-0181";
+  public static final String WATCH_EVENTS_COALESCED = "WLSKO-0182";
+  public static final String SHARD_MEMBERSHIP_CHANGED = "WLSKO-0183";
+  public static final String SHARD_LEASE_RENEWAL_FAILED = "WLSKO-0184";
+  public static final String LEADERSHIP_ACQUIRED = "WLSKO-0185";
+  public static final String LEADERSHIP_LOST = "WLSKO-0186";
+  public static final String LEADER_LEASE_RENEWAL_FAILED = "WLSKO-0187";
+  public static final String LEADERSHIP_TAKEN_OVER = "WLSKO-0188";
+  public static final String SHARD_LEASE_EXPIRED = "WLSKO-0189";
+  public static final String SHARD_NAMESPACE_ACQUIRED = "WLSKO-0190";
+  public static final String SHARD_NAMESPACE_RELEASED = "WLSKO-0191";
+  public static final String SHARD_NAMESPACE_LEASE_FAILED = "WLSKO-0192";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -3,17 +3,22 @@
 
 package oracle.kubernetes.operator.rest;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
 import javax.json.JsonPatchBuilder;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
@@ -25,38 +30,53 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.ScaleClusterTargetModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.logging.MessageKeys.INVALID_DOMAIN_UID;
 
 /**
- * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
- * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
- * hold some per-request state.
+ * RestBackendImpl implements the backend of the WebLogic operator REST api by reading the operator's
+ * cached domain state and making calls to Kubernetes. A separate instance is created for each REST
+ * request since we need to hold some per-request state.
+ *
+ * <p>Requests which update domains return immediately: the subject access reviews which authorize the updates,
+ * and the updates themselves, are made by fibers on the operator's engine. Two calls to Kubernetes still block
+ * the REST worker thread, as the JAX-RS methods which make them are synchronous: the token review made when the
+ * backend is created by the authentication filter, and the review of the permission to list domains which
+ * precedes any lookup of a domain. Both decisions are cached, so that repeated requests seldom wait for them.
  */
 public class RestBackendImpl implements RestBackend {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String NEW_CLUSTER_REPLICAS =
-      "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static final String NEW_CLUSTER_RESTART =
       "{'clusterName':'%s','restartVersion':'1'}".replaceAll("'", "\"");
   public static final String INITIAL_VERSION = "1";
+  private static final int MAX_SCALING_ATTEMPTS = 5;
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
 
   @SuppressWarnings("FieldMayBeFinal") // used by unit test
   private static TopologyRetriever INSTANCE =
@@ -72,6 +92,7 @@ public class RestBackendImpl implements RestBackend {
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Engine engine;
   private V1UserInfo userInfo;
 
   /**
@@ -83,12 +104,14 @@ public class RestBackendImpl implements RestBackend {
    *     the WebLogic operator REST api.
    * @param targetNamespaces a list of Kubernetes namepaces that contain domains that the WebLogic
    *     operator manages.
+   * @param engine the engine on which to run requests to Kubernetes.
    */
-  RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
+  RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces, Engine engine) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     userInfo = authenticate(accessToken);
     this.targetNamespaces = targetNamespaces;
+    this.engine = engine;
     LOGGER.exiting();
   }
 
@@ -174,20 +197,9 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  // Domains are read from the operator's in-memory cache, which is kept current by the domain watchers
   private List<Domain> getDomainsList() {
-    Collection<List<Domain>> c = new ArrayList<>();
-    try {
-      for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
-
-        if (dl != null) {
-          c.add(dl.getItems());
-        }
-      }
-      return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
-    } catch (ApiException e) {
-      throw handleApiException(e);
-    }
+    return DomainProcessorImpl.getDomains(targetNamespaces);
   }
 
   @Override
@@ -196,17 +208,14 @@ public class RestBackendImpl implements RestBackend {
   }
 
   @Override
-  public void performDomainAction(String domainUid, DomainAction params) {
+  public CompletionStage<Void> performDomainAction(String domainUid, DomainAction params) {
     verifyDomain(domainUid);
-    authorize(domainUid, Operation.update);
 
     switch (Optional.ofNullable(params.getAction()).orElse(DomainActionType.UNKNOWN)) {
       case INTROSPECT:
-        introspect(domainUid);
-        break;
+        return introspect(domainUid);
       case RESTART:
-        restartDomain(domainUid);
-        break;
+        return restartDomain(domainUid);
       default:
         throw new WebApplicationException(Status.BAD_REQUEST);
     }
@@ -218,12 +227,12 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private void introspect(String domainUid) {
-    forDomainDo(domainUid, this::markForIntrospection);
+  private CompletionStage<Void> introspect(String domainUid) {
+    return forDomainDo(domainUid, d -> authorizeUpdates(List.of(d)).thenCompose(v -> markForIntrospection(d)));
   }
 
-  private void markForIntrospection(Domain domain) {
-    updateVersionField(domain, domain.getIntrospectVersion(), "/spec/introspectVersion");
+  private CompletionStage<Void> markForIntrospection(Domain domain) {
+    return updateVersionField(domain, domain.getIntrospectVersion(), "/spec/introspectVersion");
   }
 
   private String nextVersion(String version) {
@@ -234,38 +243,38 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private void restartDomain(String domainUid) {
-    forDomainDo(domainUid, this::markDomainForRestart);
+  private CompletionStage<Void> restartDomain(String domainUid) {
+    return forDomainDo(domainUid, d -> authorizeUpdates(List.of(d)).thenCompose(v -> markDomainForRestart(d)));
   }
 
-  private void markDomainForRestart(Domain domain) {
-    updateVersionField(domain, domain.getRestartVersion(), "/spec/restartVersion");
+  private CompletionStage<Void> markDomainForRestart(Domain domain) {
+    return updateVersionField(domain, domain.getRestartVersion(), "/spec/restartVersion");
   }
 
-  private void updateVersionField(Domain domain, String version, String fieldPath) {
+  private CompletionStage<Void> updateVersionField(Domain domain, String version, String fieldPath) {
     JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
     Optional.ofNullable(version).ifPresentOrElse(
         v -> patchBuilder.replace(fieldPath, nextVersion(v)),
         () -> patchBuilder.add(fieldPath, INITIAL_VERSION));
 
-    patchDomain(domain, patchBuilder);
+    return patchDomain(domain, patchBuilder);
   }
 
-  private void forDomainDo(String domainUid, Consumer<Domain> consumer) {
+  private CompletionStage<Void> forDomainDo(String domainUid, Function<Domain, CompletionStage<Void>> action) {
     if (domainUid == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
 
-    getDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
+    return getDomain(domainUid).map(action).orElseThrow(() -> createNotFoundException(domainUid));
   }
 
-  private void reportNotFound(String domainUid) {
-    throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
+  private WebApplicationException createNotFoundException(String domainUid) {
+    return createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    return getDomainsList().stream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
+    return DomainProcessorImpl.getDomain(domainUid, targetNamespaces);
   }
 
   @Override
@@ -292,7 +301,7 @@ public class RestBackendImpl implements RestBackend {
   }
 
   @Override
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+  public CompletionStage<Void> scaleCluster(String domainUid, String cluster, int managedServerCount) {
     LOGGER.entering(domainUid, cluster, managedServerCount);
 
     if (managedServerCount < 0) {
@@ -300,41 +309,156 @@ public class RestBackendImpl implements RestBackend {
           Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, managedServerCount);
     }
 
-    authorize(domainUid, Operation.update);
-    forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
+    CompletionStage<Void> result = forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
     LOGGER.exiting();
+    return result;
   }
 
-  private void performScaling(Domain domain, String cluster, int managedServerCount) {
+  private CompletionStage<Void> performScaling(Domain domain, String cluster, int managedServerCount) {
     verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
-    patchClusterReplicas(domain, cluster, managedServerCount);
+    return authorizeUpdates(List.of(domain))
+          .thenCompose(v -> patchClusterReplicas(domain, Collections.singletonMap(cluster, managedServerCount)));
   }
 
-  private void patchClusterReplicas(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) {
-      return;
+  @Override
+  public CompletionStage<Void> scaleClusters(List<ScaleClusterTargetModel> targets) {
+    LOGGER.entering(targets);
+
+    // validate every request before updating any domain, so that a bad request changes nothing
+    Map<String, Domain> domains = new LinkedHashMap<>();
+    Map<String, Map<String, Integer>> replicasByDomain = new LinkedHashMap<>();
+    for (ScaleClusterTargetModel target : Optional.ofNullable(targets).orElse(Collections.emptyList())) {
+      Domain domain = domains.computeIfAbsent(target.getDomainUid(), uid -> getScalingTargetDomain(target));
+      verifyScalingTarget(domain, target);
+      replicasByDomain.computeIfAbsent(domain.getDomainUid(), uid -> new LinkedHashMap<>())
+          .put(target.getCluster(), target.getManagedServerCount());
     }
 
-    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-    int index = getClusterIndex(domain, cluster);
-    if (index < 0) {
-      patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, replicas));
-    } else {
-      patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+    CompletionStage<Void> result = authorizeUpdates(domains.values())
+          .thenCompose(v -> patchAllClusterReplicas(domains, replicasByDomain));
+    LOGGER.exiting();
+    return result;
+  }
+
+  private CompletableFuture<Void> patchAllClusterReplicas(
+        Map<String, Domain> domains, Map<String, Map<String, Integer>> replicasByDomain) {
+    return CompletableFuture.allOf(replicasByDomain.entrySet().stream()
+          .map(e -> patchClusterReplicas(domains.get(e.getKey()), e.getValue()))
+          .map(CompletionStage::toCompletableFuture)
+          .toArray(CompletableFuture[]::new));
+  }
+
+  // The subject access reviews for the domains to be updated are made by a fiber on the operator's engine, so
+  // that the REST worker thread is not blocked while waiting for the API server to respond. No domain is updated
+  // unless all of them are authorized.
+  private CompletionStage<Void> authorizeUpdates(Collection<Domain> domains) {
+    if (domains.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
     }
 
-    patchDomain(domain, patchBuilder);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Step[] checkSteps = domains.stream().map(d -> createAuthorizeUpdateStep(d, result)).toArray(Step[]::new);
+    engine.createFiber().start(Step.chain(checkSteps), new Packet(), new CompleteFutureCallback(result));
+    return result;
   }
 
-  private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
-    try {
-      new CallBuilder()
-          .patchDomain(
+  private Step createAuthorizeUpdateStep(Domain domain, CompletableFuture<Void> result) {
+    return atz.createCheckStep(
+          userInfo.getUsername(),
+          userInfo.getGroups(),
+          Operation.update,
+          Resource.DOMAINS,
+          domain.getDomainUid(),
+          Scope.namespace,
+          domain.getMetadata().getNamespace(),
+          new VerifyAccessStep(result));
+  }
+
+  private Domain getScalingTargetDomain(ScaleClusterTargetModel target) {
+    if (target.getDomainUid() == null) {
+      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_SCALING_TARGET, target);
+    }
+
+    return getDomain(target.getDomainUid())
+          .orElseThrow(() -> createNotFoundException(target.getDomainUid()));
+  }
+
+  private void verifyScalingTarget(Domain domain, ScaleClusterTargetModel target) {
+    if (target.getCluster() == null) {
+      throw createWebApplicationException(Status.BAD_REQUEST, MessageKeys.INVALID_SCALING_TARGET, target);
+    }
+    if (target.getManagedServerCount() < 0) {
+      throw createWebApplicationException(
+          Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, target.getManagedServerCount());
+    }
+    if (!getWlsConfiguredClusters(domain.getDomainUid()).containsKey(target.getCluster())) {
+      throw createWebApplicationException(
+          Status.NOT_FOUND, MessageKeys.SCALING_CLUSTER_NOT_FOUND, target.getCluster(), domain.getDomainUid());
+    }
+    verifyWlsConfiguredClusterCapacity(domain, target.getCluster(), target.getManagedServerCount());
+  }
+
+  // Builds a single patch for all of the requested clusters in the domain, so that the operator sees only
+  // one change to the domain resource. The patch is sent even when the cached domain already shows the requested
+  // counts, since the cache may not yet reflect an earlier scaling request.
+  private CompletionStage<Void> patchClusterReplicas(Domain domain, Map<String, Integer> clusterReplicas) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Step patchStep = createPatchReplicasStep(domain, clusterReplicas, result, 1);
+    engine.createFiber().start(patchStep, new Packet(), new CompleteFutureCallback(result));
+    return result;
+  }
+
+  private Step createPatchReplicasStep(
+        Domain domain, Map<String, Integer> clusterReplicas, CompletableFuture<Void> result, int attempt) {
+    return new CallBuilder()
+          .patchDomainAsync(
               domain.getDomainUid(), domain.getMetadata().getNamespace(),
-              new V1Patch(patchBuilder.build().toString()));
-    } catch (ApiException e) {
-      throw handleApiException(e);
+              new V1Patch(createReplicasPatch(domain, clusterReplicas).toString()),
+              new PatchReplicasResponseStep(domain, clusterReplicas, result, attempt));
+  }
+
+  // The cluster indexes are those of the domain from which the patch is built, so the patch first tests that
+  // the domain has not changed since. If it has, the API server rejects the patch, and it is rebuilt from a
+  // fresh read of the domain.
+  private JsonPatch createReplicasPatch(Domain domain, Map<String, Integer> clusterReplicas) {
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    Optional.ofNullable(domain.getMetadata().getResourceVersion())
+          .ifPresent(v -> patchBuilder.test("/metadata/resourceVersion", v));
+
+    JsonArrayBuilder newClusters = Json.createArrayBuilder();
+    boolean hasNewClusters = false;
+    for (Map.Entry<String, Integer> entry : clusterReplicas.entrySet()) {
+      int index = getClusterIndex(domain, entry.getKey());
+      if (index >= 0) {
+        patchBuilder.replace("/spec/clusters/" + index + "/replicas", entry.getValue());
+      } else if (domain.getSpec().getClusters().isEmpty()) {
+        newClusters.add(createClusterReplicas(entry.getKey(), entry.getValue()));
+        hasNewClusters = true;
+      } else {
+        patchBuilder.add("/spec/clusters/-", createClusterReplicas(entry.getKey(), entry.getValue()));
+      }
     }
+
+    if (hasNewClusters) {
+      patchBuilder.add("/spec/clusters", newClusters.build());
+    }
+    return patchBuilder.build();
+  }
+
+  private JsonObject createClusterReplicas(String cluster, int replicas) {
+    return Json.createObjectBuilder().add("clusterName", cluster).add("replicas", replicas).build();
+  }
+
+  // The patch is sent by a fiber on the operator's engine, so that the REST worker thread is not blocked
+  // while waiting for the API server to respond.
+  private CompletionStage<Void> patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Step patchStep = new CallBuilder()
+          .patchDomainAsync(
+              domain.getDomainUid(), domain.getMetadata().getNamespace(),
+              new V1Patch(patchBuilder.build().toString()), new PatchDomainResponseStep(result));
+    engine.createFiber().start(patchStep, new Packet(), new CompleteFutureCallback(result));
+    return result;
   }
 
   private int getClusterIndex(Domain domain, String cluster) {
@@ -391,9 +515,19 @@ public class RestBackendImpl implements RestBackend {
     return new WlsDomainConfig(null);
   }
 
-  private WebApplicationException handleApiException(ApiException e) {
-    // TBD - what about e.getResponseHeaders?
-    return createWebApplicationException(e.getCode(), e.getResponseBody());
+  private WebApplicationException handleFailedCall(CallResponse<Domain> callResponse) {
+    // TBD - what about the response headers?
+    return createWebApplicationException(getFailureStatus(callResponse), getResponseBody(callResponse));
+  }
+
+  private String getResponseBody(CallResponse<Domain> callResponse) {
+    return Optional.ofNullable(callResponse.getE()).map(ApiException::getResponseBody).orElse(null);
+  }
+
+  // a status code of zero indicates that the call timed out
+  private int getFailureStatus(CallResponse<Domain> callResponse) {
+    return callResponse.getStatusCode() == 0
+        ? Status.SERVICE_UNAVAILABLE.getStatusCode() : callResponse.getStatusCode();
   }
 
   private WebApplicationException createWebApplicationException(
@@ -414,6 +548,116 @@ public class RestBackendImpl implements RestBackend {
     return new WebApplicationException(rb.build());
   }
 
+  private class VerifyAccessStep extends Step {
+    private final CompletableFuture<Void> result;
+
+    VerifyAccessStep(CompletableFuture<Void> result) {
+      this.result = result;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (AuthorizationProxy.isAllowed(packet)) {
+        return doNext(packet);
+      }
+
+      result.completeExceptionally(createWebApplicationException(Status.FORBIDDEN, null));
+      return doEnd(packet);
+    }
+  }
+
+  private class PatchDomainResponseStep extends ResponseStep<Domain> {
+    private final CompletableFuture<Void> result;
+
+    PatchDomainResponseStep(CompletableFuture<Void> result) {
+      this.result = result;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      result.complete(null);
+      return doEnd(packet);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+      result.completeExceptionally(handleFailedCall(callResponse));
+      return doEnd(packet);
+    }
+  }
+
+  private class PatchReplicasResponseStep extends ResponseStep<Domain> {
+    private final Domain domain;
+    private final Map<String, Integer> clusterReplicas;
+    private final CompletableFuture<Void> result;
+    private final int attempt;
+
+    PatchReplicasResponseStep(
+          Domain domain, Map<String, Integer> clusterReplicas, CompletableFuture<Void> result, int attempt) {
+      this.domain = domain;
+      this.clusterReplicas = clusterReplicas;
+      this.result = result;
+      this.attempt = attempt;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      result.complete(null);
+      return doEnd(packet);
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+      if (isDomainChanged(callResponse) && attempt < MAX_SCALING_ATTEMPTS) {
+        return doNext(createRereadDomainStep(), packet);
+      }
+      result.completeExceptionally(handleFailedCall(callResponse));
+      return doEnd(packet);
+    }
+
+    // A failed test operation is reported as unprocessable
+    private boolean isDomainChanged(CallResponse<Domain> callResponse) {
+      return callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY
+          || callResponse.getStatusCode() == HTTP_CONFLICT;
+    }
+
+    private Step createRereadDomainStep() {
+      return new CallBuilder().readDomainAsync(
+          domain.getMetadata().getName(), domain.getMetadata().getNamespace(), new RereadDomainResponseStep());
+    }
+
+    private class RereadDomainResponseStep extends ResponseStep<Domain> {
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+        return doNext(createPatchReplicasStep(callResponse.getResult(), clusterReplicas, result, attempt + 1), packet);
+      }
+
+      @Override
+      protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+        result.completeExceptionally(handleFailedCall(callResponse));
+        return doEnd(packet);
+      }
+    }
+  }
+
+  private static class CompleteFutureCallback implements CompletionCallback {
+    private final CompletableFuture<Void> result;
+
+    CompleteFutureCallback(CompletableFuture<Void> result) {
+      this.result = result;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      result.complete(null);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      result.completeExceptionally(throwable);
+    }
+  }
+
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
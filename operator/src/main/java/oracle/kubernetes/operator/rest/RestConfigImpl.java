@@ -9,6 +9,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.operator.work.Engine;
 
 /** RestConfigImpl provides the WebLogic Operator REST api configuration. */
 public class RestConfigImpl implements RestConfig {
@@ -17,6 +18,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Engine engine;
 
   /**
    * Constructs a RestConfigImpl.
@@ -24,11 +26,13 @@ public class RestConfigImpl implements RestConfig {
    * @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param targetNamespaces is a list of the Kubernetes Namespaces covered by this Operator.
+   * @param engine is the engine on which the REST backends run their requests to Kubernetes.
    */
-  public RestConfigImpl(String principal, Collection<String> targetNamespaces) {
+  public RestConfigImpl(String principal, Collection<String> targetNamespaces, Engine engine) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     this.targetNamespaces = targetNamespaces;
+    this.engine = engine;
     LOGGER.exiting();
   }
 
@@ -90,7 +94,7 @@ public class RestConfigImpl implements RestConfig {
   @Override
   public RestBackend getBackend(String accessToken) {
     LOGGER.entering();
-    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces);
+    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces, engine);
     LOGGER.exiting();
     return result;
   }
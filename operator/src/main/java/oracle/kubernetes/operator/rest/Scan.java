@@ -3,23 +3,74 @@
 
 package oracle.kubernetes.operator.rest;
 
+import java.util.function.Supplier;
+
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import org.joda.time.DateTime;
 
 public class Scan {
-  public final WlsDomainConfig domainConfig;
-  public final DateTime lastScanTime;
+  private final DateTime lastScanTime;
+  private final String resourceVersion;
+  private Supplier<WlsDomainConfig> domainConfigSupplier;
+  private WlsDomainConfig domainConfig;
 
   public Scan(WlsDomainConfig domainConfig, DateTime lastScanTime) {
+    this(domainConfig, lastScanTime, null);
+  }
+
+  /**
+   * Creates a scan of the topology read from a particular version of the introspector config map.
+   * @param domainConfig the domain topology
+   * @param lastScanTime the time at which the topology was recorded
+   * @param resourceVersion the resource version of the config map holding the topology, or null if unknown
+   */
+  public Scan(WlsDomainConfig domainConfig, DateTime lastScanTime, String resourceVersion) {
     this.domainConfig = domainConfig;
     this.lastScanTime = lastScanTime;
+    this.resourceVersion = resourceVersion;
+  }
+
+  private Scan(Supplier<WlsDomainConfig> domainConfigSupplier, DateTime lastScanTime, String resourceVersion) {
+    this.domainConfigSupplier = domainConfigSupplier;
+    this.lastScanTime = lastScanTime;
+    this.resourceVersion = resourceVersion;
+  }
+
+  /**
+   * Creates a scan whose topology is computed only when first requested, so that a scan may be recorded
+   * for every existing domain at startup without paying the cost of parsing each topology up front.
+   * @param domainConfigSupplier a function to compute the domain topology
+   * @param lastScanTime the time at which the topology was recorded
+   * @param resourceVersion the resource version of the config map holding the topology
+   * @return a new scan
+   */
+  public static Scan createDeferred(
+        Supplier<WlsDomainConfig> domainConfigSupplier, DateTime lastScanTime, String resourceVersion) {
+    return new Scan(domainConfigSupplier, lastScanTime, resourceVersion);
   }
 
-  public WlsDomainConfig getWlsDomainConfig() {
+  /**
+   * Returns the domain topology, computing it if this scan was deferred.
+   * @return the topology, or null if none could be computed
+   */
+  public synchronized WlsDomainConfig getWlsDomainConfig() {
+    if (domainConfigSupplier != null) {
+      domainConfig = domainConfigSupplier.get();
+      domainConfigSupplier = null;
+    }
     return domainConfig;
   }
 
   public DateTime getLastScanTime() {
     return lastScanTime;
   }
+
+  /**
+   * Returns true if this scan was recorded from the specified version of the introspector config map.
+   * @param resourceVersion a config map resource version
+   * @return true if the versions match
+   */
+  public boolean isFromResourceVersion(String resourceVersion) {
+    return this.resourceVersion != null && this.resourceVersion.equals(resourceVersion);
+  }
 }
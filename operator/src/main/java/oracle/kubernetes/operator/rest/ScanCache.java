@@ -8,5 +8,13 @@ public interface ScanCache {
 
   public void registerScan(String ns, String domainUid, Scan domainScan);
 
+  /**
+   * Records a scan only if none is yet recorded for the specified domain.
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param domainScan the scan to record
+   */
+  public void registerScanIfAbsent(String ns, String domainUid, Scan domainScan);
+
   public Scan lookupScan(String ns, String domainUid);
 }
@@ -16,6 +16,11 @@ class ScanCacheImpl implements ScanCache {
         .compute(domainUid, (k, current) -> domainScan);
   }
 
+  @Override
+  public void registerScanIfAbsent(String ns, String domainUid, Scan domainScan) {
+    map.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).putIfAbsent(domainUid, domainScan);
+  }
+
   @Override
   public Scan lookupScan(String ns, String domainUid) {
     Map<String, Scan> m = map.get(ns);
@@ -3,9 +3,12 @@
 
 package oracle.kubernetes.operator.rest.backend;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import oracle.kubernetes.operator.rest.model.DomainAction;
+import oracle.kubernetes.operator.rest.model.ScaleClusterTargetModel;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -34,8 +37,9 @@ public interface RestBackend {
    * Applies the specified command to the specified domain.
    * @param domainUid the unique ID of a domain
    * @param params an update command with optional parameters
+   * @return a stage which completes when the command has been applied to the domain resource
    */
-  void performDomainAction(String domainUid, DomainAction params);
+  CompletionStage<Void> performDomainAction(String domainUid, DomainAction params);
 
   /**
    * Get the names of the clusters in a WebLogic domain.
@@ -60,9 +64,8 @@ public interface RestBackend {
 
   /**
    * Scales the number of managed servers in a WebLogic cluster. This method configures the desired
-   * number of managed servers, both at the Kubernetes and WebLogic cluster levels, then returns. It
-   * does not wait for the number of running managed servers to match the configured number of
-   * servers.
+   * number of managed servers, both at the Kubernetes and WebLogic cluster levels. It does not wait
+   * for the number of running managed servers to match the configured number of servers.
    *
    * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
    *     with the WebLogic operator. The caller is responsible for calling isDomainUid first and not
@@ -70,6 +73,17 @@ public interface RestBackend {
    * @param cluster - the name of the cluster in the WebLogic domain. The caller is responsible for
    *     calling isCluster first and not calling this method if the cluster does not exist.
    * @param managedServerCount - the desired number of WebLogic managed servers.
+   * @return a stage which completes when the new replica count has been applied to the domain resource
    */
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount);
+  public CompletionStage<Void> scaleCluster(String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Scales the number of managed servers in a number of WebLogic clusters, possibly in different domains.
+   * All of the requests are validated before any domain is updated, and the changes to each domain are
+   * applied with a single update, so that the operator need only process one change per domain.
+   *
+   * @param targets - the clusters to scale, and the desired number of managed servers in each.
+   * @return a stage which completes when the new replica counts have been applied to all the domain resources
+   */
+  CompletionStage<Void> scaleClusters(List<ScaleClusterTargetModel> targets);
 }
@@ -0,0 +1,78 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ScaleClusterTargetModel describes one WebLogic cluster to be scaled by a bulk scaling operation,
+ * and the desired number of managed servers in it.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScaleClusterTargetModel extends ScaleClusterParamsModel {
+
+  @JsonProperty("domainUID")
+  private String domainUid;
+
+  private String cluster;
+
+  /** Construct an empty ScaleClusterTargetModel. */
+  public ScaleClusterTargetModel() {
+  }
+
+  /**
+   * Construct a populated ScaleClusterTargetModel.
+   *
+   * @param domainUid - the unique identifier assigned to the WebLogic domain that contains the cluster.
+   * @param cluster - the name of the WebLogic cluster.
+   * @param managedServerCount - the desired number of managed servers.
+   */
+  public ScaleClusterTargetModel(String domainUid, String cluster, int managedServerCount) {
+    setDomainUid(domainUid);
+    setCluster(cluster);
+    setManagedServerCount(managedServerCount);
+  }
+
+  /**
+   * Get the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @return the domain's unique identifier.
+   */
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  /**
+   * Set the unique identifier of the WebLogic domain that contains the cluster.
+   *
+   * @param domainUid - the domain's unique identifier.
+   */
+  public void setDomainUid(String domainUid) {
+    this.domainUid = domainUid;
+  }
+
+  /**
+   * Get the name of the WebLogic cluster to scale.
+   *
+   * @return the cluster's name.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the name of the WebLogic cluster to scale.
+   *
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "domainUID=" + getDomainUid() + ", cluster=" + getCluster() + ", " + super.propertiesToString();
+  }
+}
@@ -0,0 +1,42 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * ScaleClustersParamsModel describes the input parameters to the bulk scaling operation, which scales
+ * any number of WebLogic clusters, in one or more domains, in a single request.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScaleClustersParamsModel extends BaseModel {
+
+  private List<ScaleClusterTargetModel> clusters = new ArrayList<>();
+
+  /**
+   * Get the clusters to scale.
+   *
+   * @return a list describing each cluster and its desired number of managed servers.
+   */
+  public List<ScaleClusterTargetModel> getClusters() {
+    return clusters;
+  }
+
+  /**
+   * Set the clusters to scale.
+   *
+   * @param clusters - a list describing each cluster and its desired number of managed servers.
+   */
+  public void setClusters(List<ScaleClusterTargetModel> clusters) {
+    this.clusters = clusters;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "clusters=" + getClusters(); // super has no properties
+  }
+}
@@ -5,7 +5,10 @@ package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
@@ -75,6 +78,27 @@ public class BaseResource {
     lc.addLink(rel, href(rel));
   }
 
+  /**
+   * Resumes a suspended request when the specified backend operation completes, reporting any failure.
+   *
+   * @param asyncResponse - the suspended response.
+   * @param stage - the stage which performs the backend operation.
+   */
+  protected void resumeOnCompletion(AsyncResponse asyncResponse, CompletionStage<Void> stage) {
+    stage.whenComplete((result, throwable) -> {
+      if (throwable == null) {
+        asyncResponse.resume(Response.noContent().build());
+      } else {
+        asyncResponse.resume(unwrap(throwable));
+      }
+    });
+  }
+
+  private Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+  }
+
   protected WebApplicationException notFound(String pathSegment) {
     String notFoundHref = href(pathSegment);
     return new WebApplicationException(
@@ -8,6 +8,8 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -54,11 +56,12 @@ public class DomainResource extends BaseResource {
    * Apply changes to this domain. The changes depend on the details of the specified instructions
    *
    * @param params - an update command, including a command type and optional parameters
+   * @param asyncResponse - the response, which is resumed when the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final DomainAction params) {
-    getBackend().performDomainAction(getDomainUid(), params);
+  public void post(final DomainAction params, @Suspended AsyncResponse asyncResponse) {
+    resumeOnCompletion(asyncResponse, getBackend().performDomainAction(getDomainUid(), params));
   }
 
   /**
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.rest.resource;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -32,17 +34,19 @@ public class ScaleClusterResource extends BaseResource {
 
   /**
    * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
-   * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * servers at both the Kubernetes and WebLogic levels, then resumes the response. It does not wait
+   * for the new managed servers to start or removed managed servers to stop.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the response, which is resumed when the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public void post(final ScaleClusterParamsModel params, @Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    resumeOnCompletion(asyncResponse,
+        getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount()));
     LOGGER.exiting();
   }
 
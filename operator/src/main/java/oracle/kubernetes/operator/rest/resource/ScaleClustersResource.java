@@ -0,0 +1,52 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.ScaleClustersParamsModel;
+
+/**
+ * ScaleClustersResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/scale path. It can be used to scale any number of WebLogic clusters, in one or
+ * more domains, with a single request.
+ */
+public class ScaleClustersResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a ScaleClustersResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public ScaleClustersResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Scale the specified WebLogic clusters up or down. All of the requested counts are validated before
+   * any domain is changed; the changes to each domain are then applied with a single update. The response
+   * is resumed when all of the domains have been updated. It does not wait for the new managed servers
+   * to start or removed managed servers to stop.
+   *
+   * @param params - a ScaleClustersParamsModel that specifies the desired number of managed servers
+   *     in each cluster
+   * @param asyncResponse - the response, which is resumed when the domains have been updated
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  public void post(final ScaleClustersParamsModel params, @Suspended AsyncResponse asyncResponse) {
+    LOGGER.entering(href(), params);
+    resumeOnCompletion(asyncResponse, getBackend().scaleClusters(params.getClusters()));
+    LOGGER.exiting();
+  }
+}
@@ -50,6 +50,7 @@ public class VersionResource extends BaseResource {
     addSelfAndParentLinks(item);
     addLink(item, "domains");
     addLink(item, "swagger");
+    addActionLink(item, "scale");
     LOGGER.exiting(item);
     return item;
   }
@@ -80,6 +81,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'scale' jaxrs child resource.
+   *
+   * @return the bulk scaling sub resource.
+   */
+  @Path("scale")
+  public ScaleClustersResource getScaleClustersResource() {
+    LOGGER.entering(href());
+    ScaleClustersResource result = new ScaleClustersResource(this, "scale");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getVersion() {
     return getPathSegment();
   }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -32,6 +33,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.helpers.SecretType;
 import oracle.kubernetes.operator.http.HttpAsyncRequestStep;
+import oracle.kubernetes.operator.http.HttpClientPool;
 import oracle.kubernetes.operator.http.HttpResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -190,6 +192,7 @@ public class ReadHealthStep extends Step {
           .header("Accept", "application/json")
           .header("Content-Type", "application/json")
           .header("X-Requested-By", "WebLogic Operator")
+          .timeout(Duration.ofSeconds(HTTP_TIMEOUT_SECONDS))
           .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
           .build();
     }
@@ -325,11 +328,19 @@ public class ReadHealthStep extends Step {
     public NextAction apply(Packet packet) {
       ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
       HttpRequest request = processing.createRequest(processing.getRequestUrl());
-      return doNext(createRequestStep(request, new RecordHealthStep(getNext())), packet);
+      return doNext(createRequestStep(request, getClientKey(packet), new RecordHealthStep(getNext())), packet);
     }
 
-    private HttpAsyncRequestStep createRequestStep(HttpRequest request, RecordHealthStep responseStep) {
+    private String getClientKey(Packet packet) {
+      return Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+            .map(info -> HttpClientPool.getClientKey(info.getNamespace(), info.getDomainUid()))
+            .orElse(null);
+    }
+
+    private HttpAsyncRequestStep createRequestStep(
+          HttpRequest request, String clientKey, RecordHealthStep responseStep) {
       return HttpAsyncRequestStep.create(request, responseStep)
+            .withClientKey(clientKey)
             .withTimeoutSeconds(HTTP_TIMEOUT_SECONDS);
     }
 
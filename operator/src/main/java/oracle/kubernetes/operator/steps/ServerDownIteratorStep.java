@@ -3,15 +3,40 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.OperatorUtils;
+import oracle.kubernetes.utils.SystemClock;
 
+/**
+ * A step which shuts down the specified servers. Managed servers which are not in a cluster are shut down in parallel.
+ * The members of each cluster are shut down in the reverse of their start order, in waves no larger than
+ * the cluster's configured maximum concurrent shutdown. The administration server, if it is to be shut down,
+ * is shut down only after all of the managed servers are down.
+ */
 public class ServerDownIteratorStep extends Step {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
   private final List<String> serverNames;
 
   ServerDownIteratorStep(List<String> serverNames, Step next) {
@@ -19,6 +44,16 @@ public class ServerDownIteratorStep extends Step {
     this.serverNames = serverNames;
   }
 
+  /**
+   * Creates a step which shuts down the specified servers.
+   * @param serverNames the names of the servers to shut down
+   * @param next the step to run once all of the servers are down
+   * @return the created step
+   */
+  public static Step createServersDownStep(List<String> serverNames, Step next) {
+    return new ServerDownIteratorStep(serverNames, next);
+  }
+
   List<String> getServersToStop() {
     return serverNames;
   }
@@ -30,17 +65,120 @@ public class ServerDownIteratorStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Collection<StepAndPacket> startDetails =
-        getServersToStop().stream()
-            .map(
-                serverName ->
-                    new StepAndPacket(new ServerDownStep(serverName, null), packet.clone()))
-            .collect(Collectors.toList());
-
-    if (startDetails.isEmpty()) {
-      return doNext(packet);
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    String adminServerName = getAdminServerName(packet);
+
+    Collection<StepAndPacket> work = new ArrayList<>();
+    Map<String, Queue<StepAndPacket>> clusteredShutdowns = new LinkedHashMap<>();
+    for (String serverName : getServersInShutdownOrder()) {
+      if (serverName.equals(adminServerName)) {
+        continue;
+      }
+
+      StepAndPacket shutdown = new StepAndPacket(new TimedServerDownStep(serverName, null), packet.clone());
+      String clusterName = getClusterName(info, serverName);
+      if (clusterName == null) {
+        work.add(shutdown);
+      } else {
+        clusteredShutdowns.computeIfAbsent(clusterName, c -> new ConcurrentLinkedQueue<>()).add(shutdown);
+      }
+    }
+
+    for (Map.Entry<String, Queue<StepAndPacket>> entry : clusteredShutdowns.entrySet()) {
+      work.add(new StepAndPacket(
+          new ShutdownClusteredServersStep(getMaxConcurrentShutdown(info, entry.getKey()), entry.getValue()),
+          packet));
+    }
+
+    Step next = serverNames.contains(adminServerName)
+        ? new TimedServerDownStep(adminServerName, getNext())
+        : getNext();
+    if (work.isEmpty()) {
+      return doNext(next, packet);
     } else {
-      return doForkJoin(getNext(), packet, startDetails);
+      return doForkJoin(next, packet, work);
+    }
+  }
+
+  // Servers are started in ascending order of their names, so the reverse order stops the most recently added first.
+  private List<String> getServersInShutdownOrder() {
+    return serverNames.stream()
+        .sorted((s1, s2) -> OperatorUtils.compareSortingStrings(s2, s1))
+        .collect(Collectors.toList());
+  }
+
+  private String getAdminServerName(Packet packet) {
+    return Optional.ofNullable((WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY))
+        .map(WlsDomainConfig::getAdminServerName)
+        .orElse(null);
+  }
+
+  private String getClusterName(DomainPresenceInfo info, String serverName) {
+    return Optional.ofNullable(info)
+        .map(i -> i.getServerPod(serverName))
+        .map(V1Pod::getMetadata)
+        .map(V1ObjectMeta::getLabels)
+        .map(labels -> labels.get(LabelConstants.CLUSTERNAME_LABEL))
+        .orElse(null);
+  }
+
+  private int getMaxConcurrentShutdown(DomainPresenceInfo info, String clusterName) {
+    return Optional.ofNullable(info.getDomain()).map(d -> d.getMaxConcurrentShutdown(clusterName)).orElse(0);
+  }
+
+  private static class ShutdownClusteredServersStep extends Step {
+    private final int maxConcurrency;
+    private final Queue<StepAndPacket> shutdowns;
+
+    ShutdownClusteredServersStep(int maxConcurrency, Queue<StepAndPacket> shutdowns) {
+      super(null);
+      this.maxConcurrency = maxConcurrency;
+      this.shutdowns = shutdowns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> wave = new ArrayList<>();
+      while (!shutdowns.isEmpty() && (maxConcurrency <= 0 || wave.size() < maxConcurrency)) {
+        wave.add(shutdowns.poll());
+      }
+
+      return wave.isEmpty() ? doNext(packet) : doForkJoin(this, packet, wave);
+    }
+  }
+
+  private static class TimedServerDownStep extends Step {
+    private final String serverName;
+
+    TimedServerDownStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      long startTime = SystemClock.now().getMillis();
+      Step reportStep = new ReportShutdownTimeStep(serverName, startTime, getNext());
+      return doNext(new ServerDownStep(serverName, reportStep), packet);
+    }
+  }
+
+  private static class ReportShutdownTimeStep extends Step {
+    private final String serverName;
+    private final long startTime;
+
+    ReportShutdownTimeStep(String serverName, long startTime, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.startTime = startTime;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo.fromPacket(packet).ifPresent(info ->
+          LOGGER.info(MessageKeys.SERVER_SHUT_DOWN, info.getDomainUid(), serverName,
+              SystemClock.now().getMillis() - startTime));
+      return doNext(packet);
     }
   }
 }
@@ -137,8 +137,9 @@ public class WlsClusterConfig {
    * @param serverName the name to look for
    * @return true or false
    */
-  public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+  public synchronized boolean hasNamedServer(String serverName) {
+    return servers.stream().anyMatch(c -> serverName.equals(c.getName()))
+        || (dynamicServersConfig != null && dynamicServersConfig.hasServerNamed(serverName));
   }
 
   /**
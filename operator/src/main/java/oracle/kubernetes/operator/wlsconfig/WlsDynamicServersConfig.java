@@ -32,6 +32,7 @@ public class WlsDynamicServersConfig {
   WlsServerConfig serverTemplate;
   String machineNameMatchExpression;
   List<WlsServerConfig> serverConfigs;
+  private ServerConfigsGenerator generator;
 
   public WlsDynamicServersConfig() {
   }
@@ -264,12 +265,31 @@ public class WlsDynamicServersConfig {
    * @return A list of WlsServerConfig objects containing configurations of WLS dynamic server that
    *     can be started under the current cluster size
    */
-  public List<WlsServerConfig> getServerConfigs() {
+  public synchronized List<WlsServerConfig> getServerConfigs() {
+    if (generator != null) {
+      serverConfigs = generator.createServerConfigs();
+      generator = null;
+    }
     return serverConfigs;
   }
 
-  public void setServerConfigs(List<WlsServerConfig> serverConfigs) {
+  public synchronized void setServerConfigs(List<WlsServerConfig> serverConfigs) {
     this.serverConfigs = serverConfigs;
+    this.generator = null;
+  }
+
+  /**
+   * Returns true if one of the dynamic servers has the specified name. If the server configurations
+   * have not yet been created, answers from the name prefix and cluster size without creating them.
+   *
+   * @param serverName the name to look for
+   * @return true or false
+   */
+  public synchronized boolean hasServerNamed(String serverName) {
+    if (generator != null) {
+      return generator.generatesServerNamed(serverName);
+    }
+    return serverConfigs != null && serverConfigs.stream().anyMatch(c -> c.getName().equals(serverName));
   }
 
   /**
@@ -318,25 +338,17 @@ public class WlsDynamicServersConfig {
   }
 
   /**
-   * Generate the Dynamic Server configurations.
+   * Generate the Dynamic Server configurations. The configurations are not created until
+   * they are first requested.
    * @param serverTemplate name of the dynamic server template
    * @param clusterName name of the cluster
    * @param domainName name of the domain
    */
-  public void generateDynamicServerConfigs(
+  public synchronized void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
-    List<String> dynamicServerNames = generateDynamicServerNames();
-    serverConfigs =
-        createServerConfigsFromTemplate(
-            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
-  }
-
-  private List<String> generateDynamicServerNames() {
-    List<String> serverNames = new ArrayList<>();
-    for (int index = 1; index <= dynamicClusterSize; index++) {
-      serverNames.add(serverNamePrefix + index);
-    }
-    return serverNames;
+    serverConfigs = null;
+    generator = new ServerConfigsGenerator(
+        dynamicClusterSize, serverNamePrefix, serverTemplate, clusterName, domainName, calculatedListenPorts);
   }
 
   @Override
@@ -351,7 +363,7 @@ public class WlsDynamicServersConfig {
         .append("calculatedListenPorts", calculatedListenPorts)
         .append("serverTemplate", serverTemplate)
         .append("machineNameMatchExpression", machineNameMatchExpression)
-        .append("serverConfigs", serverConfigs)
+        .append("serverConfigs", getServerConfigs())
         .toString();
   }
 
@@ -368,7 +380,7 @@ public class WlsDynamicServersConfig {
             .append(calculatedListenPorts)
             .append(serverTemplate)
             .append(machineNameMatchExpression)
-            .append(serverConfigs);
+            .append(getServerConfigs());
     return builder.toHashCode();
   }
 
@@ -393,7 +405,47 @@ public class WlsDynamicServersConfig {
             .append(calculatedListenPorts, rhs.calculatedListenPorts)
             .append(serverTemplate, rhs.serverTemplate)
             .append(machineNameMatchExpression, rhs.machineNameMatchExpression)
-            .append(serverConfigs, rhs.serverConfigs);
+            .append(getServerConfigs(), rhs.getServerConfigs());
     return builder.isEquals();
   }
+
+  private static class ServerConfigsGenerator {
+    private final int clusterSize;
+    private final String serverNamePrefix;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+    private final boolean calculatedListenPorts;
+
+    ServerConfigsGenerator(int clusterSize, String serverNamePrefix, WlsServerConfig serverTemplate,
+                           String clusterName, String domainName, boolean calculatedListenPorts) {
+      this.clusterSize = clusterSize;
+      this.serverNamePrefix = serverNamePrefix;
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+      this.calculatedListenPorts = calculatedListenPorts;
+    }
+
+    List<WlsServerConfig> createServerConfigs() {
+      return createServerConfigsFromTemplate(
+          createServerNames(), serverTemplate, clusterName, domainName, calculatedListenPorts);
+    }
+
+    private List<String> createServerNames() {
+      List<String> serverNames = new ArrayList<>();
+      for (int index = 1; index <= clusterSize; index++) {
+        serverNames.add(serverNamePrefix + index);
+      }
+      return serverNames;
+    }
+
+    boolean generatesServerNamed(String serverName) {
+      if (serverName == null || !serverName.startsWith(serverNamePrefix)) {
+        return false;
+      }
+      String suffix = serverName.substring(serverNamePrefix.length());
+      return suffix.matches("[1-9][0-9]{0,8}") && Integer.parseInt(suffix) <= clusterSize;
+    }
+  }
 }
@@ -31,8 +31,19 @@ public interface AsyncFiber {
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle which may be used to cancel the operation before it runs
    */
-  void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
+  Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
+
+  /**
+   * Resumes this fiber once the specified delay has elapsed. The pending resume is discarded if the fiber is
+   * cancelled first.
+   *
+   * @param delay the delay, in units
+   * @param unit the unit of the delay
+   * @param resumePacket the packet to use for resumed operations
+   */
+  void resumeAfter(long delay, TimeUnit unit, Packet resumePacket);
 
   /**
    * Creates a child Fiber. If this Fiber is cancelled, so will all of the children.
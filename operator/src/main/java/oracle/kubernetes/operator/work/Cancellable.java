@@ -0,0 +1,17 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * An operation scheduled to run in the future, which may be cancelled before it runs.
+ */
+public interface Cancellable {
+
+  /**
+   * Cancels the operation, if it has not already run.
+   *
+   * @return true if the operation was cancelled
+   */
+  boolean cancel();
+}
@@ -5,8 +5,10 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -14,16 +16,33 @@ import java.util.concurrent.atomic.AtomicReference;
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
+  public static final int DEFAULT_THREAD_COUNT = 10;
+  private static final int TIMER_WHEEL_SIZE = 512;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final TimerWheel timers;
 
   /**
-   * Creates engine with the specified executor.
+   * Creates engine with the specified executor, which will also run fiber delays and timeouts.
    *
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
     this.threadPool.set(threadPool);
+    this.timers = null;
+  }
+
+  /**
+   * Creates engine with the specified executor, and a timer wheel to run fiber delays and timeouts.
+   *
+   * @param threadPool Executor
+   * @param id Engine id, used to name the timer thread
+   * @param timerTick the interval at which the timer wheel checks for expired delays and timeouts
+   * @param unit the unit of the timer tick
+   */
+  public Engine(ScheduledExecutorService threadPool, String id, long timerTick, TimeUnit unit) {
+    this.threadPool.set(threadPool);
+    this.timers = new TimerWheel(threadPool, timerTick, unit, TIMER_WHEEL_SIZE);
+    this.timers.start(new DaemonThreadFactory(id + "-timer"));
   }
 
   /**
@@ -42,13 +61,28 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
+    return wrap(container, createThreadPool(id));
+  }
+
+  /**
+   * Creates a thread pool on which fibers may run. The caller may resize the pool later.
+   * @param id the prefix for the names of the pool's threads
+   * @return a new thread pool
+   */
+  public static ScheduledThreadPoolExecutor createThreadPool(String id) {
     ScheduledThreadPoolExecutor threadPool =
         new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return threadPool;
   }
 
-  private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
+  /**
+   * Wraps an executor so that the tasks it runs see the specified container.
+   * @param container the container, or null for none
+   * @param ex the executor to wrap
+   * @return the wrapped executor
+   */
+  public static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
 
@@ -65,6 +99,24 @@ public class Engine {
     getExecutor().execute(fiber);
   }
 
+  Cancellable scheduleOnce(Runnable runnable, long delay, TimeUnit unit) {
+    if (timers != null) {
+      return timers.schedule(runnable, delay, unit);
+    } else {
+      ScheduledFuture<?> future = getExecutor().schedule(runnable, delay, unit);
+      return () -> future.cancel(false);
+    }
+  }
+
+  /**
+   * Returns the number of fiber delays and timeouts which are waiting to run.
+   *
+   * @return a count of timers, or zero if this engine does not use a timer wheel
+   */
+  public int getPendingTimerCount() {
+    return timers == null ? 0 : timers.getPendingCount();
+  }
+
   /**
    * Creates a new fiber in a suspended state.
    *
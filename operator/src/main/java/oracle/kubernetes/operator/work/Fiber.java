@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,7 +79,11 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   /** The thread on which this Fiber is currently executing, if applicable. */
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
+  // the timer which will resume this fiber after a delay; cancelled with the fiber, so it does not linger
+  private volatile Cancellable resumeTimer;
+  // Only children which have not yet completed are kept, so that a long-lived fiber does not retain them all
   private Collection<Fiber> children = null;
+  private int childCount;
   // Will only be populated if log level is at least FINE
   private List<BreadCrumb> breadCrumbs = null;
 
@@ -89,7 +94,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   Fiber(Engine engine, Fiber parent) {
     this.owner = engine;
     this.parent = parent;
-    id = (parent == null) ? iotaGen.incrementAndGet() : (parent.children.size() + 1);
+    id = (parent == null) ? iotaGen.incrementAndGet() : ++parent.childCount;
 
     // if this is run from another fiber, then we naturally inherit its context
     // classloader,
@@ -121,14 +126,31 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   }
 
   /**
-   * Use this fiber's executor to schedule an operation for some time in the future.
+   * Use this fiber's engine to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle which may be used to cancel the operation before it runs
    */
   @Override
-  public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
-    this.owner.getExecutor().schedule(runnable, timeout, unit);
+  public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    return this.owner.scheduleOnce(runnable, timeout, unit);
+  }
+
+  @Override
+  public void resumeAfter(long delay, TimeUnit unit, Packet resumePacket) {
+    Cancellable timer = scheduleOnce(delay, unit, () -> resume(resumePacket));
+    resumeTimer = timer;
+    if (isCancelled()) {
+      timer.cancel();
+    }
+  }
+
+  private void cancelResumeTimer() {
+    Cancellable timer = resumeTimer;
+    if (timer != null) {
+      timer.cancel();
+    }
   }
 
   /**
@@ -257,12 +279,12 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   public Fiber createChildFiber() {
     synchronized (this) {
       if (children == null) {
-        children = new ArrayList<>();
+        children = new HashSet<>();
       }
       Fiber child = owner.createChildFiber(this);
 
-      children.add(child);
       if (status.get() == NOT_COMPLETE) {
+        children.add(child);
         addBreadCrumb(child);
       } else {
         // Race condition where child is created after parent is cancelled or done
@@ -284,6 +306,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     if (!status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
       return false;
     }
+    cancelResumeTimer();
 
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("{0} cancelled", getName());
@@ -511,6 +534,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
         }
 
         recordBreadCrumb();
+        if (parent != null) {
+          parent.removeChild(this);
+        }
         try {
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
@@ -531,6 +557,20 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     }
   }
 
+  private synchronized void removeChild(Fiber child) {
+    if (children != null) {
+      children.remove(child);
+    }
+  }
+
+  /**
+   * Returns the number of child fibers which have been created by this fiber and have not yet completed.
+   * @return a count of fibers
+   */
+  synchronized int getActiveChildCount() {
+    return children == null ? 0 : children.size();
+  }
+
   /** Executes the fiber as much as possible. */
   private boolean doRun() {
     // isRequireUnlock will contain Boolean.FALSE when lock has already been
@@ -742,6 +782,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
     status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    cancelResumeTimer();
 
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("{0} cancelled", getName());
@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.work;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -18,11 +19,13 @@ import oracle.kubernetes.operator.work.Fiber.ExitCallback;
  * Allows at most one running Fiber per key value. However, rather than queue later arriving Fibers
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
- * in-flight.
+ * in-flight. Alternatively, a later arriving Fiber may be queued to run once the earlier one completes,
+ * leaving that Fiber to finish its work.
  */
 public class FiberGate {
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<String, Fiber>();
+  private final ConcurrentMap<String, PendingFiber> pendingReruns = new ConcurrentHashMap<>();
 
   private final Fiber placeholder;
 
@@ -77,6 +80,45 @@ public class FiberGate {
     return startFiberIfLastFiberMatches(key, placeholder, strategy, packet, callback);
   }
 
+  /**
+   * Starts Fiber only if there is no running Fiber with the same key. Otherwise, rather than cancel the running
+   * Fiber, arranges for this one to start when the running Fiber completes. Only the latest Fiber queued for a key
+   * is kept, so that a burst of requests while a Fiber is running results in a single rerun; the callbacks of
+   * any Fibers which it replaces are not invoked.
+   *
+   * @param key Key
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @return started Fiber, or null, if the Fiber was queued
+   */
+  public synchronized Fiber startFiberOrQueueRerun(
+      String key, Step strategy, Packet packet, CompletionCallback callback) {
+    if (gateMap.containsKey(key)) {
+      pendingReruns.put(key, new PendingFiber(strategy, packet, callback));
+      return null;
+    }
+    return startFiberIfNoCurrentFiber(key, strategy, packet, callback);
+  }
+
+  /**
+   * Cancels all running Fibers, without invoking their completion callbacks, and discards any queued reruns.
+   */
+  public synchronized void cancelAll() {
+    pendingReruns.clear();
+    gateMap.values().forEach(fiber -> fiber.cancel(true));
+    gateMap.clear();
+  }
+
+  /**
+   * Returns true if a Fiber is queued to start when the running Fiber with the specified key completes.
+   * @param key Key
+   * @return true if a rerun is pending
+   */
+  public boolean hasPendingRerun(String key) {
+    return pendingReruns.containsKey(key);
+  }
+
   /**
    * Starts Fiber only if the last started Fiber matches the given old Fiber.
    *
@@ -110,19 +152,45 @@ public class FiberGate {
         new CompletionCallback() {
           @Override
           public void onCompletion(Packet packet) {
-            gateMap.remove(key, f);
-            callback.onCompletion(packet);
+            releaseGate(key, f, () -> callback.onCompletion(packet));
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
-            gateMap.remove(key, f);
-            callback.onThrowable(packet, throwable);
+            releaseGate(key, f, () -> callback.onThrowable(packet, throwable));
           }
         });
     return f;
   }
 
+  // Runs under the same lock as startFiberOrQueueRerun, so that a rerun cannot be queued between the completed
+  // Fiber leaving the map and the check for a pending rerun, where it would never be started.
+  private synchronized void releaseGate(String key, Fiber fiber, Runnable notifyCallback) {
+    boolean wasCurrent = gateMap.remove(key, fiber);
+    notifyCallback.run();
+    if (wasCurrent) {
+      startPendingRerun(key);
+    }
+  }
+
+  // A Fiber which replaced the completed one will start the rerun in its turn.
+  private void startPendingRerun(String key) {
+    Optional.ofNullable(pendingReruns.remove(key))
+          .ifPresent(pending -> startFiberOrQueueRerun(key, pending.strategy, pending.packet, pending.callback));
+  }
+
+  private static class PendingFiber {
+    private final Step strategy;
+    private final Packet packet;
+    private final CompletionCallback callback;
+
+    PendingFiber(Step strategy, Packet packet, CompletionCallback callback) {
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
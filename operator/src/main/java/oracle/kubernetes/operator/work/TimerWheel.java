@@ -0,0 +1,179 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed wheel of timers. Most fiber delays and timeouts never fire, as the operation they guard completes first;
+ * a scheduled executor would keep each of them in a heap. Here, a new timer is simply appended to a queue, and a
+ * single thread advances the wheel one tick at a time, placing newly-arrived timers in the bucket for the tick at
+ * which they expire and handing every expired timer in the current bucket to the executor. A timer therefore never
+ * runs before its delay has elapsed, and may run up to one tick later.
+ */
+class TimerWheel {
+  private final Executor dispatcher;
+  private final long tickNanos;
+  private final LongSupplier nanoClock;
+  private final long startNanos;
+  private final List<Queue<Timer>> buckets = new ArrayList<>();
+  private final int mask;
+  private final Queue<Timer> newTimers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private long currentTick;
+
+  /**
+   * Creates a timer wheel.
+   * @param dispatcher the executor on which to run expired timers
+   * @param tickDuration the interval between ticks, in units
+   * @param unit the unit of the tick duration
+   * @param wheelSize the number of buckets in the wheel; rounded up to a power of two
+   */
+  TimerWheel(Executor dispatcher, long tickDuration, TimeUnit unit, int wheelSize) {
+    this(dispatcher, tickDuration, unit, wheelSize, System::nanoTime);
+  }
+
+  TimerWheel(Executor dispatcher, long tickDuration, TimeUnit unit, int wheelSize, LongSupplier nanoClock) {
+    this.dispatcher = dispatcher;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.nanoClock = nanoClock;
+    this.startNanos = nanoClock.getAsLong();
+
+    int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    for (int i = 0; i < size; i++) {
+      buckets.add(new ArrayDeque<>());
+    }
+    mask = size - 1;
+  }
+
+  /**
+   * Starts the thread which advances the wheel, if it is not already running.
+   * @param threadFactory the factory used to create the thread
+   */
+  void start(ThreadFactory threadFactory) {
+    if (started.compareAndSet(false, true)) {
+      threadFactory.newThread(this::runTicks).start();
+    }
+  }
+
+  /**
+   * Schedules a task to run once the specified delay has elapsed.
+   * @param task the task to run
+   * @param delay the delay, in units
+   * @param unit the unit of the delay
+   * @return a timer which may be used to cancel the task
+   */
+  Timer schedule(Runnable task, long delay, TimeUnit unit) {
+    long elapsed = nanoClock.getAsLong() - startNanos + unit.toNanos(delay);
+    Timer timer = new Timer(task, (elapsed + tickNanos - 1) / tickNanos);
+    pendingCount.incrementAndGet();
+    newTimers.add(timer);
+    return timer;
+  }
+
+  /**
+   * Returns the number of timers which have been scheduled and have neither run nor been cancelled.
+   * @return a count of timers
+   */
+  int getPendingCount() {
+    return pendingCount.get();
+  }
+
+  private void runTicks() {
+    while (!Thread.currentThread().isInterrupted()) {
+      long remainingNanos = startNanos + (currentTick + 1) * tickNanos - nanoClock.getAsLong();
+      if (remainingNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        } catch (InterruptedException e) {
+          return;
+        }
+      } else {
+        advance();
+      }
+    }
+  }
+
+  /**
+   * Advances the wheel by one tick, running any timers which have expired. Only one thread may call this method.
+   */
+  void advance() {
+    long tick = currentTick + 1;
+    addNewTimers(tick);
+
+    Iterator<Timer> timers = buckets.get((int) (tick & mask)).iterator();
+    while (timers.hasNext()) {
+      Timer timer = timers.next();
+      if (timer.isDone()) {
+        timers.remove();
+      } else if (timer.remainingRounds > 0) {
+        timer.remainingRounds--;
+      } else {
+        timers.remove();
+        timer.expire();
+      }
+    }
+    currentTick = tick;
+  }
+
+  private void addNewTimers(long tick) {
+    Timer timer;
+    while (null != (timer = newTimers.poll())) {
+      long expiryTick = Math.max(timer.expiryTick, tick);
+      timer.remainingRounds = (expiryTick - tick) / buckets.size();
+      buckets.get((int) (expiryTick & mask)).add(timer);
+    }
+  }
+
+  class Timer implements Cancellable {
+    private final Runnable task;
+    private final long expiryTick;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private long remainingRounds;
+
+    Timer(Runnable task, long expiryTick) {
+      this.task = task;
+      this.expiryTick = expiryTick;
+    }
+
+    /**
+     * Cancels this timer, if it has not already run.
+     * @return true if the timer was cancelled
+     */
+    @Override
+    public boolean cancel() {
+      return markDone();
+    }
+
+    private boolean isDone() {
+      return done.get();
+    }
+
+    private void expire() {
+      if (markDone()) {
+        dispatcher.execute(task);
+      }
+    }
+
+    private boolean markDone() {
+      if (!done.compareAndSet(false, true)) {
+        return false;
+      }
+      pendingCount.decrementAndGet();
+      return true;
+    }
+  }
+}
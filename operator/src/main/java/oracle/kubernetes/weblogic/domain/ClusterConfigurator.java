@@ -16,6 +16,8 @@ public interface ClusterConfigurator extends ServiceConfigurator {
 
   ClusterConfigurator withMaxUnavailable(int maxUnavailable);
 
+  ClusterConfigurator withMaxSurge(int maxSurge);
+
   ClusterConfigurator withDesiredState(String state);
 
   ClusterConfigurator withEnvironmentVariable(String name, String value);
@@ -132,4 +134,6 @@ public interface ClusterConfigurator extends ServiceConfigurator {
   ClusterConfigurator withAllowReplicasBelowDynClusterSize(boolean allowReplicasBelowDynClusterSize);
 
   ClusterConfigurator withMaxConcurrentStartup(Integer maxConcurrentStartup);
+
+  ClusterConfigurator withMaxConcurrentShutdown(Integer maxConcurrentShutdown);
 }
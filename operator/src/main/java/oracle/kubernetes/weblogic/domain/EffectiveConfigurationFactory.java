@@ -27,6 +27,8 @@ public interface EffectiveConfigurationFactory {
 
   int getMaxUnavailable(String clusterName);
 
+  int getMaxSurge(String clusterName);
+
   boolean isShuttingDown();
 
   List<String> getAdminServerChannelNames();
@@ -34,4 +36,6 @@ public interface EffectiveConfigurationFactory {
   boolean isAllowReplicasBelowMinDynClusterSize(String clusterName);
 
   int getMaxConcurrentStartup(String clusterName);
+
+  int getMaxConcurrentShutdown(String clusterName);
 }
@@ -560,6 +560,39 @@ public class WeblogicApi {
       Boolean watch,
       ApiCallback callback)
       throws ApiException {
+    return listNamespacedDomainCall(namespace, pretty, null, cont, fieldSelector, labelSelector, limit,
+          resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  /**
+   * Generate call to list domains.
+   * @param namespace namespace
+   * @param pretty pretty flag
+   * @param allowWatchBookmarks if a watch should receive bookmark events
+   * @param cont continuation
+   * @param fieldSelector field selector
+   * @param labelSelector label selector
+   * @param limit limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds timeout
+   * @param watch if watch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listNamespacedDomainCall(
+      String namespace,
+      String pretty,
+      Boolean allowWatchBookmarks,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
     final Object localVarPostBody = null;
     final String localVarPath =
         DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
@@ -569,6 +602,11 @@ public class WeblogicApi {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("pretty", pretty));
     }
 
+    if (allowWatchBookmarks != null) {
+      localVarQueryParams.addAll(
+          this.localVarApiClient.parameterToPair("allowWatchBookmarks", allowWatchBookmarks));
+    }
+
     if (cont != null) {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("continue", cont));
     }
@@ -0,0 +1,109 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
+
+/**
+ * An effective configuration factory which remembers the server and cluster specifications it has computed
+ * for a particular generation of a domain resource. Computing an effective specification merges the domain,
+ * cluster and server levels of the resource, which is wasteful to repeat when the resource has not changed.
+ */
+class CachingEffectiveConfigurationFactory implements EffectiveConfigurationFactory {
+  private final long generation;
+  private final DomainSpec spec;
+  private final EffectiveConfigurationFactory delegate;
+  private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<String, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+  private volatile AdminServerSpec adminServerSpec;
+
+  CachingEffectiveConfigurationFactory(long generation, DomainSpec spec, EffectiveConfigurationFactory delegate) {
+    this.generation = generation;
+    this.spec = spec;
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns true if this factory's cached values may be used for the specified domain generation and spec.
+   * @param generation the current generation of the domain resource
+   * @param spec the current domain specification
+   * @return true if the cache is still valid
+   */
+  boolean isCurrentFor(long generation, DomainSpec spec) {
+    return this.generation == generation && this.spec == spec;
+  }
+
+  @Override
+  public AdminServerSpec getAdminServerSpec() {
+    AdminServerSpec result = adminServerSpec;
+    if (result == null) {
+      adminServerSpec = result = delegate.getAdminServerSpec();
+    }
+    return result;
+  }
+
+  @Override
+  public ServerSpec getServerSpec(String serverName, String clusterName) {
+    return serverSpecs.computeIfAbsent(Arrays.asList(serverName, clusterName),
+        k -> delegate.getServerSpec(serverName, clusterName));
+  }
+
+  @Override
+  public ClusterSpec getClusterSpec(String clusterName) {
+    return clusterSpecs.computeIfAbsent(Objects.toString(clusterName, ""), k -> delegate.getClusterSpec(clusterName));
+  }
+
+  @Override
+  public int getReplicaCount(String clusterName) {
+    return delegate.getReplicaCount(clusterName);
+  }
+
+  @Override
+  public void setReplicaCount(String clusterName, int replicaCount) {
+    delegate.setReplicaCount(clusterName, replicaCount);
+    serverSpecs.clear();
+    clusterSpecs.clear();
+  }
+
+  @Override
+  public int getMaxUnavailable(String clusterName) {
+    return delegate.getMaxUnavailable(clusterName);
+  }
+
+  @Override
+  public int getMaxSurge(String clusterName) {
+    return delegate.getMaxSurge(clusterName);
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    return getAdminServerSpec().isShuttingDown();
+  }
+
+  @Override
+  public List<String> getAdminServerChannelNames() {
+    return delegate.getAdminServerChannelNames();
+  }
+
+  @Override
+  public boolean isAllowReplicasBelowMinDynClusterSize(String clusterName) {
+    return delegate.isAllowReplicasBelowMinDynClusterSize(clusterName);
+  }
+
+  @Override
+  public int getMaxConcurrentStartup(String clusterName) {
+    return delegate.getMaxConcurrentStartup(clusterName);
+  }
+
+  @Override
+  public int getMaxConcurrentShutdown(String clusterName) {
+    return delegate.getMaxConcurrentShutdown(clusterName);
+  }
+}
@@ -65,6 +65,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
   @Range(minimum = 1)
   private Integer maxUnavailable;
 
+  @Description(
+      "The maximum number of additional cluster members that the operator may start during a rolling restart "
+      + "so that replacement servers are ready before existing servers are stopped. The additional servers are "
+      + "drawn from the configured members of a dynamic cluster which are not already running, and are shut "
+      + "down once the rolling restart completes. Applies to dynamic clusters only. Defaults to 0.")
+  @Range(minimum = 0)
+  private Integer maxSurge;
+
   @Description("Customization affecting Kubernetes Service generated for this WebLogic cluster.")
   @SerializedName("clusterService")
   @Expose
@@ -88,6 +96,15 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
   @Range(minimum = 0)
   private Integer maxConcurrentStartup;
 
+  @Description(
+      "The maximum number of Managed Server instances that the operator will shut down in parallel "
+      + "for this cluster when the domain or cluster is shut down, or the `replicas` count is reduced. "
+      + "Servers are shut down in the reverse of the order in which they are started. "
+      + "A value of 0 means all Managed Server instances will shut down in parallel. Defaults to 0."
+  )
+  @Range(minimum = 0)
+  private Integer maxConcurrentShutdown;
+
   protected Cluster getConfiguration() {
     Cluster configuration = new Cluster();
     configuration.fillInFrom(this);
@@ -139,6 +156,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
     maxConcurrentStartup = value;
   }
 
+  public Integer getMaxConcurrentShutdown() {
+    return maxConcurrentShutdown;
+  }
+
+  public void setMaxConcurrentShutdown(Integer value) {
+    maxConcurrentShutdown = value;
+  }
+
   @Nullable
   @Override
   public String getServerStartPolicy() {
@@ -182,6 +207,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
     this.maxUnavailable = maxUnavailable;
   }
 
+  Integer getMaxSurge() {
+    return maxSurge;
+  }
+
+  void setMaxSurge(Integer maxSurge) {
+    this.maxSurge = maxSurge;
+  }
+
   void fillInFrom(Cluster other) {
     if (other == null) {
       return;
@@ -199,6 +232,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append("serverStartPolicy", serverStartPolicy)
         .append("clusterService", clusterService)
         .append("maxUnavailable", maxUnavailable)
+        .append("maxSurge", maxSurge)
         .append("allowReplicasBelowMinDynClusterSize", allowReplicasBelowMinDynClusterSize)
         .toString();
   }
@@ -222,8 +256,10 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy, cluster.serverStartPolicy)
         .append(clusterService, cluster.clusterService)
         .append(maxUnavailable, cluster.maxUnavailable)
+        .append(maxSurge, cluster.maxSurge)
         .append(allowReplicasBelowMinDynClusterSize, cluster.allowReplicasBelowMinDynClusterSize)
         .append(maxConcurrentStartup, cluster.maxConcurrentStartup)
+        .append(maxConcurrentShutdown, cluster.maxConcurrentShutdown)
         .isEquals();
   }
 
@@ -236,8 +272,10 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy)
         .append(clusterService)
         .append(maxUnavailable)
+        .append(maxSurge)
         .append(allowReplicasBelowMinDynClusterSize)
         .append(maxConcurrentStartup)
+        .append(maxConcurrentShutdown)
         .toHashCode();
   }
 
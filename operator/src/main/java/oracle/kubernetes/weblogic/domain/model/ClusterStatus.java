@@ -189,8 +189,8 @@ public class ClusterStatus implements Comparable<ClusterStatus>, PatchableCompon
   }
 
   @Override
-  public boolean isPatchableFrom(ClusterStatus other) {
-    return other.getClusterName() != null && other.getClusterName().equals(clusterName);
+  public String getPatchKey() {
+    return clusterName;
   }
 
   private static final ObjectPatch<ClusterStatus> clusterPatch = createObjectPatch(ClusterStatus.class)
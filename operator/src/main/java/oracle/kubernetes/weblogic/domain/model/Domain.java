@@ -94,6 +94,9 @@ public class Domain {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  // transient so it will not be serialized; volatile so it will not be included in the json schema
+  private transient volatile CachingEffectiveConfigurationFactory cachingConfigurationFactory;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -227,8 +230,21 @@ public class Domain {
     return spec.getIntrospectVersion();
   }
 
+  // Effective configurations are only cached for domains which have been assigned a generation by Kubernetes,
+  // since that is what indicates that the specification has changed.
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion);
+    Long generation = metadata.getGeneration();
+    if (generation == null) {
+      return spec.getEffectiveConfigurationFactory(apiVersion);
+    }
+
+    CachingEffectiveConfigurationFactory factory = cachingConfigurationFactory;
+    if (factory == null || !factory.isCurrentFor(generation, spec)) {
+      factory = new CachingEffectiveConfigurationFactory(
+            generation, spec, spec.getEffectiveConfigurationFactory(apiVersion));
+      cachingConfigurationFactory = factory;
+    }
+    return factory;
   }
 
   /**
@@ -286,6 +302,17 @@ public class Domain {
     return Math.max(getReplicaCount(clusterName) - getMaxUnavailable(clusterName), 0);
   }
 
+  /**
+   * Returns the maximum number of additional servers which may be started for the specified cluster
+   * during a rolling restart.
+   *
+   * @param clusterName the name of the cluster
+   * @return the result of applying any configurations for this value
+   */
+  public int getMaxSurge(String clusterName) {
+    return getEffectiveConfigurationFactory().getMaxSurge(clusterName);
+  }
+
   /**
    * Returns whether the specified cluster is allowed to have replica count below the minimum
    * dynamic cluster size configured in WebLogic domain configuration.
@@ -302,6 +329,10 @@ public class Domain {
     return getEffectiveConfigurationFactory().getMaxConcurrentStartup(clusterName);
   }
 
+  public int getMaxConcurrentShutdown(String clusterName) {
+    return getEffectiveConfigurationFactory().getMaxConcurrentShutdown(clusterName);
+  }
+
 
   /**
    * DomainSpec is a description of a domain.
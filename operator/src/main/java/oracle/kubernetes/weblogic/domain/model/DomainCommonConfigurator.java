@@ -585,6 +585,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withMaxSurge(int maxSurge) {
+      cluster.setMaxSurge(maxSurge);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withDesiredState(String state) {
       cluster.setServerStartState(state);
@@ -737,6 +743,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withMaxConcurrentShutdown(Integer maxConcurrentShutdown) {
+      cluster.setMaxConcurrentShutdown(maxConcurrentShutdown);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withSchedulerName(String schedulerName) {
       getDomainSpec().setSchedulerName(schedulerName);
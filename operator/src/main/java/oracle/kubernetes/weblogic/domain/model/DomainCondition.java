@@ -197,8 +197,8 @@ public class DomainCondition implements Comparable<DomainCondition>, PatchableCo
   }
 
   @Override
-  public boolean isPatchableFrom(DomainCondition other) {
-    return false; // domain conditions are never patched
+  public String getPatchKey() {
+    return null; // domain conditions are never patched
   }
 
   @Override
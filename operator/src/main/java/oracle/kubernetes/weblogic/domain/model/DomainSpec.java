@@ -34,6 +34,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import static oracle.kubernetes.operator.KubernetesConstants.ALWAYS_IMAGEPULLPOLICY;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_ALLOW_REPLICAS_BELOW_MIN_DYN_CLUSTER_SIZE;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
+import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_MAX_CLUSTER_CONCURRENT_SHUTDOWN;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_MAX_CLUSTER_CONCURRENT_START_UP;
 import static oracle.kubernetes.operator.KubernetesConstants.IFNOTPRESENT_IMAGEPULLPOLICY;
 
@@ -206,6 +207,14 @@ public class DomainSpec extends BaseConfiguration {
   @Range(minimum = 0)
   private Integer maxClusterConcurrentStartup;
 
+  @Description(
+      "The maximum number of cluster member Managed Server instances that the operator will shut down in parallel "
+          + "for a given cluster, if `maxConcurrentShutdown` is not specified for a specific cluster under the "
+          + "`clusters` field. A value of 0 means there is no configured limit. Defaults to 0."
+  )
+  @Range(minimum = 0)
+  private Integer maxClusterConcurrentShutdown;
+
   /**
    * Whether the domain home is part of the image.
    *
@@ -680,6 +689,11 @@ public class DomainSpec extends BaseConfiguration {
         .orElse(DEFAULT_MAX_CLUSTER_CONCURRENT_START_UP);
   }
 
+  public Integer getMaxClusterConcurrentShutdown() {
+    return Optional.ofNullable(maxClusterConcurrentShutdown)
+        .orElse(DEFAULT_MAX_CLUSTER_CONCURRENT_SHUTDOWN);
+  }
+
   @Nullable
   String getConfigOverrides() {
     return Optional.ofNullable(configuration).map(Configuration::getOverridesConfigMap).orElse(configOverrides);
@@ -835,7 +849,8 @@ public class DomainSpec extends BaseConfiguration {
             .append(configOverrides)
             .append(configOverrideSecrets)
             .append(allowReplicasBelowMinDynClusterSize)
-            .append(maxClusterConcurrentStartup);
+            .append(maxClusterConcurrentStartup)
+            .append(maxClusterConcurrentShutdown);
 
     return builder.toHashCode();
   }
@@ -874,7 +889,8 @@ public class DomainSpec extends BaseConfiguration {
             .append(configOverrides, rhs.configOverrides)
             .append(configOverrideSecrets, rhs.configOverrideSecrets)
             .append(isAllowReplicasBelowMinDynClusterSize(), rhs.isAllowReplicasBelowMinDynClusterSize())
-            .append(getMaxClusterConcurrentStartup(), rhs.getMaxClusterConcurrentStartup());
+            .append(getMaxClusterConcurrentStartup(), rhs.getMaxClusterConcurrentStartup())
+            .append(getMaxClusterConcurrentShutdown(), rhs.getMaxClusterConcurrentShutdown());
     return builder.isEquals();
   }
 
@@ -918,6 +934,10 @@ public class DomainSpec extends BaseConfiguration {
     return cluster != null && cluster.getMaxUnavailable() != null;
   }
 
+  private int getMaxSurgeFor(Cluster cluster) {
+    return Optional.ofNullable(cluster).map(Cluster::getMaxSurge).orElse(0);
+  }
+
   private boolean isAllowReplicasBelowDynClusterSizeFor(Cluster cluster) {
     return hasAllowReplicasBelowMinDynClusterSize(cluster)
         ? cluster.isAllowReplicasBelowMinDynClusterSize()
@@ -946,6 +966,16 @@ public class DomainSpec extends BaseConfiguration {
     this.maxClusterConcurrentStartup = maxClusterConcurrentStartup;
   }
 
+  private int getMaxConcurrentShutdownFor(Cluster cluster) {
+    return Optional.ofNullable(cluster)
+        .map(Cluster::getMaxConcurrentShutdown)
+        .orElse(getMaxClusterConcurrentShutdown());
+  }
+
+  public void setMaxClusterConcurrentShutdown(Integer maxClusterConcurrentShutdown) {
+    this.maxClusterConcurrentShutdown = maxClusterConcurrentShutdown;
+  }
+
   public AdminServer getAdminServer() {
     return adminServer;
   }
@@ -1006,6 +1036,11 @@ public class DomainSpec extends BaseConfiguration {
       return getMaxUnavailableFor(getCluster(clusterName));
     }
 
+    @Override
+    public int getMaxSurge(String clusterName) {
+      return getMaxSurgeFor(getCluster(clusterName));
+    }
+
     @Override
     public List<String> getAdminServerChannelNames() {
       return adminServer != null ? adminServer.getChannelNames() : Collections.emptyList();
@@ -1021,6 +1056,11 @@ public class DomainSpec extends BaseConfiguration {
       return getMaxConcurrentStartupFor(getCluster(clusterName));
     }
 
+    @Override
+    public int getMaxConcurrentShutdown(String clusterName) {
+      return getMaxConcurrentShutdownFor(getCluster(clusterName));
+    }
+
     private Cluster getOrCreateCluster(String clusterName) {
       Cluster cluster = getCluster(clusterName);
       if (cluster != null) {
@@ -458,11 +458,22 @@ public class DomainStatus {
     return new EqualsBuilder()
         .append(reason, rhs.reason)
         .append(startTime, rhs.startTime)
-        .append(servers, rhs.servers)
-        .append(Domain.sortOrNull(clusters), Domain.sortOrNull(rhs.clusters))
-        .append(Domain.sortOrNull(conditions), Domain.sortOrNull(rhs.conditions))
         .append(message, rhs.message)
-        .isEquals();
+        .append(servers, rhs.servers)
+        .isEquals()
+        && isEqualIgnoringOrder(clusters, rhs.clusters)
+        && isEqualIgnoringOrder(conditions, rhs.conditions);
+  }
+
+  // Sorts copies of the lists only when they hold the same number of elements in different orders.
+  private static boolean isEqualIgnoringOrder(List<?> list1, List<?> list2) {
+    if (list1 == null || list2 == null) {
+      return list1 == list2;
+    } else if (list1.size() != list2.size()) {
+      return false;
+    } else {
+      return list1.equals(list2) || Domain.sortOrNull(list1).equals(Domain.sortOrNull(list2));
+    }
   }
 
   private static final ObjectPatch<DomainStatus> statusPatch = createObjectPatch(DomainStatus.class)
@@ -5,12 +5,13 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
@@ -322,28 +323,39 @@ class ObjectPatch<T> {
     public void patchField(JsonPatchBuilder builder, String parent, T oldItem, T newItem) {
       P[] oldItems = getListField(oldItem);
       P[] newItems = getListField(newItem);
-      List<Disposition> disposition
-            = Arrays.stream(oldItems).map(c -> getDisposition(c, newItems)).collect(Collectors.toList());
+      if (Arrays.equals(oldItems, newItems)) {
+        return;
+      }
+
+      NewItemIndex<P> newItemIndex = new NewItemIndex<>(newItems);
+      Disposition[] dispositions = new Disposition[oldItems.length];
+      boolean[] retained = new boolean[newItems.length];
+      for (int i = 0; i < oldItems.length; i++) {
+        dispositions[i] = newItemIndex.getDisposition(oldItems[i]);
+        if (dispositions[i].type != DispositionType.REMOVE) {
+          retained[dispositions[i].newIndex] = true;
+        }
+      }
 
       for (int i = 0; i < oldItems.length; i++) {
-        if (disposition.get(i).type == DispositionType.UPDATE) {
+        if (dispositions[i].type == DispositionType.UPDATE) {
           objectPatch.replaceItem(
-              builder, getPath(parent) + "/" + i, oldItems[i], newItems[disposition.get(i).newIndex]);
+              builder, getPath(parent) + "/" + i, oldItems[i], newItems[dispositions[i].newIndex]);
         }
       }
 
-      for (int i = disposition.size() - 1; i >= 0; i--) {
-        if (disposition.get(i).type == DispositionType.REMOVE) {
+      for (int i = dispositions.length - 1; i >= 0; i--) {
+        if (dispositions[i].type == DispositionType.REMOVE) {
           removePatch(builder, getPath(parent), i);
         }
       }
 
-      if (oldItems.length == 0 && newItems.length != 0) {
+      if (oldItems.length == 0) {
         builder.add(getPath(parent), JsonValue.EMPTY_JSON_ARRAY);
       }
       
       for (int j = 0; j < newItems.length; j++) {
-        if (Disposition.shouldAdd(disposition, j)) {
+        if (!retained[j]) {
           objectPatch.addItem(builder, getPath(parent), newItems[j]);
         }
       }
@@ -354,22 +366,47 @@ class ObjectPatch<T> {
       return (P[]) getter.apply(item).toArray(new PatchableComponent[0]);
     }
 
-    Disposition getDisposition(P oldItem, P[] newItems) {
+    void removePatch(JsonPatchBuilder builder, String parent, int index) {
+      builder.remove(parent + "/" + index);
+    }
+
+  }
+
+  /**
+   * The new items of a list field, indexed by patch key, so that the disposition of each old item is found without
+   * scanning the list. Items without a key are never patched, and so are indexed by value. Where several new items
+   * match an old one, the first is chosen.
+   *
+   * @param <P> the type of the items
+   */
+  static class NewItemIndex<P extends PatchableComponent<P>> {
+    private final P[] newItems;
+    private final Map<String, Integer> indexByKey = new HashMap<>();
+    private final Map<P, Integer> indexByValue = new HashMap<>();
+
+    NewItemIndex(P[] newItems) {
+      this.newItems = newItems;
       for (int i = 0; i < newItems.length; i++) {
-        if (oldItem.equals(newItems[i])) {
-          return Disposition.retain(i);
-        } else if (newItems[i].isPatchableFrom(oldItem)) {
-          return Disposition.update(i);
+        String key = newItems[i].getPatchKey();
+        if (key != null) {
+          indexByKey.putIfAbsent(key, i);
+        } else {
+          indexByValue.putIfAbsent(newItems[i], i);
         }
       }
-
-      return Disposition.remove();
     }
 
-    void removePatch(JsonPatchBuilder builder, String parent, int index) {
-      builder.remove(parent + "/" + index);
+    Disposition getDisposition(P oldItem) {
+      String key = oldItem.getPatchKey();
+      Integer index = key != null ? indexByKey.get(key) : indexByValue.get(oldItem);
+      if (index == null) {
+        return Disposition.remove();
+      } else if (oldItem.equals(newItems[index])) {
+        return Disposition.retain(index);
+      } else {
+        return Disposition.update(index);
+      }
     }
-
   }
 
   enum DispositionType {
@@ -396,10 +433,6 @@ class ObjectPatch<T> {
     static Disposition retain(int newIndex) {
       return new Disposition(DispositionType.EXISTS, newIndex);
     }
-
-    static boolean shouldAdd(List<Disposition> dispositions, int newIndex) {
-      return dispositions.stream().noneMatch(d -> d.newIndex == newIndex);
-    }
   }
 
   static class StringListField<T> extends FieldPatch<T> {
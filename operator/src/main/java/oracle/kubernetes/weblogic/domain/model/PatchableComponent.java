@@ -3,13 +3,22 @@
 
 package oracle.kubernetes.weblogic.domain.model;
 
-public interface PatchableComponent<T> {
+public interface PatchableComponent<T extends PatchableComponent<T>> {
 
   /**
    * Returns true if it is possible to patch the specified component to create this one.
    * @param other the component to compare
    * @return false if the component are not patch-compatible
    */
-  boolean isPatchableFrom(T other);
+  default boolean isPatchableFrom(T other) {
+    return other.getPatchKey() != null && other.getPatchKey().equals(getPatchKey());
+  }
+
+  /**
+   * Returns the key which identifies this component within a list. A component is patchable from another
+   * only if both have the same, non-null key.
+   * @return the key, or null if the component is never patched
+   */
+  String getPatchKey();
 
 }
@@ -298,8 +298,8 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
   }
 
   @Override
-  public boolean isPatchableFrom(ServerStatus other) {
-    return other.getServerName() != null && other.getServerName().equals(serverName);
+  public String getPatchKey() {
+    return serverName;
   }
 
   private static final ObjectPatch<ServerStatus> serverPatch = createObjectPatch(ServerStatus.class)
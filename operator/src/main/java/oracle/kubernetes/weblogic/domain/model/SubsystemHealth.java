@@ -160,8 +160,8 @@ public class SubsystemHealth implements Comparable<SubsystemHealth>, PatchableCo
   }
 
   @Override
-  public boolean isPatchableFrom(SubsystemHealth other) {
-    return other.subsystemName != null && other.subsystemName.equals(subsystemName);
+  public String getPatchKey() {
+    return subsystemName;
   }
 
   private static final ObjectPatch<SubsystemHealth> healthPatch = createObjectPatch(SubsystemHealth.class)
@@ -19,6 +19,7 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 /** A test stub for processing domains in unit tests. */
 public abstract class DomainProcessorDelegateStub implements DomainProcessorDelegate {
   private FiberTestSupport testSupport;
+  private boolean leader = true;
 
   public DomainProcessorDelegateStub(FiberTestSupport testSupport) {
     this.testSupport = testSupport;
@@ -33,6 +34,15 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return true;
   }
 
+  @Override
+  public boolean isLeader() {
+    return leader;
+  }
+
+  public void setLeader(boolean leader) {
+    this.leader = leader;
+  }
+
   @Override
   public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
     return new PassthroughPodAwaiterStepFactory();
@@ -59,6 +69,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
 
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return testSupport.schedule(command, delay, unit);
+  }
+
   @Override
   public void runSteps(Step firstStep) {
     testSupport.runSteps(firstStep);
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -28,6 +29,7 @@ import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -56,6 +58,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainSourceType.FromModel;
@@ -77,11 +80,13 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -93,6 +98,7 @@ public class DomainProcessorTest {
   private static final int MIN_REPLICAS = 2;
   private static final int NUM_ADMIN_SERVERS = 1;
   private static final int NUM_JOB_PODS = 1;
+  private static final int COALESCING_DELAY = 250;
   private static final String[] MANAGED_SERVER_NAMES =
       IntStream.rangeClosed(1, MAX_SERVERS).mapToObj(DomainProcessorTest::getManagedServerName).toArray(String[]::new);
 
@@ -133,6 +139,7 @@ public class DomainProcessorTest {
           .collectLogMessages(logRecords, NOT_STARTING_DOMAINUID_THREAD).withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -168,6 +175,44 @@ public class DomainProcessorTest {
     return Optional.of(domain).map(Domain::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse("");
   }
 
+  @Test
+  public void whenDomainModifiedWithUnchangedGeneration_dontRunUpdateThread() {
+    domain.getMetadata().setGeneration(2L);
+    newDomain.getMetadata().setGeneration(2L);
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    DomainPresenceInfo cachedInfo = new DomainPresenceInfo(domain);
+    DomainProcessorImpl.registerDomainPresenceInfo(cachedInfo);
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), equalTo(getResourceVersion(domain)));
+  }
+
+  @Test
+  public void whenDomainModifiedWithUnchangedGeneration_cacheLatestDomain() {
+    domain.getMetadata().setGeneration(2L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainPresenceInfo cachedInfo = new DomainPresenceInfo(domain);
+    DomainProcessorImpl.registerDomainPresenceInfo(cachedInfo);
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    assertThat(cachedInfo.getDomain(), sameInstance(newDomain));
+  }
+
+  @Test
+  public void whenDomainModifiedWithNewGeneration_runUpdateThread() {
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), not(getResourceVersion(domain)));
+  }
+
   @Test
   public void whenDomainExplicitSet_runUpdateThread() {
     DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
@@ -177,6 +222,129 @@ public class DomainProcessorTest {
     assertThat(logRecords, not(containsFine(NOT_STARTING_DOMAINUID_THREAD)));
   }
 
+  @Test
+  public void whenDomainEventsArriveWithinCoalescingDelay_waitBeforeRunningUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), equalTo(getResourceVersion(domain)));
+  }
+
+  @Test
+  public void afterCoalescingDelay_runUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(COALESCING_DELAY, TimeUnit.MILLISECONDS);
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), not(getResourceVersion(domain)));
+  }
+
+  @Test
+  public void whenDomainEventsArriveWithinCoalescingDelay_startOnlyOneMakeRight() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    processor.dispatchDomainWatch(WatchEvent.createAddedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(COALESCING_DELAY, TimeUnit.MILLISECONDS);
+
+    assertThat(processor.getWatchEventsReceived(), equalTo(3L));
+    assertThat(processor.getMakeRightFibersStarted(), equalTo(1L));
+  }
+
+  @Test
+  public void whenDomainEventArrivesDuringCoalescingDelay_restartDelay() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(COALESCING_DELAY - 50, TimeUnit.MILLISECONDS);
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(COALESCING_DELAY + 50, TimeUnit.MILLISECONDS);
+
+    assertThat(processor.getMakeRightFibersStarted(), equalTo(0L));
+  }
+
+  @Test
+  public void afterRestartedCoalescingDelay_runUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(COALESCING_DELAY - 50, TimeUnit.MILLISECONDS);
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    testSupport.setTime(2 * COALESCING_DELAY - 50, TimeUnit.MILLISECONDS);
+
+    assertThat(processor.getMakeRightFibersStarted(), equalTo(1L));
+  }
+
+  @Test
+  public void whenDomainEventsKeepArriving_eventuallyRunUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    for (int time = 0; time <= 6 * COALESCING_DELAY; time += COALESCING_DELAY / 2) {
+      testSupport.setTime(time, TimeUnit.MILLISECONDS);
+      processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    }
+
+    assertThat(processor.getMakeRightFibersStarted(), greaterThan(0L));
+  }
+
+  @Test
+  public void whenNamespaceReleasedDuringCoalescingDelay_dontRunUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    processor.releaseNamespace(NS);
+    testSupport.setTime(COALESCING_DELAY, TimeUnit.MILLISECONDS);
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), equalTo(getResourceVersion(domain)));
+  }
+
+  @Test
+  public void whenDomainActivityCancelledDuringCoalescingDelay_dontRunUpdateThread() throws NoSuchFieldException {
+    defineWatchEventCoalescingDelay();
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().setGeneration(2L);
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+    processor.cancelDomainActivity();
+    testSupport.setTime(COALESCING_DELAY, TimeUnit.MILLISECONDS);
+
+    Domain updatedDomain = testSupport.getResourceWithName(DOMAIN, domain.getDomainUid());
+    assertThat(getResourceVersion(updatedDomain), equalTo(getResourceVersion(domain)));
+  }
+
+  private void defineWatchEventCoalescingDelay() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          TuningParametersImpl.class, "INSTANCE", createStrictStub(CoalescingTuningParametersStub.class)));
+  }
+
   @Test
   public void whenDomainConfiguredForMaxServers_establishMatchingPresence() {
     domainConfigurator.configureCluster(CLUSTER).withReplicas(MAX_SERVERS);
@@ -220,6 +388,52 @@ public class DomainProcessorTest {
     assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
   }
 
+  @Test
+  public void whenStandby_makeRightDoesNotChangeResourcesButCachesDomain() {
+    DomainProcessorDelegateStub delegate = createStrictStub(DomainProcessorDelegateStub.class, testSupport);
+    delegate.setLeader(false);
+    defineServerResources(ADMIN_NAME);
+    Arrays.stream(MANAGED_SERVER_NAMES).forEach(this::defineServerResources);
+    int podCount = getRunningPods().size();
+
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    new DomainProcessorImpl(delegate)
+          .createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
+
+    assertThat(getRunningPods().size(), equalTo(podCount));
+    assertThat(presenceInfoMap.get(NS).get(UID).getDomain(), sameInstance(newDomain));
+  }
+
+  @Test
+  public void whenStandbyBecomesLeader_makeRightCachedDomains() {
+    DomainProcessorDelegateStub delegate = createStrictStub(DomainProcessorDelegateStub.class, testSupport);
+    DomainProcessorImpl standbyProcessor = new DomainProcessorImpl(delegate);
+    delegate.setLeader(false);
+    defineServerResources(ADMIN_NAME);
+    Arrays.stream(MANAGED_SERVER_NAMES).forEach(this::defineServerResources);
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    standbyProcessor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
+
+    delegate.setLeader(true);
+    standbyProcessor.makeRightCachedDomains();
+
+    assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
+  }
+
+  @Test
+  public void whenNamespaceReleased_forgetDomainsButLeaveTheirResources() {
+    defineServerResources(ADMIN_NAME);
+    Arrays.stream(MANAGED_SERVER_NAMES).forEach(this::defineServerResources);
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MAX_SERVERS);
+    processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
+    int podCount = getRunningPods().size();
+
+    processor.releaseNamespace(NS);
+
+    assertThat(presenceInfoMap.get(NS).get(UID), nullValue());
+    assertThat(getRunningPods().size(), equalTo(podCount));
+  }
+
   @Test
   public void whenDomainScaledDown_withPreCreateServerService_doesNotRemoveServices() {
     defineServerResources(ADMIN_NAME);
@@ -668,4 +882,11 @@ public class DomainProcessorTest {
     domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
     domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
   }
+
+  abstract static class CoalescingTuningParametersStub extends TuningParametersStub {
+    @Override
+    public WatchTuning getWatchTuning() {
+      return new WatchTuning(30, 0, 5, COALESCING_DELAY);
+    }
+  }
 }
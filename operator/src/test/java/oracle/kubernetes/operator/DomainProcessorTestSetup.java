@@ -119,6 +119,29 @@ public class DomainProcessorTestSetup {
    */
   public void defineKubernetesResources(String introspectResult) {
     testSupport.addToPacket(JOB_POD_NAME, INTROSPECTION_JOB);
+    completeJobsOnCreate();
+    defineIntrospectorPod(UID, NS, introspectResult);
+  }
+
+  /**
+   * Set up the in-memory Kubernetes environment so that the introspector for the specified domain will report
+   * the topology computed from the configuration. Unlike the other methods, this may be called for many domains;
+   * {@link #completeJobsOnCreate()} should be called once to allow their introspector jobs to complete.
+   *
+   * @param domainUid the UID of the domain
+   * @param namespace the namespace containing the domain
+   * @param domainConfig the configuration from which the topology should be computed
+   * @throws JsonProcessingException if an error occurs in creating the topology
+   */
+  public void defineKubernetesResources(String domainUid, String namespace, WlsDomainConfig domainConfig)
+      throws JsonProcessingException {
+    defineIntrospectorPod(domainUid, namespace, getIntrospectResult(domainConfig));
+  }
+
+  /**
+   * Causes each job created in the in-memory Kubernetes environment to be marked as complete.
+   */
+  public void completeJobsOnCreate() {
     testSupport.doOnCreate(
         KubernetesTestSupport.JOB,
         job ->
@@ -126,14 +149,17 @@ public class DomainProcessorTestSetup {
                 .setStatus(
                     new V1JobStatus()
                         .addConditionsItem(new V1JobCondition().type("Complete").status("True"))));
-    testSupport.definePodLog(LegalNames.toJobIntrospectorName(UID), NS, introspectResult);
+  }
+
+  private void defineIntrospectorPod(String domainUid, String namespace, String introspectResult) {
+    testSupport.definePodLog(LegalNames.toJobIntrospectorName(domainUid), namespace, introspectResult);
     testSupport.defineResources(
         new V1Pod()
             .metadata(
                 new V1ObjectMeta()
                     .putLabelsItem("job-name", "")
-                    .name(LegalNames.toJobIntrospectorName(UID))
-                    .namespace(NS)));
+                    .name(LegalNames.toJobIntrospectorName(domainUid))
+                    .namespace(namespace)));
   }
 
   private String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
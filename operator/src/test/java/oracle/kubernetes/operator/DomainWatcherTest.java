@@ -14,6 +14,8 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 
@@ -54,6 +56,11 @@ public class DomainWatcherTest extends WatcherTestBase implements WatchListener<
     return (T) new Domain().withMetadata(metaData);
   }
 
+  @Override
+  void failListing(String namespace) {
+    testSupport.failOnResource(DOMAIN, null, namespace, HTTP_INTERNAL_ERROR);
+  }
+
   @Override
   protected DomainWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
     return DomainWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
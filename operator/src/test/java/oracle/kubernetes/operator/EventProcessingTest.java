@@ -56,6 +56,7 @@ public class EventProcessingTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
 
     presenceInfoMap.put(NS, ImmutableMap.of(UID, info));
   }
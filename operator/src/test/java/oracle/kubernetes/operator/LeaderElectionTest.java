@@ -0,0 +1,217 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class LeaderElectionTest {
+  private static final String OPERATOR_NS = "operator-ns";
+  private static final int LEASE_DURATION = 15;
+  private static final int RENEW_DEADLINE = 10;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AtomicInteger leadershipLosses = new AtomicInteger();
+  private final LeaderElection replica1 =
+        new LeaderElection(OPERATOR_NS, "replica1", LEASE_DURATION, leadershipLosses::incrementAndGet);
+  private final LeaderElection replica2 = new LeaderElection(OPERATOR_NS, "replica2", LEASE_DURATION, () -> { });
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void whenNoLeaseExists_firstReplicaBecomesLeader() {
+    assertThat(replica1.acquireOrRenew(), is(true));
+    assertThat(replica1.isLeader(), is(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("replica1"));
+  }
+
+  @Test
+  public void whenOnlyOtherLeasesExist_firstReplicaBecomesLeader() {
+    testSupport.defineResources(
+          new V1Lease().metadata(new V1ObjectMeta().name("unrelated").namespace(OPERATOR_NS))
+                .spec(new V1LeaseSpec().holderIdentity("other")));
+
+    assertThat(replica1.acquireOrRenew(), is(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("replica1"));
+  }
+
+  @Test
+  public void whenLeaseHeld_otherReplicaStandsBy() {
+    replica1.acquireOrRenew();
+
+    assertThat(replica2.acquireOrRenew(), is(false));
+    assertThat(replica2.isLeader(), is(false));
+  }
+
+  @Test
+  public void whenLeaderRenews_itRemainsLeaderAndDoesNotReportNewLeadership() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE - 1);
+
+    assertThat(replica1.acquireOrRenew(), is(false));
+    assertThat(replica1.isLeader(), is(true));
+  }
+
+  @Test
+  public void whileLeaderRenews_otherReplicaCannotTakeOver() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE - 1);
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE - 1);
+
+    assertThat(replica2.acquireOrRenew(), is(false));
+  }
+
+  @Test
+  public void whenLeaseExpires_standbyTakesOver() {
+    replica1.acquireOrRenew();
+    replica2.acquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    assertThat(replica2.acquireOrRenew(), is(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("replica2"));
+    assertThat(getLease().getSpec().getLeaseTransitions(), equalTo(1));
+  }
+
+  @Test
+  public void whenStandbyFirstSeesLease_waitFullLeaseDurationBeforeTakingOver() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    assertThat(replica2.acquireOrRenew(), is(false));
+  }
+
+  @Test
+  public void afterTakeover_recordTakeoverTime() {
+    replica1.acquireOrRenew();
+    replica2.acquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    replica2.acquireOrRenew();
+
+    assertThat(replica2.getLastTakeoverMillis(), equalTo((LEASE_DURATION + 1) * 1000L));
+  }
+
+  @Test
+  public void afterTakeover_formerLeaderStepsDown() {
+    replica1.acquireOrRenew();
+    replica2.acquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+    replica2.acquireOrRenew();
+
+    replica1.acquireOrRenew();
+
+    assertThat(replica1.isLeader(), is(false));
+  }
+
+  @Test
+  public void whenRenewalFailsBeforeRenewDeadline_remainLeader() {
+    replica1.acquireOrRenew();
+    testSupport.failOnReplace(LEASE, LeaderElection.LEASE_NAME, OPERATOR_NS, HTTP_INTERNAL_ERROR);
+    SystemClockTestSupport.increment(RENEW_DEADLINE - 1);
+
+    replica1.acquireOrRenew();
+
+    assertThat(replica1.isLeader(), is(true));
+    assertThat(leadershipLosses.get(), equalTo(0));
+  }
+
+  @Test
+  public void whenRenewalFailsAtRenewDeadline_stepDownBeforeLeaseExpires() {
+    replica1.acquireOrRenew();
+    testSupport.failOnReplace(LEASE, LeaderElection.LEASE_NAME, OPERATOR_NS, HTTP_INTERNAL_ERROR);
+    SystemClockTestSupport.increment(RENEW_DEADLINE);
+
+    replica1.acquireOrRenew();
+
+    assertThat(replica1.isLeader(), is(false));
+    assertThat(leadershipLosses.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenRenewDeadlinePassesWithoutRenewal_noLongerLeader() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE);
+
+    assertThat(replica1.isLeader(), is(false));
+  }
+
+  @Test
+  public void whenRenewDeadlineChecked_reportLeadershipLostOnce() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE);
+
+    replica1.checkRenewDeadline();
+    replica1.checkRenewDeadline();
+
+    assertThat(leadershipLosses.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenRenewDeadlineCheckedInTime_remainLeader() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE - 1);
+
+    replica1.checkRenewDeadline();
+
+    assertThat(replica1.isLeader(), is(true));
+    assertThat(leadershipLosses.get(), equalTo(0));
+  }
+
+  @Test
+  public void whenLateRenewalSucceeds_reportLeadershipRegained() {
+    replica1.acquireOrRenew();
+    SystemClockTestSupport.increment(RENEW_DEADLINE);
+
+    assertThat(replica1.acquireOrRenew(), is(true));
+    assertThat(leadershipLosses.get(), equalTo(1));
+  }
+
+  @Test
+  public void afterTakeover_formerLeaderReportsLeadershipLost() {
+    replica1.acquireOrRenew();
+    replica2.acquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+    replica2.acquireOrRenew();
+
+    replica1.acquireOrRenew();
+
+    assertThat(leadershipLosses.get(), equalTo(1));
+  }
+
+  private V1Lease getLease() {
+    return testSupport.getResourceWithName(LEASE, LeaderElection.LEASE_NAME);
+  }
+}
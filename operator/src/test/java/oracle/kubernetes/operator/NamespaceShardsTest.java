@@ -0,0 +1,305 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class NamespaceShardsTest {
+  private static final String OPERATOR_NS = "operator-ns";
+  private static final int LEASE_DURATION = 10;
+  private static final List<String> NAMESPACES =
+        IntStream.range(0, 100).mapToObj(i -> "ns" + i).collect(Collectors.toList());
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final NamespaceShards replica1 = new NamespaceShards(OPERATOR_NS, "replica1", LEASE_DURATION);
+  private final NamespaceShards replica2 = new NamespaceShards(OPERATOR_NS, "replica2", LEASE_DURATION);
+  private final NamespaceShards replica3 = new NamespaceShards(OPERATOR_NS, "replica3", LEASE_DURATION);
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void afterRenewal_replicaHoldsMemberLease() {
+    replica1.renewMembership(NAMESPACES);
+
+    List<V1Lease> leases = getLeases(NamespaceShards.MEMBER_LEASE);
+    assertThat(leases, hasSize(1));
+    assertThat(leases.get(0).getMetadata().getName(), equalTo(NamespaceShards.LEASE_NAME_PREFIX + "replica1"));
+    assertThat(leases.get(0).getSpec().getHolderIdentity(), equalTo("replica1"));
+  }
+
+  @Test
+  public void afterRepeatedRenewal_replicaStillHoldsOneMemberLease() {
+    replica1.renewMembership(NAMESPACES);
+    SystemClockTestSupport.increment(5);
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(getLeases(NamespaceShards.MEMBER_LEASE), hasSize(1));
+  }
+
+  @Test
+  public void whenOnlyMember_holdLeaseForEachNamespace() {
+    replica1.renewMembership(NAMESPACES);
+
+    List<V1Lease> leases = getLeases(NamespaceShards.NAMESPACE_LEASE);
+    assertThat(leases, hasSize(NAMESPACES.size()));
+    assertThat(leases.get(0).getSpec().getHolderIdentity(), equalTo("replica1"));
+  }
+
+  @Test
+  public void whenOnlyMember_ownAllNamespaces() {
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.selectOwned(NAMESPACES), equalTo(NAMESPACES));
+  }
+
+  @Test
+  public void beforeFirstRenewal_ownNoNamespaces() {
+    assertThat(replica1.selectOwned(NAMESPACES), empty());
+  }
+
+  @Test
+  public void whenLeasesCannotBeWritten_ownNoNamespaces() {
+    testSupport.failOnCreate(LEASE, NamespaceShards.LEASE_NAME_PREFIX + "replica1", OPERATOR_NS, HTTP_FORBIDDEN);
+
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.selectOwned(NAMESPACES), empty());
+  }
+
+  @Test
+  public void whenSeveralMembers_eachNamespaceOwnedByExactlyOne() {
+    settle(replica1, replica2, replica3);
+
+    for (String namespace : NAMESPACES) {
+      assertThat(namespace, countOwners(namespace, replica1, replica2, replica3), equalTo(1L));
+    }
+  }
+
+  @Test
+  public void whenSeveralMembers_namespacesSpreadAmongThem() {
+    settle(replica1, replica2, replica3);
+
+    assertThat(replica1.selectOwned(NAMESPACES).isEmpty(), is(false));
+    assertThat(replica2.selectOwned(NAMESPACES).isEmpty(), is(false));
+    assertThat(replica3.selectOwned(NAMESPACES).isEmpty(), is(false));
+  }
+
+  @Test
+  public void whenMemberJoins_otherMembersLoseNamespacesOnlyToIt() {
+    settle(replica1, replica2);
+    List<String> ownedBefore = new ArrayList<>(replica1.selectOwned(NAMESPACES));
+
+    settle(replica3, replica1, replica2);
+
+    for (String namespace : replica1.selectOwned(NAMESPACES)) {
+      assertThat(ownedBefore.contains(namespace), is(true));
+    }
+    for (String namespace : ownedBefore) {
+      assertThat(replica1.owns(namespace) || replica3.owns(namespace), is(true));
+    }
+  }
+
+  @Test
+  public void whenMemberJoins_noNamespaceHasTwoOwnersAfterAnyRenewal() {
+    settle(replica1, replica2);
+
+    settle(replica3, replica1, replica2);
+
+    for (String namespace : NAMESPACES) {
+      assertThat(namespace, countOwners(namespace, replica1, replica2, replica3), equalTo(1L));
+    }
+  }
+
+  @Test
+  public void whenMemberJoins_acquireNamespaceOnlyAfterPreviousOwnerReleasesIt() {
+    replica1.renewMembership(NAMESPACES);
+    replica2.renewMembership(NAMESPACES);
+    assertThat(replica2.selectOwned(NAMESPACES), empty());
+
+    replica1.renewMembership(NAMESPACES);
+    String namespace = findReleasedBy(replica1);
+    assertThat(namespace, notNullValue());
+    assertThat(getNamespaceLeaseHolder(namespace), equalTo("replica1"));
+
+    replica2.renewMembership(NAMESPACES);
+    assertThat(replica2.owns(namespace), is(false));
+
+    replica1.renewMembership(NAMESPACES);
+    assertThat(getNamespaceLeaseHolder(namespace), nullValue());
+
+    replica2.renewMembership(NAMESPACES);
+    assertThat(replica2.owns(namespace), is(true));
+    assertThat(getNamespaceLeaseHolder(namespace), equalTo("replica2"));
+  }
+
+  @Test
+  public void whenNamespaceLeaseCannotBeDeleted_keepReleasingIt() {
+    replica1.renewMembership(NAMESPACES);
+    replica2.renewMembership(NAMESPACES);
+    replica1.renewMembership(NAMESPACES);
+    String namespace = findReleasedBy(replica1);
+    testSupport.failOnDelete(
+          LEASE, NamespaceShards.NAMESPACE_LEASE_NAME_PREFIX + namespace, OPERATOR_NS, HTTP_UNAVAILABLE);
+
+    replica1.renewMembership(NAMESPACES);
+    replica2.renewMembership(NAMESPACES);
+
+    assertThat(countOwners(namespace, replica1, replica2), equalTo(0L));
+    assertThat(getNamespaceLeaseHolder(namespace), equalTo("replica1"));
+  }
+
+  @Test
+  public void whenNamespaceNoLongerTargeted_releaseIt() {
+    replica1.renewMembership(NAMESPACES);
+
+    replica1.renewMembership(NAMESPACES.subList(1, NAMESPACES.size()));
+
+    assertThat(replica1.owns(NAMESPACES.get(0)), is(false));
+  }
+
+  @Test
+  public void whenPeerRenewTimeFromSkewedClock_judgeLivenessByLocalClock() {
+    testSupport.defineResources(new V1Lease()
+          .metadata(new V1ObjectMeta().name(NamespaceShards.LEASE_NAME_PREFIX + "replica2").namespace(OPERATOR_NS)
+                .putLabelsItem(LabelConstants.SHARD_LEASE_LABEL, NamespaceShards.MEMBER_LEASE))
+          .spec(new V1LeaseSpec().holderIdentity("replica2").leaseDurationSeconds(LEASE_DURATION)
+                .renewTime(SystemClock.now().minusHours(1))));
+
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.getMembers(), contains("replica1", "replica2"));
+  }
+
+  @Test
+  public void whenMemberLeaseExpires_remainingMembersTakeOverItsNamespaces() {
+    settle(replica1, replica2);
+
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.getMembers(), contains("replica1"));
+    assertThat(replica1.selectOwned(NAMESPACES), equalTo(NAMESPACES));
+  }
+
+  @Test
+  public void whenMemberLeaseRenewedInTime_keepItAsMember() {
+    settle(replica1, replica2);
+
+    SystemClockTestSupport.increment(LEASE_DURATION - 1);
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.getMembers(), contains("replica1", "replica2"));
+  }
+
+  @Test
+  public void whenRenewalFailsBeforeOwnLeaseExpires_keepNamespaces() {
+    replica1.renewMembership(NAMESPACES);
+    testSupport.failOnReplace(LEASE, NamespaceShards.LEASE_NAME_PREFIX + "replica1", OPERATOR_NS, HTTP_UNAVAILABLE);
+
+    SystemClockTestSupport.increment(LEASE_DURATION - 1);
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.selectOwned(NAMESPACES), equalTo(NAMESPACES));
+  }
+
+  @Test
+  public void whenRenewalFailsUntilOwnLeaseExpires_ownNoNamespaces() {
+    replica1.renewMembership(NAMESPACES);
+    testSupport.failOnReplace(LEASE, NamespaceShards.LEASE_NAME_PREFIX + "replica1", OPERATOR_NS, HTTP_UNAVAILABLE);
+
+    SystemClockTestSupport.increment(LEASE_DURATION);
+    replica1.renewMembership(NAMESPACES);
+
+    assertThat(replica1.selectOwned(NAMESPACES), empty());
+  }
+
+  @Test
+  public void whenRenewalNotAttemptedUntilOwnLeaseExpires_ownNoNamespaces() {
+    replica1.renewMembership(NAMESPACES);
+
+    SystemClockTestSupport.increment(LEASE_DURATION);
+
+    assertThat(replica1.selectOwned(NAMESPACES), empty());
+  }
+
+  // Each replica sees only the leases renewed before its own, and a namespace moves to a new owner only after the
+  // old one has released it, so several rounds are needed for all to agree. No namespace may ever have two owners.
+  private void settle(NamespaceShards... replicas) {
+    for (int round = 0; round < 3; round++) {
+      for (NamespaceShards replica : replicas) {
+        replica.renewMembership(NAMESPACES);
+        assertAtMostOneOwnerOfEachNamespace();
+      }
+    }
+  }
+
+  private void assertAtMostOneOwnerOfEachNamespace() {
+    for (String namespace : NAMESPACES) {
+      assertThat(namespace, countOwners(namespace, replica1, replica2, replica3), lessThanOrEqualTo(1L));
+    }
+  }
+
+  private String findReleasedBy(NamespaceShards replica) {
+    return NAMESPACES.stream().filter(ns -> !replica.owns(ns)).findFirst().orElse(null);
+  }
+
+  private List<V1Lease> getLeases(String type) {
+    return testSupport.<V1Lease>getResources(LEASE).stream()
+          .filter(l -> type.equals(l.getMetadata().getLabels().get(LabelConstants.SHARD_LEASE_LABEL)))
+          .collect(Collectors.toList());
+  }
+
+  private String getNamespaceLeaseHolder(String namespace) {
+    return getLeases(NamespaceShards.NAMESPACE_LEASE).stream()
+          .filter(l -> l.getMetadata().getName().equals(NamespaceShards.NAMESPACE_LEASE_NAME_PREFIX + namespace))
+          .map(l -> l.getSpec().getHolderIdentity())
+          .findFirst().orElse(null);
+  }
+
+  private long countOwners(String namespace, NamespaceShards... replicas) {
+    return Arrays.stream(replicas).filter(r -> r.owns(namespace)).count();
+  }
+}
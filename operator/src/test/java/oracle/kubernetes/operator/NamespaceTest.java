@@ -7,6 +7,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +33,7 @@ import static java.util.function.Function.identity;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
@@ -68,6 +71,7 @@ public class NamespaceTest {
     mementos.add(StaticStubSupport.install(Main.class, "getHelmVariable", getTestHelmValue));
     mementos.add(TuningParametersStub.install(120));
     mementos.add(StaticStubSupport.install(Main.class, "processor", dp));
+    mementos.add(StaticStubSupport.preserve(Main.class, "shards"));
     AtomicBoolean stopping = new AtomicBoolean(true);
     JobWatcher.defineFactory(r -> createDaemonThread(), tuning, ns -> stopping);
   }
@@ -92,7 +96,7 @@ public class NamespaceTest {
     JobWatcher oldWatcher = JobWatcher.getOrCreateFor(domain);
 
     // Stop the namespace before removing as a target namespace so operator will stop it.
-    invoke_stopNamespace(NS, true);
+    invoke_stopNamespace(NS, true, false);
     deleteTargetNamespace(NS);
     Main.recheckDomains().run();
 
@@ -106,7 +110,7 @@ public class NamespaceTest {
     cacheStartedNamespaces();
 
     // Stop the namespace that is not in targetNamespace list
-    invoke_stopNamespace(NS, false);
+    invoke_stopNamespace(NS, false, false);
 
     Map<String, AtomicBoolean> namespaceStoppingMap = getNamespaceStoppingMap();
 
@@ -122,10 +126,10 @@ public class NamespaceTest {
     cacheStartedNamespaces();
 
     // Stop the namespace that is in targetNamespace list
-    invoke_stopNamespace(ADDITIONAL_NAMESPACE, true);
+    invoke_stopNamespace(ADDITIONAL_NAMESPACE, true, false);
 
     // Stop the namespace that is NOT in targetNamespace list
-    invoke_stopNamespace(NS, false);
+    invoke_stopNamespace(NS, false, false);
 
     Map<String, AtomicBoolean> namespaceStoppingMap = getNamespaceStoppingMap();
 
@@ -147,7 +151,7 @@ public class NamespaceTest {
     namespaceStoppingMap.put(NS, new AtomicBoolean(true));
 
     // Stop the namespace
-    invoke_stopNamespace(NS, false);
+    invoke_stopNamespace(NS, false, false);
 
     assertThat(dp.nameSpaces, hasSize(1));
     assertThat(NS, equalTo(dp.nameSpaces.get(0)));
@@ -162,12 +166,39 @@ public class NamespaceTest {
     Map<String, AtomicBoolean> namespaceStoppingMap = getNamespaceStoppingMap();
 
     // Stop the namespace not in targetNamespace list
-    invoke_stopNamespace(NS, false);
+    invoke_stopNamespace(NS, false, false);
 
     // Verify DomainProcessor::stopNamespace not called since namespace is active (i.e. not stopping)
     assertThat(dp.nameSpaces, is(empty()));
   }
 
+  @Test
+  public void whenNotShardedAndNamespaceRemovedFromTargetNamespaces_domainProcessorReleaseNamespaceNotInvoked()
+      throws NoSuchFieldException {
+    addTargetNamespace(NS);
+    addTargetNamespace(ADDITIONAL_NAMESPACE);
+    cacheStartedNamespaces();
+
+    deleteTargetNamespace(NS);
+    Main.recheckDomains().run();
+
+    assertThat(dp.releasedNamespaces, is(empty()));
+  }
+
+  @Test
+  public void whenShardedAndNamespaceReassignedToOtherReplica_domainProcessorReleaseNamespaceInvoked()
+      throws NoSuchFieldException {
+    addTargetNamespace(NS);
+    addTargetNamespace(ADDITIONAL_NAMESPACE);
+    cacheStartedNamespaces();
+
+    StaticStubSupport.install(Main.class, "shards", new NamespaceShardsStub(ADDITIONAL_NAMESPACE));
+    Main.recheckDomains().run();
+
+    assertThat(dp.releasedNamespaces, contains(NS));
+    assertThat(dp.nameSpaces, is(empty()));
+  }
+
   private Map<String, AtomicBoolean> getNamespaceStoppingMap()
       throws NoSuchFieldException, IllegalAccessException {
     Field field = Main.class.getDeclaredField(NAMESPACE_STOPPING_MAP);
@@ -202,14 +233,14 @@ public class NamespaceTest {
   }
 
   @SuppressWarnings("unchecked")
-  private void invoke_stopNamespace(String namespace, boolean inTargetNamespaceList)
+  private void invoke_stopNamespace(String namespace, boolean inTargetNamespaceList, boolean reassigned)
       throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
     if (stopNamespace == null) {
       stopNamespace =
-          Main.class.getDeclaredMethod("stopNamespace", String.class, Boolean.TYPE);
+          Main.class.getDeclaredMethod("stopNamespace", String.class, Boolean.TYPE, Boolean.TYPE);
       stopNamespace.setAccessible(true);
     }
-    stopNamespace.invoke(null, namespace, inTargetNamespaceList);
+    stopNamespace.invoke(null, namespace, inTargetNamespaceList, reassigned);
   }
 
   abstract static class TuningParametersStub implements TuningParameters {
@@ -233,10 +264,35 @@ public class NamespaceTest {
 
   abstract static class DomainProcessorStub implements DomainProcessor {
     ArrayList<String> nameSpaces = new ArrayList<>();
+    ArrayList<String> releasedNamespaces = new ArrayList<>();
 
     @Override
     public void stopNamespace(String ns) {
       Optional.ofNullable(ns).ifPresent(nspace -> nameSpaces.add(nspace));
     }
+
+    @Override
+    public void releaseNamespace(String ns) {
+      Optional.ofNullable(ns).ifPresent(nspace -> releasedNamespaces.add(nspace));
+    }
+  }
+
+  // A replica of a sharded operator which has been assigned only the specified namespaces
+  static class NamespaceShardsStub extends NamespaceShards {
+    private final List<String> ownedNamespaces;
+
+    NamespaceShardsStub(String... ownedNamespaces) {
+      super("operator-ns", "replica1", 10);
+      this.ownedNamespaces = Arrays.asList(ownedNamespaces);
+    }
+
+    @Override
+    void renewMembership(Collection<String> targetNamespaces) {
+    }
+
+    @Override
+    boolean owns(String namespace) {
+      return ownedNamespaces.contains(namespace);
+    }
   }
 }
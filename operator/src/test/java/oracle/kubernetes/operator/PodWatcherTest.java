@@ -21,7 +21,7 @@ import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
-import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
@@ -29,12 +29,20 @@ import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static oracle.kubernetes.operator.helpers.LegalNames.DOMAIN_INTROSPECTOR_JOB_SUFFIX;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -46,7 +54,6 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
   private static final String NS = "ns";
   private static final String NAME = "test";
   private static final int RECHECK_SECONDS = 10;
-  private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final TerminalStep terminalStep = new TerminalStep();
   private java.util.List<com.meterware.simplestub.Memento> mementos = new java.util.ArrayList<>();
   private java.util.List<java.util.logging.LogRecord> logRecords = new java.util.ArrayList<>();
@@ -57,6 +64,7 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     mementos.add(StubWatchFactory.install());
     StubWatchFactory.setListener(this);
     addMemento(testSupport.install());
+    addMemento(TuningParametersStub.install());
     mementos.add(
         oracle.kubernetes.utils.TestUtils.silenceOperatorLogger()
             .collectLogMessages(logRecords, getMessageKeys())
@@ -99,6 +107,11 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     return (T) new V1Pod().metadata(metaData);
   }
 
+  @Override
+  void failListing(String namespace) {
+    testSupport.failOnResource(POD, null, namespace, HTTP_INTERNAL_ERROR);
+  }
+
   @Override
   protected PodWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
     return PodWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
@@ -108,6 +121,55 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     return PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, stopping);
   }
 
+  @Test
+  public void afterHttpGoneError_sendOnlyChangedPodsToListener() {
+    V1Pod unchangedPod = createVersionedPod("unchanged", "1");
+    V1Pod changedPod = createVersionedPod("changed", "2");
+    V1Pod deletedPod = createVersionedPod("deleted", "3");
+    V1Pod updatedPod = createVersionedPod("changed", "4");
+    V1Pod addedPod = createVersionedPod("added", "5");
+    scheduleAddResponse(unchangedPod);
+    scheduleAddResponse(changedPod);
+    scheduleAddResponse(deletedPod);
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEvent(HTTP_GONE).toWatchResponse());
+    testSupport.defineResources(createVersionedPod("unchanged", "1"), updatedPod, addedPod);
+
+    createAndRunWatcher(NS, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks().subList(3, getCallBacks().size()),
+        containsInAnyOrder(modifyEvent(updatedPod), addEvent(addedPod), deleteEvent(deletedPod)));
+  }
+
+  @Test
+  public void afterHttpGoneError_deletedPodEventRetainsOnlyIdentifyingMetadata() {
+    V1Pod deletedPod = createVersionedPod("deleted", "3");
+    deletedPod.getMetadata().putLabelsItem(DOMAINUID_LABEL, "domain1").putAnnotationsItem("note", "value");
+    markPodReady(deletedPod);
+    scheduleAddResponse(deletedPod);
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEvent(HTTP_GONE).toWatchResponse());
+
+    createAndRunWatcher(NS, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks().get(1), deleteEvent(new V1Pod().metadata(
+          new V1ObjectMeta().namespace(NS).name("deleted").resourceVersion("3")
+                .putLabelsItem(DOMAINUID_LABEL, "domain1"))));
+  }
+
+  @Test
+  public void afterErrorWithoutStatus_dontListPods() {
+    scheduleAddResponse(createVersionedPod("known", "1"));
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEventWithoutStatus().toWatchResponse());
+    testSupport.defineResources(createVersionedPod("added", "2"));
+
+    createAndRunWatcher(NS, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks(), contains(addEvent(createVersionedPod("known", "1"))));
+  }
+
+  private V1Pod createVersionedPod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion));
+  }
+
   @Test
   public void waitForReady_returnsAStep() {
     AtomicBoolean stopping = new AtomicBoolean(true);
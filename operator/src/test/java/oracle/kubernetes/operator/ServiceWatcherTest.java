@@ -13,8 +13,10 @@ import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -49,6 +51,11 @@ public class ServiceWatcherTest extends WatcherTestBase implements WatchListener
     return (T) new V1Service().metadata(metaData);
   }
 
+  @Override
+  void failListing(String namespace) {
+    testSupport.failOnResource(SERVICE, null, namespace, HTTP_INTERNAL_ERROR);
+  }
+
   @Override
   protected ServiceWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
     return ServiceWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
@@ -9,11 +9,14 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -25,6 +28,7 @@ import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 
@@ -39,7 +43,8 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private List<Memento> mementos = new ArrayList<>();
   private List<Watch.Response<?>> callBacks = new ArrayList<>();
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
-  private AtomicBoolean stopping = new AtomicBoolean(false);
+  final AtomicBoolean stopping = new AtomicBoolean(false);
+  final KubernetesTestSupport testSupport = new KubernetesTestSupport();
 
   private V1ObjectMeta createMetaData() {
     return createMetaData("test", NAMESPACE);
@@ -62,14 +67,30 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     callBacks.add(response);
   }
 
+  List<Watch.Response<?>> getCallBacks() {
+    return callBacks;
+  }
+
+  /**
+   * Causes any attempt by the watcher to resynchronize by listing to fail, so that its fallback handling of an
+   * expired resource version may be tested. Does nothing for watchers which do not resynchronize by listing.
+   * @param namespace the namespace of the watcher
+   */
+  void failListing(String namespace) {
+  }
+
   /**
    * Setup test.
    * @throws Exception on failure
    */
   @Before
   public void setUp() throws Exception {
-    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException));
+    mementos.add(TestUtils.silenceOperatorLogger()
+        .ignoringLoggedExceptions(hasNextException)
+        .ignoringLoggedExceptions(ApiException.class));
     mementos.add(StubWatchFactory.install());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     StubWatchFactory.setListener(this);
   }
 
@@ -120,6 +141,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createDeleteEvent(object).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createHttpGoneErrorResponse(BigInteger nextResourceVersion) {
     return WatchEvent.createErrorEvent(HTTP_GONE, nextResourceVersion).toWatchResponse();
   }
@@ -161,6 +186,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @Test
   public void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
+    failListing(NAMESPACE);
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
     scheduleDeleteResponse(createObjectWithMetaData());
 
@@ -173,6 +199,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @Test
   public void afterHttpGoneErrorWithoutResourceVersion_nextRequestSendsResourceVersionZero() {
+    failListing(NAMESPACE);
     StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
@@ -183,6 +210,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @Test
   public void afterErrorWithoutStatus_nextRequestSendsResourceVersionZero() {
+    failListing(NAMESPACE);
     StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
@@ -193,7 +221,30 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @SuppressWarnings({"rawtypes"})
   @Test
-  public void afterDelete_nextRequestSendsIncrementedResourceVersion() {
+  public void bookmarkEvents_areNotSentToListeners() {
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, empty());
+  }
+
+  @Test
+  public void afterBookmark_nextRequestSendsBookmarkResourceVersion() {
+    StubWatchFactory.addCallResponses(createAddResponse(createObjectWithMetaData()));
+    Object bookmark = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createBookmarkResponse(bookmark));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(2),
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.add(BigInteger.ONE).toString()));
+  }
+
+  @Test
+  public void afterDelete_nextRequestSendsDeletedObjectResourceVersion() {
     scheduleDeleteResponse(createObjectWithMetaData());
     scheduleAddResponse(createObjectWithMetaData());
 
@@ -201,7 +252,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
     assertThat(
         StubWatchFactory.getRequestParameters().get(1),
-        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.add(BigInteger.ONE).toString()));
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.toString()));
   }
 
   @Test
@@ -228,7 +279,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return res;
   }
 
-  private void createAndRunWatcher(String nameSpace, AtomicBoolean stopping, BigInteger resourceVersion) {
+  void createAndRunWatcher(String nameSpace, AtomicBoolean stopping, BigInteger resourceVersion) {
     Watcher<?> watcher = createWatcher(nameSpace, stopping, resourceVersion);
     watcher.waitForExit();
   }
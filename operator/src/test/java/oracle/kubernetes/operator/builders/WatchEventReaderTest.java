@@ -0,0 +1,113 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.errorEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class WatchEventReaderTest {
+
+  private static final String RECORDED_POD_STREAM = String.join("\n",
+        "{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+              + "\"metadata\":{\"name\":\"pod1\",\"namespace\":\"ns1\",\"resourceVersion\":\"1021\","
+              + "\"creationTimestamp\":\"2020-03-01T12:00:00Z\",\"labels\":{\"weblogic.domainUID\":\"uid1\"}},"
+              + "\"spec\":{\"containers\":[{\"name\":\"weblogic-server\",\"image\":\"weblogic:12.2.1.4\"}]}}}",
+        "{\"type\":\"MODIFIED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+              + "\"metadata\":{\"name\":\"pod1\",\"namespace\":\"ns1\",\"resourceVersion\":\"1022\"},"
+              + "\"status\":{\"phase\":\"Running\"}}}",
+        "{\"type\":\"DELETED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+              + "\"metadata\":{\"name\":\"pod1\",\"namespace\":\"ns1\",\"resourceVersion\":\"1023\"}}}",
+        "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"status\":\"Failure\","
+              + "\"message\":\"too old resource version: 1021 (1050)\",\"reason\":\"Gone\",\"code\":410}}",
+        "");
+
+  private final JSON json = new JSON();
+
+  @Test
+  public void whenRecordedStreamReplayed_receiveAllEventsInOrder() throws IOException {
+    List<Watch.Response<V1Pod>> events = readAll(RECORDED_POD_STREAM);
+
+    assertThat(getTypes(events), contains("ADDED", "MODIFIED", "DELETED", "ERROR"));
+    assertThat(getResourceVersions(events.subList(0, 3)), contains("1021", "1022", "1023"));
+    assertThat(events.get(3), errorEvent(410));
+  }
+
+  @Test
+  public void whenRecordedStreamReplayed_decodeObjectFields() throws IOException {
+    V1Pod pod = readAll(RECORDED_POD_STREAM).get(0).object;
+
+    assertThat(pod.getMetadata().getLabels().get("weblogic.domainUID"), equalTo("uid1"));
+    assertThat(pod.getSpec().getContainers().get(0).getImage(), equalTo("weblogic:12.2.1.4"));
+    assertThat(pod.getMetadata().getCreationTimestamp().getYear(), equalTo(2020));
+  }
+
+  @Test
+  public void whenObjectPrecedesType_decodeObjectAfterType() throws IOException {
+    List<Watch.Response<V1Pod>> events = readAll(
+          "{\"object\":{\"metadata\":{\"name\":\"pod2\",\"resourceVersion\":\"7\"}},\"type\":\"ADDED\"}");
+
+    assertThat(events, contains(addEvent(pod("pod2", "7"))));
+  }
+
+  @Test
+  public void whenErrorPrecedesType_decodeStatus() throws IOException {
+    List<Watch.Response<V1Pod>> events = readAll("{\"object\":{\"code\":500},\"type\":\"ERROR\"}");
+
+    assertThat(events, contains(errorEvent(500)));
+  }
+
+  @Test
+  public void whenEventHasUnknownFields_ignoreThem() throws IOException {
+    List<Watch.Response<V1Pod>> events = readAll(
+          "{\"extra\":[1,{\"a\":2}],\"type\":\"ADDED\",\"object\":{\"metadata\":{\"name\":\"pod3\"}}}");
+
+    assertThat(events.get(0).object.getMetadata().getName(), equalTo("pod3"));
+  }
+
+  @Test
+  public void whenErrorEvent_objectIsNull() throws IOException {
+    List<Watch.Response<V1Pod>> events = readAll("{\"type\":\"ERROR\",\"object\":{\"code\":410}}");
+
+    assertThat(events.get(0).object, nullValue());
+  }
+
+  private List<Watch.Response<V1Pod>> readAll(String stream) throws IOException {
+    List<Watch.Response<V1Pod>> events = new ArrayList<>();
+    try (WatchEventReader<V1Pod> reader
+              = new WatchEventReader<>(new StringReader(stream), json.getGson(), V1Pod.class)) {
+      while (reader.hasNext()) {
+        events.add(reader.next());
+      }
+    }
+    return events;
+  }
+
+  private List<String> getTypes(List<Watch.Response<V1Pod>> events) {
+    return events.stream().map(event -> event.type).collect(Collectors.toList());
+  }
+
+  private List<String> getResourceVersions(List<Watch.Response<V1Pod>> events) {
+    return events.stream().map(event -> event.object.getMetadata().getResourceVersion()).collect(Collectors.toList());
+  }
+
+  private V1Pod pod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(name).resourceVersion(resourceVersion));
+  }
+}
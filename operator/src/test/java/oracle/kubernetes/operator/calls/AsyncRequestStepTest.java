@@ -30,6 +30,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class AsyncRequestStepTest {
@@ -102,6 +103,13 @@ public class AsyncRequestStepTest {
     assertThat(nextStep.result, equalTo(17));
   }
 
+  @Test
+  public void afterSuccessfulCallback_timeoutCheckCancelled() {
+    callFactory.sendSuccessfulCallback(17);
+
+    assertFalse(testSupport.hasItemScheduledAt(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+  }
+
   @Test
   public void afterSuccessfulCallback_packetDoesNotContainsResponse() {
     testSupport.schedule(() -> callFactory.sendSuccessfulCallback(17));
@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ConfigMapConsumerTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final AtomicInteger updateCount = new AtomicInteger();
+
+  @Test
+  public void whenCreated_readMountedValues() throws IOException {
+    File mountPoint = folder.newFolder("config");
+    writeValue(mountPoint, "watchLifetime", "60");
+
+    ConfigMapConsumer consumer = createConsumer(mountPoint);
+
+    assertThat(consumer.get("watchLifetime"), equalTo("60"));
+    assertThat(consumer.readTuningParameter("watchLifetime", 300), equalTo(60L));
+  }
+
+  @Test
+  public void whenMountPointMissing_haveNoValues() throws IOException {
+    ConfigMapConsumer consumer = createConsumer(new File(folder.getRoot(), "missing"));
+
+    assertThat(consumer.get("watchLifetime"), nullValue());
+    assertThat(consumer.size(), equalTo(0));
+  }
+
+  @Test
+  public void whenValueChanges_refreshUpdatesSnapshotAndRunsCallbackOnce() throws IOException {
+    File mountPoint = folder.newFolder("config");
+    writeValue(mountPoint, "watchLifetime", "60");
+    ConfigMapConsumer consumer = createConsumer(mountPoint);
+
+    writeValue(mountPoint, "watchLifetime", "90");
+    consumer.refresh();
+    consumer.refresh();
+
+    assertThat(consumer.get("watchLifetime"), equalTo("90"));
+    assertThat(updateCount.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenNothingChanges_refreshDoesNotRunCallback() throws IOException {
+    File mountPoint = folder.newFolder("config");
+    writeValue(mountPoint, "watchLifetime", "60");
+    ConfigMapConsumer consumer = createConsumer(mountPoint);
+
+    consumer.refresh();
+
+    assertThat(updateCount.get(), equalTo(0));
+  }
+
+  @Test
+  public void whenCallbackFails_handleChangeUpdatesSnapshotWithoutThrowing() throws IOException {
+    File mountPoint = folder.newFolder("config");
+    writeValue(mountPoint, "watchLifetime", "60");
+    ConfigMapConsumer consumer = new ConfigMapConsumer(null, mountPoint.getPath(), () -> {
+      throw new IllegalStateException("callback failed");
+    });
+
+    writeValue(mountPoint, "watchLifetime", "90");
+    consumer.handleChange();
+
+    assertThat(consumer.get("watchLifetime"), equalTo("90"));
+  }
+
+  private ConfigMapConsumer createConsumer(File mountPoint) {
+    return new ConfigMapConsumer(null, mountPoint.getPath(), updateCount::incrementAndGet);
+  }
+
+  // Writes the value atomically, as Kubernetes does, so that the consumer never sees a partial file.
+  private void writeValue(File mountPoint, String key, String value) throws IOException {
+    File temp = folder.newFile();
+    Files.write(temp.toPath(), value.getBytes(StandardCharsets.UTF_8));
+    Files.move(temp.toPath(), new File(mountPoint, key).toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -3,17 +3,28 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
+import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class DomainPresenceInfoTest {
+  private static final DateTime CREATION_TIME = DateTime.now();
+
   private DomainPresenceInfo info = new DomainPresenceInfo("ns", "domain");
+  private int resourceVersion;
 
   @Test
   public void whenNoneDefined_getClusterServiceReturnsNull() {
@@ -78,4 +89,58 @@ public class DomainPresenceInfoTest {
     assertThat(info.getValidationWarningsAsString(), containsString(warning1));
     assertThat(info.getValidationWarningsAsString(), containsString(warning2));
   }
+
+  @Test
+  public void afterReadyPodsDefined_countReadyServersByCluster() {
+    info.setServerPod("ms1", createPod("cluster1", true));
+    info.setServerPod("ms2", createPod("cluster1", true));
+    info.setServerPod("ms3", createPod("cluster1", false));
+    info.setServerPod("ms4", createPod("cluster2", true));
+
+    assertThat(info.getNumReadyServers("cluster1"), equalTo(2));
+    assertThat(info.getNumReadyServers("cluster2"), equalTo(1));
+  }
+
+  @Test
+  public void afterReadyPodDeleted_readyServerCountIsReduced() {
+    V1Pod pod = createPod("cluster1", true);
+    info.setServerPod("ms1", pod);
+    info.setServerPod("ms2", createPod("cluster1", true));
+
+    info.deleteServerPodFromEvent("ms1", pod);
+
+    assertThat(info.getNumReadyServers("cluster1"), equalTo(1));
+  }
+
+  @Test
+  public void whenServerBecomesReady_notifyReadinessListeners() {
+    AtomicInteger numNotifications = new AtomicInteger();
+    info.setServerPod("ms1", createPod("cluster1", false));
+    info.addServerReadinessListener(numNotifications::incrementAndGet);
+
+    info.setServerPodFromEvent("ms1", createPod("cluster1", true));
+
+    assertThat(numNotifications.get(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerReadinessIsUnchanged_dontNotifyReadinessListeners() {
+    AtomicInteger numNotifications = new AtomicInteger();
+    info.setServerPod("ms1", createPod("cluster1", true));
+    info.addServerReadinessListener(numNotifications::incrementAndGet);
+
+    info.setServerPodFromEvent("ms1", createPod("cluster1", true));
+
+    assertThat(numNotifications.get(), equalTo(0));
+  }
+
+  private V1Pod createPod(String clusterName, boolean ready) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .creationTimestamp(CREATION_TIME)
+            .resourceVersion(Integer.toString(++resourceVersion))
+            .putLabelsItem(CLUSTERNAME_LABEL, clusterName))
+        .status(new V1PodStatus().phase("Running").addConditionsItem(
+            new V1PodCondition().type("Ready").status(ready ? "True" : "False")));
+  }
 }
@@ -310,6 +310,45 @@ public class DomainStatusPatchTest {
     assertThat(builder.getPatches(), hasItemsInOrder("REMOVE /status/servers/1", "REMOVE /status/servers/0"));
   }
 
+  @Test
+  public void whenManyServersUnchanged_createNoPatches() {
+    computePatch(createStatusWithServers(300, RUNNING_STATE), createStatusWithServers(300, RUNNING_STATE));
+
+    assertThat(builder.getPatches(), arrayWithSize(0));
+  }
+
+  @Test
+  public void whenOneOfManyServersChanged_replaceOnlyItsState() {
+    DomainStatus status2 = createStatusWithServers(300, RUNNING_STATE)
+          .addServer(new ServerStatus().withServerName("ms150").withClusterName("cluster1").withState(STARTING_STATE));
+
+    computePatch(createStatusWithServers(300, RUNNING_STATE), status2);
+
+    assertThat(builder.getPatches(), arrayWithSize(1));
+    assertThat(builder.getPatches(), hasItemInArray("REPLACE /status/servers/149/state 'STARTING'"));
+  }
+
+  @Test
+  public void whenOneOfManyServersRemoved_removeOnlyIt() {
+    List<ServerStatus> servers = createStatusWithServers(300, RUNNING_STATE).getServers();
+    servers.removeIf(server -> server.getServerName().equals("ms150"));
+    DomainStatus status2 = new DomainStatus().withServers(servers);
+
+    computePatch(createStatusWithServers(300, RUNNING_STATE), status2);
+
+    assertThat(builder.getPatches(), arrayWithSize(1));
+    assertThat(builder.getPatches(), hasItemInArray("REMOVE /status/servers/149"));
+  }
+
+  @SuppressWarnings("SameParameterValue")
+  private DomainStatus createStatusWithServers(int numServers, String state) {
+    DomainStatus status = new DomainStatus();
+    for (int i = 1; i <= numServers; i++) {
+      status.addServer(new ServerStatus().withServerName("ms" + i).withClusterName("cluster1").withState(state));
+    }
+    return status;
+  }
+
   @Test
   public void withHealthScalarsWhenOnlyNewStatusHasServers_addThem() {
     DateTime activationTime = new DateTime();
@@ -17,6 +17,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class DomainTopologyTest {
@@ -231,6 +232,32 @@ public class DomainTopologyTest {
     assertTrue(serverConfigMap.containsKey("admin-server"));
   }
 
+  @Test
+  public void whenDomainRequestedAgain_dynamicServersAreNotRecreated() {
+    DomainTopology domainTopology =
+        DomainTopology.parseDomainTopologyYaml(DYNAMIC_SERVER_TOPOLOGY);
+
+    List<WlsServerConfig> serverConfigs = getDynamicServerConfigs(domainTopology);
+
+    assertSame(serverConfigs, getDynamicServerConfigs(domainTopology));
+  }
+
+  private List<WlsServerConfig> getDynamicServerConfigs(DomainTopology domainTopology) {
+    return domainTopology.getDomain().getClusterConfig("cluster-1").getDynamicServersConfig().getServerConfigs();
+  }
+
+  @Test
+  public void dynamicClusterRecognizesServerNamesWithinClusterSize() {
+    WlsClusterConfig clusterConfig =
+        DomainTopology.parseDomainTopologyYaml(DYNAMIC_SERVER_TOPOLOGY).getDomain().getClusterConfig("cluster-1");
+
+    assertTrue(clusterConfig.hasNamedServer("managed-server1"));
+    assertTrue(clusterConfig.hasNamedServer("managed-server4"));
+    assertFalse(clusterConfig.hasNamedServer("managed-server5"));
+    assertFalse(clusterConfig.hasNamedServer("managed-server01"));
+    assertFalse(clusterConfig.hasNamedServer("admin-server"));
+  }
+
   @Test
   public void parseMixedClusterTopologyYaml() {
     DomainTopology domainTopology =
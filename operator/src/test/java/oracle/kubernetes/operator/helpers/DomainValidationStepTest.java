@@ -17,6 +17,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Cluster;
 import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
@@ -43,6 +44,9 @@ import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainValidationStepTest {
+  private static final long RECHECK_SECONDS = 120;
+  private static final long MINIMUM_RELIST_SECONDS = 30;
+
   private Domain domain = DomainProcessorTestSetup.createTestDomain();
   private DomainPresenceInfo info = new DomainPresenceInfo(domain);
   private TerminalStep terminalStep = new TerminalStep();
@@ -165,6 +169,70 @@ public class DomainValidationStepTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  public void whenResourceNamesRecentlyListed_dontListThemAgain() {
+    testSupport.runStepsToCompletion(domainValidationSteps);
+    testSupport.clearNumCalls();
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenResourceNamesExpired_listThemAgain() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    testSupport.runStepsToCompletion(domainValidationSteps);
+    testSupport.clearNumCalls();
+
+    SystemClockTestSupport.increment(RECHECK_SECONDS);
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  @Test
+  public void whenReferencedSecretDefinedAfterNamesListed_runNextStep() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+    SystemClockTestSupport.increment(MINIMUM_RELIST_SECONDS);
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  public void whenDomainRefersToUnknownSecret_listNamesOnlyOnce() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.clearNumCalls();
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(getNumListCalls(), equalTo(2));
+  }
+
+  @Test
+  public void whenDomainStillRefersToUnknownSecretSoonAfterListing_dontListNamesAgain() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.runStepsToCompletion(domainValidationSteps);
+    testSupport.clearNumCalls();
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  // the failed domain status is also written, so exclude that call
+  private int getNumListCalls() {
+    return testSupport.getNumCalls() - 1;
+  }
+
   @Test
   public void whenClusterDoesNotExistInDomain_logWarning() {
     domain.getSpec().withCluster(createCluster("no-such-cluster"));
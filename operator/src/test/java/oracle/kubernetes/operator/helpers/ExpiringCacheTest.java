@@ -0,0 +1,94 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ExpiringCacheTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ExpiringCache<String, String> cache = new ExpiringCache<>(1500, 2);
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whenValueNotCached_returnNull() {
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  public void whenValueCached_returnIt() {
+    cache.put("key", "value");
+
+    assertThat(cache.get("key"), equalTo("value"));
+  }
+
+  @Test
+  public void whenTimeToLiveNotExceeded_returnCachedValue() {
+    cache.put("key", "value");
+
+    SystemClockTestSupport.increment();
+
+    assertThat(cache.get("key"), equalTo("value"));
+  }
+
+  @Test
+  public void whenTimeToLiveExceeded_returnNull() {
+    cache.put("key", "value");
+
+    SystemClockTestSupport.increment();
+    SystemClockTestSupport.increment();
+
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  public void whenMaximumSizeExceeded_discardLeastRecentlyUsedEntry() {
+    cache.put("key1", "value1");
+    cache.put("key2", "value2");
+    cache.get("key1");
+
+    cache.put("key3", "value3");
+
+    assertThat(cache.get("key2"), nullValue());
+    assertThat(cache.get("key1"), equalTo("value1"));
+  }
+
+  @Test
+  public void whenValueAbsent_computeAndCacheIt() {
+    cache.computeIfAbsent("key", () -> "value");
+
+    assertThat(cache.computeIfAbsent("key", () -> "other"), equalTo("value"));
+  }
+
+  @Test
+  public void computeHitRate() {
+    cache.put("key", "value");
+    cache.get("key");
+    cache.get("key");
+    cache.get("key");
+    cache.get("missing");
+
+    assertThat(cache.getHitRate(), equalTo(0.75));
+  }
+}
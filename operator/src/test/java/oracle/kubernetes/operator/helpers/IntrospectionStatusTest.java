@@ -62,6 +62,7 @@ public class IntrospectionStatusTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(UnitTestHash.install());
 
@@ -18,7 +18,10 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
+import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -27,6 +30,7 @@ import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.jetbrains.annotations.NotNull;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -51,6 +55,7 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class IntrospectorConfigMapTest {
@@ -352,6 +357,57 @@ public class IntrospectorConfigMapTest {
     assertThat(packet.get(DOMAIN_TOPOLOGY), equalTo(getParsedDomain(TOPOLOGY_VALUE)));
   }
 
+  @Test
+  public void whenCachedScanIsFromSameMapVersion_reuseCachedTopology() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("5"));
+    WlsDomainConfig cachedConfig = new WlsDomainConfig("sample");
+    ScanCache.INSTANCE.registerScan(NS, UID, new Scan(cachedConfig, new DateTime(), "5"));
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(packet.get(DOMAIN_TOPOLOGY), sameInstance(cachedConfig));
+  }
+
+  private V1ConfigMap createVersionedIntrospectorConfigMap(String resourceVersion) {
+    V1ConfigMap configMap = createIntrospectorConfigMap(Map.of(TOPOLOGY_YAML, TOPOLOGY_VALUE));
+    configMap.getMetadata()
+          .resourceVersion(resourceVersion)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+    return configMap;
+  }
+
+  @Test
+  public void whenCachedScanIsFromOtherMapVersion_parseTopology() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("5"));
+    WlsDomainConfig cachedConfig = new WlsDomainConfig("sample");
+    ScanCache.INSTANCE.registerScan(NS, UID, new Scan(cachedConfig, new DateTime(), "4"));
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(packet.get(DOMAIN_TOPOLOGY), not(sameInstance(cachedConfig)));
+  }
+
+  @Test
+  public void afterReadingIntrospectorConfigMaps_scanCacheContainsTopology() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("5"));
+
+    testSupport.runSteps(ConfigMapHelper.readIntrospectorConfigMaps(NS));
+
+    assertThat(ScanCache.INSTANCE.lookupScan(NS, UID).getWlsDomainConfig(), equalTo(getParsedDomain(TOPOLOGY_VALUE)));
+  }
+
+  @Test
+  public void whenScanAlreadyCached_readingIntrospectorConfigMapsDoesNotReplaceIt() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("5"));
+    Scan cachedScan = new Scan(new WlsDomainConfig("sample"), new DateTime());
+    ScanCache.INSTANCE.registerScan(NS, UID, cachedScan);
+
+    testSupport.runSteps(ConfigMapHelper.readIntrospectorConfigMaps(NS));
+
+    assertThat(ScanCache.INSTANCE.lookupScan(NS, UID), sameInstance(cachedScan));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private WlsDomainConfig getParsedDomain(String topologyYaml) {
     return Optional.ofNullable(topologyYaml)
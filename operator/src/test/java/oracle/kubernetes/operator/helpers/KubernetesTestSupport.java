@@ -10,11 +10,14 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -24,9 +27,13 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonPatch;
 import javax.json.JsonStructure;
+import javax.json.JsonValue;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -48,7 +55,10 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -91,6 +101,7 @@ import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_FIELD_MANAGER;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
 
 @SuppressWarnings("WeakerAccess")
@@ -102,6 +113,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -113,6 +125,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String SELF_SUBJECT_RULES_REVIEW = "SelfSubjectRulesReview";
   public static final String TOKEN_REVIEW = "TokenReview";
 
+  private static final String APPLY_OPERATION = "Apply";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
   private static final String PATH_PATTERN = "\\w+(?:.\\w+)*";
   private static final String OP_PATTERN = "=|==|!=";
   private static final String VALUE_PATTERN = ".*";
@@ -128,6 +142,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private long resourceVersion;
   private int numCalls;
   private boolean addCreationTimestamp;
+  private long callLatencyMillis;
+  private RandomFailures randomFailures;
 
   /**
    * Installs a factory into CallBuilder to use canned responses.
@@ -148,6 +164,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, V1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPvcList);
@@ -189,6 +206,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1JobList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1SecretList createSecretList(List<V1Secret> items) {
     return new V1SecretList().metadata(createListMeta()).items(items);
   }
@@ -248,6 +269,33 @@ public class KubernetesTestSupport extends FiberTestSupport {
     this.addCreationTimestamp = addCreationTimestamp;
   }
 
+  /**
+   * Delays the response to each asynchronous call by the specified time, as measured by the executor
+   * of the fiber making the call.
+   * @param callLatencyMillis the simulated latency, in milliseconds
+   */
+  public void setCallLatency(long callLatencyMillis) {
+    this.callLatencyMillis = callLatencyMillis;
+  }
+
+  /**
+   * Causes a random selection of asynchronous calls to fail, as a heavily-loaded API server might.
+   * @param random the source of randomness
+   * @param tooManyRequestsRate the fraction of calls which should fail with status 429
+   * @param serverErrorRate the fraction of calls which should fail with status 500
+   */
+  public void setRandomFailures(Random random, double tooManyRequestsRate, double serverErrorRate) {
+    randomFailures = new RandomFailures(random, tooManyRequestsRate, serverErrorRate);
+  }
+
+  /**
+   * Returns the number of calls which failed because of {@link #setRandomFailures}.
+   * @return a non-negative integer
+   */
+  public int getNumRandomFailures() {
+    return Optional.ofNullable(randomFailures).map(f -> f.numFailures).orElse(0);
+  }
+
   private DataRepository<?> selectRepository(String resourceType) {
     String key = resourceType;
     if (key.endsWith("Status")) {
@@ -410,6 +458,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return KubernetesUtils.getResourceName(requestParams.body);
       }
     },
+    apply {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
+    },
     delete {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -500,6 +554,35 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  static class RandomFailures {
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private final Random random;
+    private final double tooManyRequestsRate;
+    private final double serverErrorRate;
+    private int numFailures;
+
+    RandomFailures(Random random, double tooManyRequestsRate, double serverErrorRate) {
+      this.random = random;
+      this.tooManyRequestsRate = tooManyRequestsRate;
+      this.serverErrorRate = serverErrorRate;
+    }
+
+    void throwIfSelected() {
+      double selector = random.nextDouble();
+      if (selector < tooManyRequestsRate) {
+        throwFailure(HTTP_TOO_MANY_REQUESTS);
+      } else if (selector < tooManyRequestsRate + serverErrorRate) {
+        throwFailure(HTTP_INTERNAL_ERROR);
+      }
+    }
+
+    private void throwFailure(int httpStatus) {
+      numFailures++;
+      throw new HttpErrorException(new ApiException(httpStatus, "simulated failure"));
+    }
+  }
+
   static class HttpErrorException extends RuntimeException {
     private final ApiException apiException;
 
@@ -517,12 +600,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      DomainValidationSteps.clearResourceNames();
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      DomainValidationSteps.clearResourceNames();
     }
 
     @Override
@@ -557,6 +642,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
             throws ApiException {
       try {
         return (T) new CallContext(requestParams).execute();
+      } catch (NotFoundException e) {
+        throw new ApiException(HTTP_NOT_FOUND, e.getMessage());
       } catch (HttpErrorException e) {
         throw e.getApiException();
       }
@@ -654,6 +741,61 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // Simulates server-side apply. A resource whose fields the operator already owns by apply is replaced
+    // by the applied state. Otherwise, apply takes ownership only of the fields which it sets, so fields and
+    // list entries present only in the existing resource are kept.
+    T applyResource(String namespace, T resource) {
+      String name = getName(resource);
+      if (!hasElementWithName(name)) {
+        return createResource(namespace, withApplyOwnership(resource));
+      } else if (isOwnedByApply(data.get(name))) {
+        return replaceResource(name, withApplyOwnership(resource));
+      } else {
+        return replaceResource(name, withApplyOwnership(mergeForApply(data.get(name), resource)));
+      }
+    }
+
+    private boolean isOwnedByApply(T resource) {
+      return Optional.ofNullable(getMetadata(resource).getManagedFields()).orElse(Collections.emptyList())
+          .stream()
+          .anyMatch(this::isOperatorApplyEntry);
+    }
+
+    private boolean isOperatorApplyEntry(V1ManagedFieldsEntry entry) {
+      return OPERATOR_FIELD_MANAGER.equals(entry.getManager()) && APPLY_OPERATION.equals(entry.getOperation());
+    }
+
+    private T withApplyOwnership(T resource) {
+      if (!isOwnedByApply(resource)) {
+        getMetadata(resource).addManagedFieldsItem(
+            new V1ManagedFieldsEntry().manager(OPERATOR_FIELD_MANAGER).operation(APPLY_OPERATION));
+      }
+      return resource;
+    }
+
+    private T mergeForApply(T existing, T applied) {
+      return fromJsonStructure((JsonStructure) mergeForApply(toJsonStructure(existing), toJsonStructure(applied)));
+    }
+
+    private JsonValue mergeForApply(JsonValue existing, JsonValue applied) {
+      if (existing instanceof JsonObject && applied instanceof JsonObject) {
+        JsonObjectBuilder builder = Json.createObjectBuilder((JsonObject) existing);
+        ((JsonObject) applied).forEach(
+            (key, value) -> builder.add(key, mergeForApply(getField(existing, key), value)));
+        return builder.build();
+      } else if (existing instanceof JsonArray && applied instanceof JsonArray) {
+        JsonArrayBuilder builder = Json.createArrayBuilder((JsonArray) applied);
+        ((JsonArray) existing).stream().filter(value -> !((JsonArray) applied).contains(value)).forEach(builder::add);
+        return builder.build();
+      } else {
+        return applied;
+      }
+    }
+
+    private JsonValue getField(JsonValue object, String key) {
+      return ((JsonObject) object).get(key);
+    }
+
     Object listResources(String namespace, String fieldSelector, String... labelSelectors) {
       if (listFactory == null) {
         throw new UnsupportedOperationException("list operation not supported");
@@ -793,9 +935,15 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
 
       JsonPatch patch = Json.createPatch(fromV1Patch(body));
-      JsonStructure result = patch.apply(toJsonStructure(data.get(name)));
+      JsonStructure result;
+      try {
+        result = patch.apply(toJsonStructure(data.get(name)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
       T resource = fromJsonStructure(result);
       Optional.ofNullable(data.get(name)).ifPresent(old -> optionallyCopyStatusSubresource(old, resource));
+      incrementResourceVersion(getMetadata(resource));
       data.put(name, resource);
       onUpdateActions.forEach(a -> a.accept(resource));
       return resource;
@@ -906,6 +1054,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).createResource(namespace, resource);
     }
 
+    @Override
+    T applyResource(String namespace, T resource) {
+      return inNamespace(namespace).applyResource(namespace, resource);
+    }
+
     private DataRepository<T> inNamespace(String namespace) {
       return repositories.computeIfAbsent(namespace, n -> new DataRepository<>(resourceType, this));
     }
@@ -1020,6 +1173,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.createResource(requestParams.namespace, (T) requestParams.body);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T applyResource(DataRepository<T> dataRepository) {
+      return dataRepository.applyResource(requestParams.namespace, (T) requestParams.body);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T replaceResource(DataRepository<T> dataRepository) {
       return dataRepository.replaceResource(requestParams.name, (T) requestParams.body);
@@ -1063,8 +1221,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
     @Override
     public NextAction apply(Packet packet) {
+      if (callLatencyMillis > 0) {
+        return doDelay(new DelayedResponseStep(), packet, callLatencyMillis, TimeUnit.MILLISECONDS);
+      }
+      return respond(packet);
+    }
+
+    private NextAction respond(Packet packet) {
       numCalls++;
       try {
+        if (randomFailures != null) {
+          randomFailures.throwIfSelected();
+        }
         Object callResult = callContext.execute();
         CallResponse<Object> callResponse = createResponse(callResult);
         packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(callResponse));
@@ -1100,6 +1268,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private CallResponse<?> createResponse(Throwable t) {
       return CallResponse.createFailure(REQUEST_PARAMS, new ApiException(t), HTTP_UNAVAILABLE);
     }
+
+    private class DelayedResponseStep extends Step {
+      @Override
+      public NextAction apply(Packet packet) {
+        return respond(packet);
+      }
+    }
   }
 
   static class NotFoundException extends RuntimeException {
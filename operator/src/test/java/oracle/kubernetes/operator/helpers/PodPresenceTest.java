@@ -83,6 +83,7 @@ public class PodPresenceTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -29,6 +30,7 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.After;
@@ -41,6 +43,10 @@ import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_POD_REPLACE
 import static oracle.kubernetes.utils.LogMatcher.containsInOrder;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
 public class RollingHelperTest {
@@ -56,6 +62,7 @@ public class RollingHelperTest {
   private static final String SERVER1_NAME = "ess_server1";
   private static final String SERVER2_NAME = "ess_server2";
   private static final String SERVER10_NAME = "ess_server10";
+  private static final String SURGE_SERVER_NAME = "ess_server3";
   private static final List<String> SERVER_NAMES = Arrays.asList(SERVER10_NAME, SERVER1_NAME, SERVER2_NAME);
   private static final String DOMAIN_NAME = "domain1";
   private static final String UID = "uid1";
@@ -69,6 +76,7 @@ public class RollingHelperTest {
   protected List<Memento> mementos = new ArrayList<>();
   protected List<LogRecord> logRecords = new ArrayList<>();
 
+  private WlsDomainConfigSupport configSupport;
   private WlsDomainConfig domainTopology;
 
   /**
@@ -85,7 +93,7 @@ public class RollingHelperTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(UnitTestHash.install());
 
-    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
+    configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
     configSupport.addWlsServer(ADMIN_SERVER, ADMIN_PORT);
     configSupport.setAdminServerName(ADMIN_SERVER);
     SERVER_NAMES.forEach(s -> configSupport.addWlsServer(s, LISTEN_PORT));
@@ -195,4 +203,109 @@ public class RollingHelperTest {
     assertThat(logRecords, empty());
   }
 
+  @Test
+  public void whenClusterMustRemainAvailable_rollOnlyOneServerUntilReplacementIsReady() {
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(getReplacedServers(), contains(SERVER1_NAME));
+  }
+
+  @Test
+  public void whenReplacementBecomesReady_rollNextServerWithoutWaitingForRecheck() {
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    markReady(SERVER1_NAME);
+
+    assertThat(getReplacedServers(), contains(SERVER1_NAME, SERVER2_NAME));
+  }
+
+  private void markReady(String serverName) {
+    V1Pod pod = domainPresenceInfo.getServerPod(serverName);
+    pod.setStatus(new V1PodStatus().phase("Running").addConditionsItem(
+        new V1PodCondition().type("Ready").status("True")));
+    domainPresenceInfo.setServerPod(serverName, pod);
+  }
+
+  private List<Object> getReplacedServers() {
+    List<Object> replacedServers = logRecords.stream()
+        .filter(r -> MANAGED_POD_REPLACED.equals(r.getMessage()))
+        .map(r -> r.getParameters()[1])
+        .collect(Collectors.toList());
+    logRecords.clear();
+    return replacedServers;
+  }
+
+  @Test
+  public void whenMaxSurgeSpecifiedForDynamicCluster_startSurgeServerBeforeRollingAny() {
+    defineDynamicCluster();
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3).withMaxSurge(1);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(domainPresenceInfo.getServerPod(SURGE_SERVER_NAME), notNullValue());
+    assertThat(getReplacedServers(), empty());
+  }
+
+  @Test
+  public void whenSurgeServerBecomesReady_rollFirstServer() {
+    defineDynamicCluster();
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3).withMaxSurge(1);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    markReady(SURGE_SERVER_NAME);
+
+    assertThat(getReplacedServers(), contains(SERVER1_NAME));
+  }
+
+  @Test
+  public void afterSurgeRollCompletes_shutDownSurgeServer() {
+    defineDynamicCluster();
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3).withMaxSurge(1);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    markReady(SURGE_SERVER_NAME);
+    markReady(SERVER1_NAME);
+    markReady(SERVER2_NAME);
+    markReady(SERVER10_NAME);
+
+    assertThat(getReplacedServers(), contains(SERVER1_NAME, SERVER2_NAME, SERVER10_NAME));
+    assertThat(domainPresenceInfo.isServerPodBeingDeleted(SURGE_SERVER_NAME), is(true));
+  }
+
+  @Test
+  public void whenClusterIsNotDynamic_ignoreMaxSurge() {
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME).withReplicas(3).withMaxSurge(1);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(domainPresenceInfo.getServerPod(SURGE_SERVER_NAME), nullValue());
+    assertThat(getReplacedServers(), contains(SERVER1_NAME));
+  }
+
+  private void defineDynamicCluster() {
+    configSupport.addDynamicWlsCluster(CLUSTER_NAME, LISTEN_PORT,
+        SERVER1_NAME, SERVER2_NAME, SURGE_SERVER_NAME, SERVER10_NAME);
+    domainTopology = configSupport.createDomainConfig();
+  }
 }
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
@@ -49,6 +50,7 @@ import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
@@ -78,7 +80,9 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @RunWith(Parameterized.class)
@@ -406,6 +410,44 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
   }
 
+  @Test
+  public void whenConfiguredLabelAddedToServiceCreatedByApply_updateServiceWithoutDeletingIt() {
+    recordInitialAppliedService();
+    testSupport.failOnDelete(SERVICE, testFacade.getServiceName(), NS, HTTP_INTERNAL_ERROR);
+    configureNewLabel();
+
+    runServiceHelper();
+
+    assertThat(getCreatedService().getMetadata().getLabels(), hasEntry("newLabel", "value"));
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+  }
+
+  @Test
+  public void whenConfiguredLabelAddedToServiceNotCreatedByApply_recreateServiceWithoutStaleLabels() {
+    V1Service originalService = testFacade.createServiceModel(testSupport.getPacket());
+    originalService.getMetadata().putLabelsItem("staleLabel", "value");
+    recordInitialService(originalService);
+    configureNewLabel();
+
+    runServiceHelper();
+
+    assertThat(getCreatedService().getMetadata().getLabels(), not(hasKey("staleLabel")));
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+  }
+
+  @Test
+  public void whenConfiguredLabelAddedToServiceCreatedByApply_removeLabelsNoLongerConfigured() {
+    V1Service originalService = testFacade.createServiceModel(testSupport.getPacket());
+    originalService.getMetadata().putLabelsItem("staleLabel", "value");
+    recordInitialAppliedService(originalService);
+    configureNewLabel();
+
+    runServiceHelper();
+
+    assertThat(getCreatedService().getMetadata().getLabels(), not(hasKey("staleLabel")));
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+  }
+
   private void configureNewLabel() {
     testFacade.configureService(configureDomain()).withServiceLabel("newLabel", "value");
   }
@@ -431,11 +473,24 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
   }
 
   private void recordInitialService() {
-    V1Service originalService = testFacade.createServiceModel(testSupport.getPacket());
+    recordInitialService(testFacade.createServiceModel(testSupport.getPacket()));
+  }
+
+  private void recordInitialService(V1Service originalService) {
     testSupport.defineResources(originalService);
     testFacade.recordService(domainPresenceInfo, originalService);
   }
 
+  private void recordInitialAppliedService() {
+    recordInitialAppliedService(testFacade.createServiceModel(testSupport.getPacket()));
+  }
+
+  private void recordInitialAppliedService(V1Service originalService) {
+    originalService.getMetadata().addManagedFieldsItem(
+        new V1ManagedFieldsEntry().manager(KubernetesConstants.OPERATOR_FIELD_MANAGER).operation("Apply"));
+    recordInitialService(originalService);
+  }
+
   @Test
   public void whenServiceLabelAdded_dontReplaceService() {
     verifyServiceNotReplaced(this::addNewLabel);
@@ -68,6 +68,7 @@ public class ServicePresenceTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
     mementos.add(UnitTestHash.install());
 
     domains.put(NS, ImmutableMap.of(UID, info));
@@ -61,6 +61,10 @@ public abstract class TuningParametersStub implements TuningParameters {
     return null;
   }
 
+  @Override
+  public void addChangeListener(Runnable listener) {
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
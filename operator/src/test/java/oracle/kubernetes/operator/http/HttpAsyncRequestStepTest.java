@@ -18,6 +18,7 @@ import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -51,7 +52,8 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
   private HttpResponse<String> response = createStub(HttpResponseStub.class, 200);
   private HttpAsyncRequestStep requestStep;
   private CompletableFuture<HttpResponse<String>> responseFuture = new CompletableFuture<>();
-  private HttpAsyncRequestStep.FutureFactory futureFactory = r -> responseFuture;
+  private String sentClientKey;
+  private HttpAsyncRequestStep.FutureFactory futureFactory = this::createFuture;
   private Collection<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleMemento;
 
@@ -74,6 +76,11 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     mementos.forEach(Memento::revert);
   }
 
+  private CompletableFuture<HttpResponse<String>> createFuture(String clientKey, HttpRequest request) {
+    sentClientKey = clientKey;
+    return responseFuture;
+  }
+
   @Test
   public void classImplementsStep() {
     assertThat(HttpAsyncRequestStep.class, typeCompatibleWith(Step.class));
@@ -113,6 +120,32 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     FiberTestSupport.doOnExit(nextAction, fiber);
   }
 
+  @Test
+  public void whenNoClientKeySpecified_sendWithDefaultClient() {
+    receiveResponseBeforeTimeout(requestStep.apply(packet), response);
+
+    assertThat(sentClientKey, equalTo(HttpClientPool.DEFAULT_CLIENT_KEY));
+  }
+
+  @Test
+  public void whenClientKeySpecified_sendWithIt() {
+    requestStep.withClientKey(HttpClientPool.getClientKey("ns1", "domain1"));
+
+    receiveResponseBeforeTimeout(requestStep.apply(packet), response);
+
+    assertThat(sentClientKey, equalTo("ns1/domain1"));
+  }
+
+  @Test
+  public void whenResponseReceived_recordLatency() {
+    long initialCount = HttpClientPool.getInstance().getLatencies().getCount();
+    final NextAction nextAction = requestStep.apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, response);
+
+    assertThat(HttpClientPool.getInstance().getLatencies().getCount(), equalTo(initialCount + 1));
+  }
+
   @Test
   public void whenErrorResponseReceived_logMessage() {
     final NextAction nextAction = requestStep.apply(packet);
@@ -210,8 +243,9 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     }
 
     @Override
-    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
       runnable.run();
+      return () -> false;
     }
   }
 
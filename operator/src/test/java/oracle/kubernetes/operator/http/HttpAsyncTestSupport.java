@@ -26,7 +26,7 @@ public class HttpAsyncTestSupport {
   private static final HttpResponse<String> NOT_FOUND = createStub(HttpResponseStub.class, HTTP_NOT_FOUND);
   private static final RequestHandler NO_SUCH_HANDLER = new RequestHandler(null, NOT_FOUND);
 
-  private HttpAsyncRequestStep.FutureFactory futureFactory = this::getFuture;
+  private HttpAsyncRequestStep.FutureFactory futureFactory = (clientKey, request) -> getFuture(request);
   private Map<URI, List<RequestHandler>> cannedResponses = new HashMap<>();
 
   /**
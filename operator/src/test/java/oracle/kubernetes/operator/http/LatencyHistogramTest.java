@@ -0,0 +1,45 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LatencyHistogramTest {
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void whenNothingRecorded_percentileIsUndefined() {
+    assertThat(histogram.getPercentileUpperBound(50), equalTo(-1L));
+  }
+
+  @Test
+  public void countRecordedLatencies() {
+    histogram.record(3);
+    histogram.record(300);
+
+    assertThat(histogram.getCount(), equalTo(2L));
+  }
+
+  @Test
+  public void percentileUpperBoundIsLimitOfContainingBucket() {
+    for (int i = 0; i < 9; i++) {
+      histogram.record(20);
+    }
+    histogram.record(700);
+
+    assertThat(histogram.getPercentileUpperBound(50), equalTo(25L));
+    assertThat(histogram.getPercentileUpperBound(90), equalTo(25L));
+    assertThat(histogram.getPercentileUpperBound(99), equalTo(1000L));
+  }
+
+  @Test
+  public void whenLatencyExceedsLargestBucket_upperBoundIsUnlimited() {
+    histogram.record(60_000);
+
+    assertThat(histogram.getPercentileUpperBound(100), equalTo(Long.MAX_VALUE));
+  }
+}
@@ -0,0 +1,82 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class SizeLimitedBodyHandlerTest {
+  private static final int MAX_BYTES = 10;
+
+  private final SubscriptionStub subscription = createStub(SubscriptionStub.class);
+  private final HttpResponse.BodySubscriber<String> subscriber = new SizeLimitedBodyHandler(MAX_BYTES).apply(null);
+
+  @Test
+  public void whenBodyWithinLimit_returnIt() throws Exception {
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(List.of(toBuffer("hello"), toBuffer("world")));
+    subscriber.onComplete();
+
+    assertThat(getBody().get(), equalTo("helloworld"));
+  }
+
+  private ByteBuffer toBuffer(String contents) {
+    return ByteBuffer.wrap(contents.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private CompletableFuture<String> getBody() {
+    return subscriber.getBody().toCompletableFuture();
+  }
+
+  @Test
+  public void whenBodyExceedsLimit_failResponse() {
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(List.of(toBuffer("hello "), toBuffer("there, world")));
+
+    assertThat(getFailure(), instanceOf(SizeLimitedBodyHandler.ResponseTooLargeException.class));
+  }
+
+  private Throwable getFailure() {
+    try {
+      getBody().get();
+      return null;
+    } catch (InterruptedException | ExecutionException e) {
+      return e.getCause();
+    }
+  }
+
+  @Test
+  public void whenBodyExceedsLimit_cancelSubscription() {
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(List.of(toBuffer("hello there, world")));
+
+    assertThat(subscription.cancelled, is(true));
+  }
+
+  abstract static class SubscriptionStub implements Flow.Subscription {
+    private boolean cancelled;
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+}
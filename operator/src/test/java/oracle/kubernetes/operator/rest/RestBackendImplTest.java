@@ -4,9 +4,14 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
 import javax.ws.rs.WebApplicationException;
 
@@ -18,11 +23,17 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.helpers.AuthenticationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ExpiringCache;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.ScaleClusterTargetModel;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.utils.TestUtils;
@@ -33,19 +44,23 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.After;
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 @SuppressWarnings("SameParameterValue")
 public class RestBackendImplTest {
@@ -65,6 +80,11 @@ public class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private int numTokenReviews;
+  private int numSubjectAccessReviews;
+  private String deniedVerb;
+  private int numDomainUpdates;
+  private final Map<String, Map<String, DomainPresenceInfo>> domains = new HashMap<>();
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -82,23 +102,49 @@ public class RestBackendImplTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(
+        StaticStubSupport.install(AuthenticationProxy.class, "tokenReviewCache", new ExpiringCache<>(60_000, 10)));
+    mementos.add(
+        StaticStubSupport.install(AuthorizationProxy.class, "accessReviewCache", new ExpiringCache<>(60_000, 10)));
+
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
 
     testSupport.defineResources(domain, domain2);
+    cacheDomains(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
-    testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
+    testSupport.doOnUpdate(DOMAIN, d -> recordUpdate((Domain) d));
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
-    restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
+    restBackend = new RestBackendImpl("", "", Collections.singletonList(NS), testSupport.getEngine());
 
     setupScanCache();
   }
 
+  private void cacheDomains(Domain... domains) {
+    for (Domain domain : domains) {
+      this.domains.computeIfAbsent(domain.getNamespace(), k -> new HashMap<>())
+            .put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    }
+  }
+
+  private void recordUpdate(Domain domain) {
+    numDomainUpdates++;
+    updatedDomain = domain;
+  }
+
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
-    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
+    numSubjectAccessReviews++;
+    subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(!isDenied(subjectAccessReview)));
+  }
+
+  private boolean isDenied(V1SubjectAccessReview subjectAccessReview) {
+    return deniedVerb != null && deniedVerb.equals(subjectAccessReview.getSpec().getResourceAttributes().getVerb());
   }
 
   @After
@@ -106,6 +152,83 @@ public class RestBackendImplTest {
     mementos.forEach(Memento::revert);
   }
 
+  // authentication and authorization
+
+  @Test
+  public void whenSameTokenUsedForSecondRequest_dontRepeatTokenReview() {
+    new RestBackendImpl("", "", Collections.singletonList(NS), testSupport.getEngine());
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenDifferentTokenUsedForSecondRequest_performNewTokenReview() {
+    new RestBackendImpl("", "another-token", Collections.singletonList(NS), testSupport.getEngine());
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenSameOperationAuthorizedTwice_dontRepeatSubjectAccessReview() {
+    restBackend.getDomainUids();
+    int reviewsAfterFirstRequest = numSubjectAccessReviews;
+
+    new RestBackendImpl("", "", Collections.singletonList(NS), testSupport.getEngine()).getDomainUids();
+
+    assertThat(numSubjectAccessReviews, equalTo(reviewsAfterFirstRequest));
+  }
+
+  @Test
+  public void whenSameUpdateAuthorizedTwice_dontRepeatSubjectAccessReview() {
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    int reviewsAfterFirstRequest = numSubjectAccessReviews;
+
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(numSubjectAccessReviews, equalTo(reviewsAfterFirstRequest));
+  }
+
+  @Test
+  public void whenUpdateNotAuthorized_scaleClusterCompletesWithForbidden() {
+    deniedVerb = "update";
+
+    CompletionStage<Void> result = restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(getFailure(result), instanceOf(WebApplicationException.class));
+    assertThat(((WebApplicationException) getFailure(result)).getResponse().getStatus(), equalTo(403));
+  }
+
+  @Test
+  public void whenUpdateNotAuthorized_dontScaleCluster() {
+    deniedVerb = "update";
+
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(getLiveDomain(NAME1).getSpec().getClusters(), empty());
+  }
+
+  @Test
+  public void whenUpdateAuthorizedAfterDenial_scaleCluster() {
+    deniedVerb = "update";
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    deniedVerb = null;
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(getLiveDomain(NAME1).getSpec().getClusters().get(0).getReplicas(), equalTo(3));
+  }
+
+  @Test
+  public void whenUpdateOfOneDomainNotAuthorized_bulkScalingUpdatesNoDomain() {
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    deniedVerb = "update";
+
+    restBackend.scaleClusters(Arrays.asList(
+          new ScaleClusterTargetModel(NAME1, "cluster1", 3), new ScaleClusterTargetModel(NAME2, "cluster1", 3)));
+
+    assertThat(getLiveDomain(NAME1).getSpec().getClusters().get(0).getReplicas(), equalTo(2));
+  }
+
   // functionality needed for Domains resource
 
   @Test
@@ -113,6 +236,20 @@ public class RestBackendImplTest {
     assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME1, NAME2));
   }
 
+  @Test
+  public void whenDomainNotKnownToOperator_dontRetrieveIt() {
+    testSupport.defineResources(createDomain(NS, "domain3"));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME1, NAME2));
+  }
+
+  @Test
+  public void whenDomainBeingDeleted_dontRetrieveIt() {
+    domains.get(NS).get(NAME2).setDeleting(true);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME1));
+  }
+
   // functionality needed for Domain resource
 
   @Test
@@ -251,12 +388,12 @@ public class RestBackendImplTest {
   }
 
   @Test
-  public void whenPerClusterReplicaSettingMatchesScaleRequest_doNothing() {
+  public void whenPerClusterReplicaSettingMatchesScaleRequest_patchDomainAnyway() {
     configureCluster("cluster1").withReplicas(5);
 
     restBackend.scaleCluster(NAME1, "cluster1", 5);
 
-    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
   private Domain getUpdatedDomain() {
@@ -277,7 +414,6 @@ public class RestBackendImplTest {
   }
 
   @Test
-  @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
     restBackend.scaleCluster(NAME1, "cluster1", 5);
 
@@ -285,21 +421,146 @@ public class RestBackendImplTest {
   }
 
   @Test
-  public void whenNoPerClusterReplicaSettingAndDefaultMatchesRequest_doNothing() {
-    configureDomain().withDefaultReplicaCount(REPLICA_LIMIT);
+  public void whenOtherClusterHasReplicaSetting_scaleClusterAddsOne() {
+    configSupport.addWlsCluster("cluster2", "ms7", "ms8", "ms9");
+    setupScanCache();
+    configureCluster("cluster2").withReplicas(2);
 
-    restBackend.scaleCluster(NAME1, "cluster1", REPLICA_LIMIT);
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
 
-    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster2"), equalTo(2));
   }
 
-  @Test(expected = WebApplicationException.class)
-  public void whenReplaceDomainReturnsError_scaleClusterThrowsException() {
+  @Test
+  public void whenScaledBackBeforeCacheUpdated_lastRequestWins() {
+    configureCluster("cluster1").withReplicas(1);
+    domain.getMetadata().setResourceVersion("1");
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+    CompletionStage<Void> result = restBackend.scaleCluster(NAME1, "cluster1", 1);
+
+    assertThat(getFailure(result), nullValue());
+    assertThat(getLiveDomain(NAME1).getReplicaCount("cluster1"), equalTo(1));
+  }
+
+  @Test
+  public void whenCachedClusterIndexIsStale_patchClusterAtCurrentIndex() {
+    Domain cachedDomain = createDomain(NS, NAME1);
+    cachedDomain.getMetadata().setResourceVersion("1");
+    DomainConfiguratorFactory.forDomain(cachedDomain).configureCluster("cluster1").withReplicas(1);
+    cacheDomains(cachedDomain);
+    domain.getMetadata().setResourceVersion("2");
+    configureCluster("cluster2").withReplicas(2);
+    configureCluster("cluster1").withReplicas(1);
+
+    CompletionStage<Void> result = restBackend.scaleCluster(NAME1, "cluster1", 3);
+
+    assertThat(getFailure(result), nullValue());
+    assertThat(getLiveDomain(NAME1).getReplicaCount("cluster1"), equalTo(3));
+    assertThat(getLiveDomain(NAME1).getReplicaCount("cluster2"), equalTo(2));
+  }
+
+  private Domain getLiveDomain(String name) {
+    return testSupport.getResourceWithName(DOMAIN, name);
+  }
+
+  @Test
+  public void whenReplaceDomainReturnsError_scaleClusterCompletesWithException() {
     testSupport.failOnResource(DOMAIN, NAME2, NS, HTTP_CONFLICT);
 
     DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
 
-    restBackend.scaleCluster(NAME2, "cluster1", 3);
+    CompletionStage<Void> result = restBackend.scaleCluster(NAME2, "cluster1", 3);
+
+    assertThat(getFailure(result), instanceOf(WebApplicationException.class));
+  }
+
+  @Test
+  public void whenDomainPatched_scaleClusterCompletesNormally() {
+    configureCluster("cluster1").withReplicas(1);
+
+    CompletionStage<Void> result = restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(result.toCompletableFuture().isDone(), is(true));
+    assertThat(getFailure(result), nullValue());
+  }
+
+  @Test
+  public void whenBulkScalingClustersInOneDomain_patchDomainOnce() {
+    configSupport.addWlsCluster("cluster2", "ms7", "ms8", "ms9");
+    setupScanCache();
+    configureCluster("cluster1").withReplicas(1);
+    configureCluster("cluster2").withReplicas(1);
+
+    CompletionStage<Void> result = restBackend.scaleClusters(Arrays.asList(
+          new ScaleClusterTargetModel(NAME1, "cluster1", 5), new ScaleClusterTargetModel(NAME1, "cluster2", 3)));
+
+    assertThat(getFailure(result), nullValue());
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster2"), equalTo(3));
+  }
+
+  @Test
+  public void whenBulkScalingClustersInTwoDomains_patchEachDomainOnce() {
+    configureCluster("cluster1").withReplicas(1);
+    DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
+
+    CompletionStage<Void> result = restBackend.scaleClusters(Arrays.asList(
+          new ScaleClusterTargetModel(NAME1, "cluster1", 5), new ScaleClusterTargetModel(NAME2, "cluster1", 3)));
+
+    assertThat(getFailure(result), nullValue());
+    assertThat(numDomainUpdates, equalTo(2));
+  }
+
+  @Test
+  public void whenBulkScaledBackBeforeCacheUpdated_lastRequestWins() {
+    configureCluster("cluster1").withReplicas(1);
+    domain.getMetadata().setResourceVersion("1");
+
+    restBackend.scaleClusters(Collections.singletonList(new ScaleClusterTargetModel(NAME1, "cluster1", 5)));
+    CompletionStage<Void> result =
+          restBackend.scaleClusters(Collections.singletonList(new ScaleClusterTargetModel(NAME1, "cluster1", 1)));
+
+    assertThat(getFailure(result), nullValue());
+    assertThat(getLiveDomain(NAME1).getReplicaCount("cluster1"), equalTo(1));
+  }
+
+  @Test
+  public void whenAnyBulkScalingRequestExceedsCapacity_dontUpdateAnyDomain() {
+    configureCluster("cluster1").withReplicas(1);
+    DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
+
+    try {
+      restBackend.scaleClusters(Arrays.asList(
+            new ScaleClusterTargetModel(NAME1, "cluster1", 5), new ScaleClusterTargetModel(NAME2, "cluster1", 10)));
+      fail("Should have rejected scaling request");
+    } catch (WebApplicationException e) {
+      assertThat(e.getResponse().getStatus(), equalTo(HTTP_BAD_REQUEST));
+      assertThat(getUpdatedDomain(), nullValue());
+    }
+  }
+
+  @Test
+  public void whenBulkScalingUndefinedCluster_throwNotFoundException() {
+    try {
+      restBackend.scaleClusters(Collections.singletonList(new ScaleClusterTargetModel(NAME1, "cluster9", 2)));
+      fail("Should have rejected scaling request");
+    } catch (WebApplicationException e) {
+      assertThat(e.getResponse().getStatus(), equalTo(HTTP_NOT_FOUND));
+    }
+  }
+
+  @Test(expected = WebApplicationException.class)
+  public void whenBulkScalingNegativeCount_throwException() {
+    restBackend.scaleClusters(Collections.singletonList(new ScaleClusterTargetModel(NAME1, "cluster1", -1)));
+  }
+
+  // a failure in a dependent stage is wrapped in a CompletionException, which the REST resources unwrap
+  private Throwable getFailure(CompletionStage<Void> stage) {
+    Throwable failure = stage.handle((r, t) -> t).toCompletableFuture().getNow(null);
+    return failure instanceof CompletionException ? failure.getCause() : failure;
   }
 
   @Test
@@ -11,9 +11,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Application;
@@ -25,9 +28,12 @@ import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterTargetModel;
+import oracle.kubernetes.operator.rest.model.ScaleClustersParamsModel;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
-import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.TestProperties;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
 import org.glassfish.jersey.test.spi.TestContainerException;
 import org.glassfish.jersey.test.spi.TestContainerFactory;
 import org.hamcrest.Description;
@@ -38,6 +44,7 @@ import org.junit.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
@@ -53,8 +60,10 @@ public class RestTest extends JerseyTest {
   private static final String LATEST_HREF = OPERATOR_HREF + "/latest";
 
   private static final String V1_SWAGGER_HREF = V1_HREF + "/swagger";
+  private static final String V1_SCALE_HREF = V1_HREF + "/scale";
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
+  private static final String SCALE_HREF = LATEST_HREF + "/scale";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
@@ -83,6 +92,7 @@ public class RestTest extends JerseyTest {
 
   @Override
   protected Application configure() {
+    forceSet(TestProperties.CONTAINER_PORT, "0");
     return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend));
   }
 
@@ -95,7 +105,8 @@ public class RestTest extends JerseyTest {
 
   @Override
   protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
-    return new InMemoryTestContainerFactory();
+    // the in-memory container does not support asynchronous responses
+    return new GrizzlyTestContainerFactory();
   }
 
   @Test
@@ -152,7 +163,7 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
     assertThat(result, hasJsonPath("$.lifecycle", equalTo("active")));
     assertThat(
-        result, hasJsonPath("$.links[*].href", withValues(V1_DOMAINS_HREF, V1_SWAGGER_HREF)));
+        result, hasJsonPath("$.links[*].href", withValues(V1_DOMAINS_HREF, V1_SWAGGER_HREF, V1_SCALE_HREF)));
   }
 
   @Test
@@ -162,7 +173,7 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
     assertThat(result, hasJsonPath("$.lifecycle", equalTo("active")));
-    assertThat(result, hasJsonPath("$.links[*].href", withValues(DOMAINS_HREF, SWAGGER_HREF)));
+    assertThat(result, hasJsonPath("$.links[*].href", withValues(DOMAINS_HREF, SWAGGER_HREF, SCALE_HREF)));
   }
 
   @Test
@@ -281,6 +292,32 @@ public class RestTest extends JerseyTest {
         .post(createScaleRequest(numManagedServers));
   }
 
+  @Test
+  public void whenScalingFailsInBackend_returnFailureStatus() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    restBackend.failScalingWith(HTTP_CONFLICT);
+
+    assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HTTP_CONFLICT));
+  }
+
+  @Test
+  public void bulkScaleExistingClusters() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    defineClusters("uid2", "cluster1");
+
+    createRequest(SCALE_HREF).post(createBulkScaleRequest(
+          new ScaleClusterTargetModel("uid1", "cluster2", 2), new ScaleClusterTargetModel("uid2", "cluster1", 4)));
+
+    assertThat(restBackend.getNumManagedServers("uid1", "cluster2"), equalTo(2));
+    assertThat(restBackend.getNumManagedServers("uid2", "cluster1"), equalTo(4));
+  }
+
+  private Entity<ScaleClustersParamsModel> createBulkScaleRequest(ScaleClusterTargetModel... targets) {
+    ScaleClustersParamsModel params = new ScaleClustersParamsModel();
+    params.setClusters(Arrays.asList(targets));
+    return Entity.entity(params, MediaType.APPLICATION_JSON);
+  }
+
   @Test
   public void whenClusterUndefined_scalingIsRejected() {
     assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HTTP_NOT_FOUND));
@@ -386,6 +423,11 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private Integer scalingFailureStatus;
+
+    void failScalingWith(int status) {
+      scalingFailureStatus = status;
+    }
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -422,8 +464,21 @@ public class RestTest extends JerseyTest {
     }
 
     @Override
-    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
-      getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
+    public CompletionStage<Void> scaleCluster(String domainUid, String cluster, int managedServerCount) {
+      CompletableFuture<Void> result = new CompletableFuture<>();
+      if (scalingFailureStatus != null) {
+        result.completeExceptionally(new WebApplicationException(scalingFailureStatus));
+      } else {
+        getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
+        result.complete(null);
+      }
+      return result;
+    }
+
+    @Override
+    public CompletionStage<Void> scaleClusters(List<ScaleClusterTargetModel> targets) {
+      targets.forEach(t -> scaleCluster(t.getDomainUid(), t.getCluster(), t.getManagedServerCount()));
+      return CompletableFuture.completedFuture(null);
     }
 
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
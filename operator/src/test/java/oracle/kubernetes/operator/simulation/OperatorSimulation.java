@@ -0,0 +1,392 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainProcessorDelegate;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+
+/**
+ * Runs the domain processor against the in-memory Kubernetes of {@link KubernetesTestSupport} with many
+ * synthetic domains, so that changes to the operator's scaling behavior can be evaluated without a cluster.
+ * Time is simulated: API latency, the operator's retry delays and the interval between watch disconnects are
+ * all measured by a clock which advances in fixed ticks, so a run is repeatable for a given seed.
+ *
+ * <p>A domain is considered reconciled once no make-right is running or queued for it and all of its
+ * expected server pods exist. A watch disconnect is simulated as the domain watcher would see it after
+ * its resource version expires: a new ADDED event for every domain. Periodic domain status reading is not
+ * simulated, since it would contact the WebLogic servers.
+ */
+public class OperatorSimulation {
+  private static final String CLUSTER = "cluster";
+  private static final String ADMIN_NAME = "admin";
+  private static final String MS_PREFIX = "ms";
+  private static final AtomicInteger runCount = new AtomicInteger();
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final SimulatedExecutor executor = SimulatedExecutor.create();
+  private final Engine engine = new Engine(executor);
+  private final List<FiberGate> gates = new ArrayList<>();
+  private final Map<String, Long> awaitingReconcile = new HashMap<>();
+  private final List<Long> reconcileLatencies = new ArrayList<>();
+  // The make-right fiber gates are kept in a static map by namespace, so each run needs its own namespaces.
+  private final String namespacePrefix = "sim" + runCount.incrementAndGet() + "-ns";
+
+  private int namespaceCount = 1;
+  private int domainsPerNamespace = 10;
+  private int serversPerCluster = 5;
+  private int replicas = 2;
+  private long callLatencyMillis;
+  private double tooManyRequestsRate;
+  private double serverErrorRate;
+  private long watchDisconnectIntervalMillis;
+  private long seed = 1;
+  private long tickMillis = 100;
+  private long durationMillis = 60_000;
+  private long nextWatchDisconnect;
+  private DomainProcessorImpl processor;
+
+  public OperatorSimulation withNamespaces(int namespaceCount) {
+    this.namespaceCount = namespaceCount;
+    return this;
+  }
+
+  public OperatorSimulation withDomainsPerNamespace(int domainsPerNamespace) {
+    this.domainsPerNamespace = domainsPerNamespace;
+    return this;
+  }
+
+  /**
+   * Configures the cluster in each domain.
+   * @param serversPerCluster the number of managed servers defined in the cluster
+   * @param replicas the number of those servers to run
+   * @return this simulation
+   */
+  public OperatorSimulation withCluster(int serversPerCluster, int replicas) {
+    this.serversPerCluster = serversPerCluster;
+    this.replicas = replicas;
+    return this;
+  }
+
+  public OperatorSimulation withCallLatency(long callLatencyMillis) {
+    this.callLatencyMillis = callLatencyMillis;
+    return this;
+  }
+
+  /**
+   * Causes a random selection of asynchronous API calls to fail.
+   * @param tooManyRequestsRate the fraction of calls which should fail with status 429
+   * @param serverErrorRate the fraction of calls which should fail with status 500
+   * @return this simulation
+   */
+  public OperatorSimulation withFailureRates(double tooManyRequestsRate, double serverErrorRate) {
+    this.tooManyRequestsRate = tooManyRequestsRate;
+    this.serverErrorRate = serverErrorRate;
+    return this;
+  }
+
+  public OperatorSimulation withWatchDisconnectInterval(long watchDisconnectIntervalMillis) {
+    this.watchDisconnectIntervalMillis = watchDisconnectIntervalMillis;
+    return this;
+  }
+
+  public OperatorSimulation withSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Sets the granularity and limit of the simulated clock. Unless watch disconnects are simulated,
+   * a run ends as soon as every domain is reconciled.
+   * @param tickMillis the interval by which the clock advances
+   * @param durationMillis the maximum simulated time
+   * @return this simulation
+   */
+  public OperatorSimulation withClock(long tickMillis, long durationMillis) {
+    this.tickMillis = tickMillis;
+    this.durationMillis = durationMillis;
+    return this;
+  }
+
+  /**
+   * Creates the domains, delivers an ADDED event for each of them, and runs the operator until the simulation
+   * ends.
+   * @return the measurements taken during the run
+   * @throws Exception if unable to set up the simulated environment
+   */
+  public SimulationReport run() throws Exception {
+    List<Memento> mementos = install();
+    try {
+      processor = new DomainProcessorImpl(new SimulationDelegate());
+      defineDomains();
+      testSupport.clearNumCalls();
+      testSupport.setCallLatency(callLatencyMillis);
+      if (tooManyRequestsRate > 0 || serverErrorRate > 0) {
+        testSupport.setRandomFailures(new Random(seed), tooManyRequestsRate, serverErrorRate);
+      }
+
+      nextWatchDisconnect = watchDisconnectIntervalMillis;
+      dispatchAddedEvents();
+      recordReconciledDomains();
+      while (executor.getCurrentTime() < durationMillis && isRunning()) {
+        executor.advanceTo(executor.getCurrentTime() + tickMillis);
+        if (isWatchDisconnectDue()) {
+          nextWatchDisconnect += watchDisconnectIntervalMillis;
+          dispatchAddedEvents();
+        }
+        recordReconciledDomains();
+      }
+
+      return createReport();
+    } finally {
+      mementos.forEach(Memento::revert);
+    }
+  }
+
+  private List<Memento> install() throws NoSuchFieldException {
+    List<Memento> mementos = new ArrayList<>();
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", new ConcurrentHashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAIN_NAMESPACES", new HashMap<>()));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+    return mementos;
+  }
+
+  private void defineDomains() throws JsonProcessingException {
+    DomainProcessorTestSetup setup = new DomainProcessorTestSetup(testSupport);
+    setup.completeJobsOnCreate();
+    WlsDomainConfig domainConfig = createDomainConfig();
+    for (int i = 0; i < namespaceCount; i++) {
+      String namespace = namespacePrefix + i;
+      testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name(SECRET_NAME).namespace(namespace)));
+      for (int j = 0; j < domainsPerNamespace; j++) {
+        String domainUid = namespace + "-domain" + j;
+        testSupport.defineResources(createDomain(domainUid, namespace));
+        setup.defineKubernetesResources(domainUid, namespace, domainConfig);
+      }
+    }
+  }
+
+  private WlsDomainConfig createDomainConfig() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
+    for (int i = 1; i <= serversPerCluster; i++) {
+      clusterConfig.addServerConfig(new WlsServerConfig(MS_PREFIX + i, "domain-" + MS_PREFIX + i, 8001));
+    }
+    return new WlsDomainConfig("base_domain")
+        .withAdminServer(ADMIN_NAME, "domain-admin-server", 7001)
+        .withCluster(clusterConfig);
+  }
+
+  private Domain createDomain(String domainUid, String namespace) {
+    Domain domain = DomainProcessorTestSetup.createTestDomain();
+    domain.getMetadata().name(domainUid).namespace(namespace).uid(domainUid);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name(SECRET_NAME).namespace(namespace));
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER).withReplicas(replicas);
+    return domain;
+  }
+
+  private boolean isRunning() {
+    return watchDisconnectIntervalMillis > 0 || !awaitingReconcile.isEmpty();
+  }
+
+  private boolean isWatchDisconnectDue() {
+    return watchDisconnectIntervalMillis > 0 && executor.getCurrentTime() >= nextWatchDisconnect;
+  }
+
+  private void dispatchAddedEvents() {
+    for (Domain domain : testSupport.<Domain>getResources(DOMAIN)) {
+      awaitingReconcile.putIfAbsent(domain.getDomainUid(), executor.getCurrentTime());
+      processor.dispatchDomainWatch(new Watch.Response<>("ADDED", domain));
+    }
+  }
+
+  private void recordReconciledDomains() {
+    Set<String> activeDomains = getActiveDomains();
+    Map<String, Long> serverPodCounts = getServerPodCounts();
+    Iterator<Map.Entry<String, Long>> entries = awaitingReconcile.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<String, Long> entry = entries.next();
+      if (!activeDomains.contains(entry.getKey())
+            && serverPodCounts.getOrDefault(entry.getKey(), 0L) >= replicas + 1) {
+        reconcileLatencies.add(executor.getCurrentTime() - entry.getValue());
+        entries.remove();
+      }
+    }
+  }
+
+  private Set<String> getActiveDomains() {
+    Set<String> activeDomains = new HashSet<>();
+    for (FiberGate gate : gates) {
+      activeDomains.addAll(gate.getCurrentFibers().keySet());
+      awaitingReconcile.keySet().stream().filter(gate::hasPendingRerun).forEach(activeDomains::add);
+    }
+    return activeDomains;
+  }
+
+  private Map<String, Long> getServerPodCounts() {
+    return testSupport.<V1Pod>getResources(POD).stream()
+          .filter(pod -> getLabel(pod, LabelConstants.SERVERNAME_LABEL) != null)
+          .filter(pod -> getLabel(pod, LabelConstants.DOMAINUID_LABEL) != null)
+          .collect(Collectors.groupingBy(pod -> getLabel(pod, LabelConstants.DOMAINUID_LABEL), Collectors.counting()));
+  }
+
+  private String getLabel(V1Pod pod, String name) {
+    return Optional.ofNullable(pod.getMetadata())
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(name))
+          .orElse(null);
+  }
+
+  private SimulationReport createReport() {
+    Runtime runtime = Runtime.getRuntime();
+    return new SimulationReport(
+          namespaceCount * domainsPerNamespace,
+          reconcileLatencies,
+          awaitingReconcile.size(),
+          testSupport.getNumCalls(),
+          testSupport.getNumRandomFailures(),
+          executor.getCurrentTime(),
+          runtime.totalMemory() - runtime.freeMemory(),
+          ManagementFactory.getThreadMXBean().getThreadCount());
+  }
+
+  private class SimulationDelegate implements DomainProcessorDelegate {
+    @Override
+    public String getOperatorNamespace() {
+      return "operator-ns";
+    }
+
+    @Override
+    public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
+      return new PassthroughPodAwaiterStepFactory();
+    }
+
+    @Override
+    public V1SubjectRulesReviewStatus getSubjectRulesReviewStatus(String namespace) {
+      return null;
+    }
+
+    @Override
+    public boolean isNamespaceRunning(String namespace) {
+      return true;
+    }
+
+    @Override
+    public boolean isLeader() {
+      return true;
+    }
+
+    @Override
+    public KubernetesVersion getVersion() {
+      return KubernetesVersion.TEST_VERSION;
+    }
+
+    @Override
+    public SemanticVersion getProductVersion() {
+      return null;
+    }
+
+    @Override
+    public FiberGate createFiberGate() {
+      FiberGate gate = new FiberGate(engine);
+      gates.add(gate);
+      return gate;
+    }
+
+    @Override
+    public void runSteps(Step firstStep) {
+      engine.createFiber().start(firstStep, new Packet(), new IgnoringCompletionCallback());
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+          Runnable command, long initialDelay, long delay, TimeUnit unit) {
+      return createStub(ScheduledFuture.class);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return executor.schedule(command, delay, unit);
+    }
+  }
+
+  private static class PassthroughPodAwaiterStepFactory implements PodAwaiterStepFactory {
+    @Override
+    public Step waitForReady(V1Pod pod, Step next) {
+      return next;
+    }
+
+    @Override
+    public Step waitForDelete(V1Pod pod, Step next) {
+      return next;
+    }
+  }
+
+  private static class IgnoringCompletionCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+}
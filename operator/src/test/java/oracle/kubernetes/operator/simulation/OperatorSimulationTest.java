@@ -0,0 +1,59 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class OperatorSimulationTest {
+  private static final int NAMESPACES = 2;
+  private static final int DOMAINS_PER_NAMESPACE = 5;
+  private static final int NUM_DOMAINS = NAMESPACES * DOMAINS_PER_NAMESPACE;
+
+  private final OperatorSimulation simulation =
+        new OperatorSimulation().withNamespaces(NAMESPACES).withDomainsPerNamespace(DOMAINS_PER_NAMESPACE);
+
+  @Test
+  public void whenNoLatency_reconcileAllDomainsImmediately() throws Exception {
+    SimulationReport report = simulation.run();
+
+    assertThat(report.getReconcileCount(), equalTo(NUM_DOMAINS));
+    assertThat(report.getUnreconciledCount(), equalTo(0));
+    assertThat(report.getReconcileLatency(100), equalTo(0L));
+  }
+
+  @Test
+  public void reportApiCallsPerDomain() throws Exception {
+    SimulationReport report = simulation.run();
+
+    assertThat(report.getApiCallsPerDomain(), greaterThan(0.0));
+  }
+
+  @Test
+  public void whenCallsHaveLatency_reconcileLatencyReflectsIt() throws Exception {
+    SimulationReport report = simulation.withCallLatency(50).run();
+
+    assertThat(report.getReconcileCount(), equalTo(NUM_DOMAINS));
+    assertThat(report.getReconcileLatency(50), greaterThanOrEqualTo(50L * report.getApiCalls() / NUM_DOMAINS));
+  }
+
+  @Test
+  public void whenFailuresInjected_reportThem() throws Exception {
+    SimulationReport report = simulation.withFailureRates(0.05, 0.05).withSeed(7).run();
+
+    assertThat(report.getInjectedFailures(), greaterThan(0));
+    assertThat(report.getReconcileCount() + report.getUnreconciledCount(), equalTo(NUM_DOMAINS));
+  }
+
+  @Test
+  public void whenWatchDisconnects_reconcileDomainsAgain() throws Exception {
+    SimulationReport report = simulation.withWatchDisconnectInterval(1000).withClock(100, 3500).run();
+
+    assertThat(report.getReconcileCount(), equalTo(4 * NUM_DOMAINS));
+  }
+}
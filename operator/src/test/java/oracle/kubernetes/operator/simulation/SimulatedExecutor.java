@@ -0,0 +1,109 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.ThreadLocalContainerResolver;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+
+/**
+ * A single-threaded executor driven by a simulated clock. Unlike the executor in FiberTestSupport, delays are
+ * relative to the current simulated time, and any number of items may be scheduled for the same time; they run
+ * in the order in which they were scheduled.
+ */
+abstract class SimulatedExecutor implements ScheduledExecutorService {
+  private static final Container container = new Container();
+
+  private final PriorityQueue<ScheduledItem> scheduledItems = new PriorityQueue<>();
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  private long currentTime;
+  private long numScheduled;
+  private boolean running;
+
+  static SimulatedExecutor create() {
+    return createStrictStub(SimulatedExecutor.class);
+  }
+
+  long getCurrentTime() {
+    return currentTime;
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    scheduledItems.add(new ScheduledItem(currentTime + unit.toMillis(delay), numScheduled++, command));
+    return createStub(ScheduledFuture.class);
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    queue.add(command);
+    if (!running) {
+      runQueuedItems();
+    }
+  }
+
+  /**
+   * Advances the simulated clock, running every item scheduled up to and including the new time.
+   * @param time the new time, in milliseconds
+   */
+  void advanceTo(long time) {
+    while (!scheduledItems.isEmpty() && scheduledItems.peek().atTime <= time) {
+      ScheduledItem item = scheduledItems.poll();
+      currentTime = Math.max(currentTime, item.atTime);
+      execute(item.runnable);
+    }
+    currentTime = Math.max(currentTime, time);
+  }
+
+  private void runQueuedItems() {
+    running = true;
+    try {
+      Runnable runnable;
+      while (null != (runnable = queue.poll())) {
+        run(runnable);
+      }
+    } finally {
+      running = false;
+    }
+  }
+
+  private void run(Runnable runnable) {
+    ThreadLocalContainerResolver cr = ContainerResolver.getDefault();
+    Container old = cr.enterContainer(container);
+    try {
+      runnable.run();
+    } finally {
+      cr.exitContainer(old);
+    }
+  }
+
+  private static class ScheduledItem implements Comparable<ScheduledItem> {
+    private final long atTime;
+    private final long sequence;
+    private final Runnable runnable;
+
+    ScheduledItem(long atTime, long sequence, Runnable runnable) {
+      this.atTime = atTime;
+      this.sequence = sequence;
+      this.runnable = runnable;
+    }
+
+    @Override
+    public int compareTo(@Nonnull ScheduledItem o) {
+      return atTime != o.atTime ? Long.compare(atTime, o.atTime) : Long.compare(sequence, o.sequence);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The measurements taken during a run of an {@link OperatorSimulation}.
+ */
+public class SimulationReport {
+  private final int domainCount;
+  private final List<Long> reconcileLatencies;
+  private final int unreconciledCount;
+  private final int apiCalls;
+  private final int injectedFailures;
+  private final long simulatedMillis;
+  private final long heapUsedBytes;
+  private final int threadCount;
+
+  SimulationReport(int domainCount, List<Long> reconcileLatencies, int unreconciledCount, int apiCalls,
+                   int injectedFailures, long simulatedMillis, long heapUsedBytes, int threadCount) {
+    this.domainCount = domainCount;
+    this.reconcileLatencies = new ArrayList<>(reconcileLatencies);
+    this.unreconciledCount = unreconciledCount;
+    this.apiCalls = apiCalls;
+    this.injectedFailures = injectedFailures;
+    this.simulatedMillis = simulatedMillis;
+    this.heapUsedBytes = heapUsedBytes;
+    this.threadCount = threadCount;
+    Collections.sort(this.reconcileLatencies);
+  }
+
+  public int getDomainCount() {
+    return domainCount;
+  }
+
+  /**
+   * Returns the number of times a domain was brought into line with its specification.
+   * @return a non-negative count
+   */
+  public int getReconcileCount() {
+    return reconcileLatencies.size();
+  }
+
+  /**
+   * Returns the number of domains which were still waiting to be reconciled when the simulation ended.
+   * @return a non-negative count
+   */
+  public int getUnreconciledCount() {
+    return unreconciledCount;
+  }
+
+  /**
+   * Returns the simulated time from a watch event to the domain being reconciled, at the specified percentile.
+   * @param percentile a percentile between 0 and 100
+   * @return a time in milliseconds, or -1 if no domain was reconciled
+   */
+  public long getReconcileLatency(double percentile) {
+    if (reconcileLatencies.isEmpty()) {
+      return -1;
+    }
+    int index = (int) Math.ceil(percentile / 100 * reconcileLatencies.size()) - 1;
+    return reconcileLatencies.get(Math.max(0, Math.min(index, reconcileLatencies.size() - 1)));
+  }
+
+  public int getApiCalls() {
+    return apiCalls;
+  }
+
+  public double getApiCallsPerDomain() {
+    return domainCount == 0 ? 0 : (double) apiCalls / domainCount;
+  }
+
+  public int getInjectedFailures() {
+    return injectedFailures;
+  }
+
+  public long getSimulatedMillis() {
+    return simulatedMillis;
+  }
+
+  public long getHeapUsedBytes() {
+    return heapUsedBytes;
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+          "%d domains in %d simulated ms: %d reconciles, %d unreconciled; latency p50=%dms p90=%dms p99=%dms "
+                + "max=%dms; %d API calls (%.1f per domain), %d injected failures; heap %d MB, %d threads",
+          domainCount, simulatedMillis, getReconcileCount(), unreconciledCount,
+          getReconcileLatency(50), getReconcileLatency(90), getReconcileLatency(99), getReconcileLatency(100),
+          apiCalls, getApiCallsPerDomain(), injectedFailures, heapUsedBytes / (1024 * 1024), threadCount);
+  }
+}
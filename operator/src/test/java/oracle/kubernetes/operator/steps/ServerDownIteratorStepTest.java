@@ -0,0 +1,231 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.utils.TestUtils.ConsoleHandlerMemento;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.logging.MessageKeys.SERVER_SHUT_DOWN;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class ServerDownIteratorStepTest {
+
+  private static final String DOMAIN_NAME = "domain1";
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String ADMIN = "admin";
+  private static final String CLUSTER = "cluster1";
+  private static final String MS1 = "ms1";
+  private static final String MS2 = "ms2";
+  private static final String MS3 = "ms3";
+  private static final String MS10 = "ms10";
+  private static final String STANDALONE = "standalone";
+  private static final List<String> CLUSTERED_SERVERS = Arrays.asList(MS1, MS2, MS3, MS10);
+  private static final int DELETE_SECONDS = 10;
+
+  private final Domain domain = createDomain();
+  private final DomainPresenceInfo domainPresenceInfo = new DomainPresenceInfo(domain);
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private ConsoleHandlerMemento consoleHandlerMemento;
+
+  private Domain createDomain() {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(DOMAIN_NAME))
+        .withSpec(new DomainSpec()
+            .withDomainUid(UID)
+            .withWebLogicCredentialsSecret(new V1SecretReference().name("webLogicCredentialsSecretName")));
+  }
+
+  private static WlsDomainConfig createDomainConfig() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
+    for (String serverName : CLUSTERED_SERVERS) {
+      clusterConfig.addServerConfig(new WlsServerConfig(serverName, "domain1-" + serverName, 8001));
+    }
+    return new WlsDomainConfig("base_domain")
+        .withAdminServer(ADMIN, "domain1-admin-server", 7001)
+        .withCluster(clusterConfig);
+  }
+
+  /**
+   * Setup env for tests.
+   * @throws NoSuchFieldException if TuningParametersStub fails to install
+   */
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(consoleHandlerMemento = TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+
+    testSupport.defineResources(domain);
+    testSupport
+        .addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, createDomainConfig())
+        .addComponent(ProcessingConstants.PODWATCHER_COMPONENT_NAME, PodAwaiterStepFactory.class,
+            new DelayedPodAwaiterStepFactory())
+        .addDomainPresenceInfo(domainPresenceInfo);
+
+    definePod(ADMIN, null);
+    definePod(STANDALONE, null);
+    CLUSTERED_SERVERS.forEach(serverName -> definePod(serverName, CLUSTER));
+  }
+
+  /**
+   * Cleanup env after tests.
+   * @throws Exception if test support failed
+   */
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private void definePod(String serverName, String clusterName) {
+    V1ObjectMeta metadata = new V1ObjectMeta()
+        .namespace(NS)
+        .name(LegalNames.toPodName(UID, serverName))
+        .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName);
+    if (clusterName != null) {
+      metadata.putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
+    }
+    V1Pod pod = new V1Pod().metadata(metadata);
+
+    testSupport.defineResources(pod);
+    domainPresenceInfo.setServerPod(serverName, pod);
+  }
+
+  @Test
+  public void withNoConcurrencyLimit_shutDownAllManagedServersTogether() {
+    runServerDownIteratorStep(ADMIN, STANDALONE, MS1, MS2, MS3, MS10);
+
+    assertThat(getDeletedServers(), containsInAnyOrder(STANDALONE, MS1, MS2, MS3, MS10));
+  }
+
+  @Test
+  public void withConcurrencyOf2_shutDownClusteredServersInWavesInReverseStartOrder() {
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER).withMaxConcurrentShutdown(2);
+
+    runServerDownIteratorStep(MS1, MS2, MS3, MS10);
+
+    assertThat(getDeletedServers(), containsInAnyOrder(MS10, MS3));
+  }
+
+  @Test
+  public void withConcurrencyOf2_afterFirstWaveIsDown_shutDownNextWave() {
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER).withMaxConcurrentShutdown(2);
+
+    runServerDownIteratorStep(MS1, MS2, MS3, MS10);
+    testSupport.setTime(DELETE_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(getDeletedServers(), containsInAnyOrder(MS10, MS3, MS2, MS1));
+  }
+
+  @Test
+  public void domainConcurrencyLimit_doesNotApplyToNonClusteredServers() {
+    DomainConfiguratorFactory.forDomain(domain).withMaxConcurrentShutdown(1);
+
+    runServerDownIteratorStep(STANDALONE, MS1, MS2);
+
+    assertThat(getDeletedServers(), containsInAnyOrder(STANDALONE, MS2));
+  }
+
+  @Test
+  public void whileManagedServersAreShuttingDown_dontShutDownAdminServer() {
+    runServerDownIteratorStep(ADMIN, MS1);
+
+    assertThat(getDeletedServers(), contains(MS1));
+  }
+
+  @Test
+  public void afterManagedServersAreDown_shutDownAdminServer() {
+    runServerDownIteratorStep(ADMIN, MS1);
+    testSupport.setTime(DELETE_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(getDeletedServers(), containsInAnyOrder(MS1, ADMIN));
+  }
+
+  @Test
+  public void afterServerIsDown_logShutdownTime() {
+    consoleHandlerMemento.collectLogMessages(logRecords, SERVER_SHUT_DOWN);
+
+    runServerDownIteratorStep(MS1);
+    testSupport.setTime(DELETE_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(logRecords, containsInfo(SERVER_SHUT_DOWN, MS1));
+  }
+
+  private void runServerDownIteratorStep(String... serverNames) {
+    testSupport.runSteps(new ServerDownIteratorStep(Arrays.asList(serverNames), new TerminalStep()));
+  }
+
+  private List<String> getDeletedServers() {
+    List<String> remainingPods = testSupport.<V1Pod>getResources(POD).stream()
+        .map(pod -> pod.getMetadata().getName())
+        .collect(Collectors.toList());
+    return domainPresenceInfo.getServerNames().stream()
+        .filter(serverName -> !remainingPods.contains(LegalNames.toPodName(UID, serverName)))
+        .collect(Collectors.toList());
+  }
+
+  // Simulates servers which take some time to shut down after their pods are deleted. Each delay is
+  // slightly different, as the test scheduler runs only one item for any given time.
+  private static class DelayedPodAwaiterStepFactory implements PodAwaiterStepFactory {
+    private final AtomicInteger numDeletes = new AtomicInteger();
+
+    @Override
+    public Step waitForReady(V1Pod pod, Step next) {
+      return next;
+    }
+
+    @Override
+    public Step waitForDelete(V1Pod pod, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          long delay = TimeUnit.SECONDS.toMillis(DELETE_SECONDS) + numDeletes.incrementAndGet();
+          return doDelay(getNext(), packet, delay, TimeUnit.MILLISECONDS);
+        }
+      };
+    }
+  }
+}
@@ -154,9 +154,20 @@ public class WlsDomainConfigSupport {
    * @param serverNames the names of the servers
    */
   public void addDynamicWlsCluster(String clusterName, String... serverNames) {
+    addDynamicWlsCluster(clusterName, null, serverNames);
+  }
+
+  /**
+   * Adds a dynamic WLS cluster to the configuration, including its member servers.
+   *
+   * @param clusterName the name of the cluster
+   * @param port - the port of the servers
+   * @param serverNames the names of the servers
+   */
+  public void addDynamicWlsCluster(String clusterName, Integer port, String... serverNames) {
     ClusterConfigBuilder builder = new DynamicClusterConfigBuilder(clusterName);
     for (String serverName : serverNames) {
-      builder.addServer(serverName);
+      builder.addServer(serverName, port);
     }
     wlsClusters.put(clusterName, builder.build());
   }
@@ -0,0 +1,139 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class FiberGateTest {
+  private static final String KEY = "domain1";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<String> stepsRun = new ArrayList<>();
+  private final List<String> fibersCompleted = new ArrayList<>();
+  private final SuspendingStep suspendingStep = new SuspendingStep();
+
+  @Test
+  public void whenNoFiberRunning_startFiberOrQueueRerunStartsFiber() {
+    Fiber fiber = gate.startFiberOrQueueRerun(KEY, new RecordingStep("first"), new Packet(), new Recorder("first"));
+
+    assertThat(fiber, notNullValue());
+    assertThat(stepsRun, contains("first"));
+  }
+
+  @Test
+  public void whenFiberRunning_startFiberOrQueueRerunDoesNotStartFiber() {
+    gate.startFiber(KEY, suspendingStep, new Packet(), new Recorder("running"));
+
+    Fiber fiber = gate.startFiberOrQueueRerun(KEY, new RecordingStep("rerun"), new Packet(), new Recorder("rerun"));
+
+    assertThat(fiber, nullValue());
+    assertThat(stepsRun, empty());
+    assertThat(gate.hasPendingRerun(KEY), is(true));
+  }
+
+  @Test
+  public void whenFiberRunning_startFiberOrQueueRerunDoesNotCancelIt() {
+    gate.startFiber(KEY, suspendingStep, new Packet(), new Recorder("running"));
+    gate.startFiberOrQueueRerun(KEY, new RecordingStep("rerun"), new Packet(), new Recorder("rerun"));
+
+    suspendingStep.resume();
+
+    assertThat(stepsRun, contains("running", "rerun"));
+  }
+
+  @Test
+  public void whenRunningFiberCompletes_startQueuedRerun() {
+    gate.startFiber(KEY, suspendingStep, new Packet(), new Recorder("running"));
+    gate.startFiberOrQueueRerun(KEY, new RecordingStep("rerun"), new Packet(), new Recorder("rerun"));
+
+    suspendingStep.resume();
+
+    assertThat(fibersCompleted, contains("running", "rerun"));
+    assertThat(gate.hasPendingRerun(KEY), is(false));
+  }
+
+  @Test
+  public void whenSeveralRerunsQueued_runOnlyTheLatest() {
+    gate.startFiber(KEY, suspendingStep, new Packet(), new Recorder("running"));
+    gate.startFiberOrQueueRerun(KEY, new RecordingStep("rerun1"), new Packet(), new Recorder("rerun1"));
+    gate.startFiberOrQueueRerun(KEY, new RecordingStep("rerun2"), new Packet(), new Recorder("rerun2"));
+
+    suspendingStep.resume();
+
+    assertThat(stepsRun, contains("running", "rerun2"));
+    assertThat(fibersCompleted, contains("running", "rerun2"));
+  }
+
+  @Test
+  public void whenFiberRunningForOtherKey_startFiberOrQueueRerunStartsFiber() {
+    gate.startFiber("other", suspendingStep, new Packet(), new Recorder("running"));
+
+    gate.startFiberOrQueueRerun(KEY, new RecordingStep("first"), new Packet(), new Recorder("first"));
+
+    assertThat(stepsRun, contains("first"));
+  }
+
+  class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      return doNext(packet);
+    }
+  }
+
+  class SuspendingStep extends Step {
+    private AsyncFiber fiber;
+    private Packet packet;
+
+    SuspendingStep() {
+      super(new RecordingStep("running"));
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      this.packet = packet;
+      return doSuspend(f -> fiber = f);
+    }
+
+    void resume() {
+      fiber.resume(packet);
+    }
+  }
+
+  class Recorder implements CompletionCallback {
+    private final String name;
+
+    Recorder(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      fibersCompleted.add(name);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      fibersCompleted.add(name + " failed");
+    }
+  }
+}
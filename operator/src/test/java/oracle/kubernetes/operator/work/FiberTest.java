@@ -0,0 +1,101 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class FiberTest {
+  private static final int DELAY_SECONDS = 5;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final SuspendingStep suspendingStep = new SuspendingStep();
+  private Fiber parentFiber;
+
+  @Test
+  public void whileChildFibersRun_parentTracksThem() {
+    testSupport.runSteps(new ForkingStep(suspendingStep, suspendingStep, new CompletingStep()));
+
+    assertThat(parentFiber.getActiveChildCount(), equalTo(2));
+  }
+
+  @Test
+  public void afterChildFibersComplete_parentNoLongerTracksThem() {
+    testSupport.runSteps(new ForkingStep(suspendingStep, new CompletingStep(), new CompletingStep()));
+
+    suspendingStep.resume();
+
+    assertThat(parentFiber.getActiveChildCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenDelayedFiberCancelled_discardItsResumeTimer() {
+    testSupport.runSteps(new DelayingStep());
+
+    parentFiber.cancel(false);
+
+    assertThat(testSupport.hasItemScheduledAt(DELAY_SECONDS, TimeUnit.SECONDS), is(false));
+  }
+
+  @Test
+  public void whileDelayedFiberRuns_keepItsResumeTimer() {
+    testSupport.runSteps(new DelayingStep());
+
+    assertThat(testSupport.hasItemScheduledAt(DELAY_SECONDS, TimeUnit.SECONDS), is(true));
+  }
+
+  class DelayingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      parentFiber = Fiber.getCurrentIfSet();
+      return doDelay(packet, DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  class ForkingStep extends Step {
+    private final Step[] childSteps;
+
+    ForkingStep(Step... childSteps) {
+      this.childSteps = childSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      parentFiber = Fiber.getCurrentIfSet();
+      return doForkJoin(getNext(), packet, Arrays.stream(childSteps)
+            .map(step -> new StepAndPacket(step, packet.clone()))
+            .collect(Collectors.toList()));
+    }
+  }
+
+  static class CompletingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendingStep extends Step {
+    private AsyncFiber fiber;
+    private Packet packet;
+
+    @Override
+    public NextAction apply(Packet packet) {
+      this.packet = packet;
+      return doSuspend(f -> fiber = f);
+    }
+
+    void resume() {
+      fiber.resume(packet);
+    }
+  }
+}
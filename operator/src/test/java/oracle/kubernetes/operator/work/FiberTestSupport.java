@@ -14,6 +14,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -256,9 +257,10 @@ public class FiberTestSupport {
     @Nonnull
     public ScheduledFuture<?> schedule(
         @Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
-      scheduledItems.add(new ScheduledItem(unit.toMillis(delay), command));
+      ScheduledItem item = new ScheduledItem(currentTime + unit.toMillis(delay), command);
+      scheduledItems.add(item);
       runNextRunnable();
-      return createStub(ScheduledFuture.class);
+      return createStub(ScheduledFutureStub.class, item);
     }
 
     @Override
@@ -309,7 +311,7 @@ public class FiberTestSupport {
 
       List<ScheduledItem> itemsToRun = getItemsToRunByMsec(newTime);
       scheduledItems.removeAll(itemsToRun);
-      itemsToRun.forEach(item -> execute(item.runnable));
+      itemsToRun.stream().filter(item -> !item.cancelled).forEach(item -> execute(item.runnable));
       itemsToRun.stream().filter(ScheduledItem::isReschedulable).forEach(scheduledItems::add);
 
       currentTime = newTime;
@@ -329,16 +331,35 @@ public class FiberTestSupport {
      */
     boolean containsItemAt(int time, TimeUnit unit) {
       for (ScheduledItem scheduledItem : scheduledItems) {
-        if (scheduledItem.atTime == unit.toMillis(time)) {
+        if (scheduledItem.atTime == unit.toMillis(time) && !scheduledItem.cancelled) {
           return true;
         }
       }
       return false;
     }
 
+    abstract static class ScheduledFutureStub implements ScheduledFuture<Object> {
+      private final ScheduledItem item;
+
+      ScheduledFutureStub(ScheduledItem item) {
+        this.item = item;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean wasCancelled = item.cancelled;
+        item.cancelled = true;
+        return !wasCancelled;
+      }
+    }
+
     private static class ScheduledItem implements Comparable<ScheduledItem> {
+      private static final AtomicLong sequence = new AtomicLong();
+
       private final long atTime;
+      private final long order = sequence.incrementAndGet();
       private final Runnable runnable;
+      private boolean cancelled;
 
       ScheduledItem(long atTime, Runnable runnable) {
         this.atTime = atTime;
@@ -357,7 +378,9 @@ public class FiberTestSupport {
 
       @Override
       public int compareTo(@Nonnull ScheduledItem o) {
-        return Long.compare(atTime, o.atTime);
+        // items scheduled for the same time run in the order in which they were scheduled
+        int result = Long.compare(atTime, o.atTime);
+        return result != 0 ? result : Long.compare(order, o.order);
       }
 
       ScheduledItem rescheduled() {
@@ -0,0 +1,105 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class TimerWheelTest {
+  private static final int WHEEL_SIZE = 8;
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<String> tasksRun = new ArrayList<>();
+  private final TimerWheel timers = new TimerWheel(Runnable::run, 1, TimeUnit.SECONDS, WHEEL_SIZE, nanoTime::get);
+
+  @Test
+  public void whenDelayNotElapsed_dontRunTask() {
+    timers.schedule(() -> tasksRun.add("task"), 3, TimeUnit.SECONDS);
+
+    advanceSeconds(2);
+
+    assertThat(tasksRun, empty());
+  }
+
+  @Test
+  public void whenDelayElapsed_runTask() {
+    timers.schedule(() -> tasksRun.add("task"), 3, TimeUnit.SECONDS);
+
+    advanceSeconds(3);
+
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  public void whenScheduledPartwayThroughTick_dontRunTaskEarly() {
+    nanoTime.set(TimeUnit.MILLISECONDS.toNanos(500));
+    timers.schedule(() -> tasksRun.add("task"), 1, TimeUnit.SECONDS);
+
+    advanceSeconds(1);
+    assertThat(tasksRun, empty());
+
+    advanceSeconds(1);
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  public void whenDelayLongerThanWheel_runTaskOnlyAfterDelay() {
+    timers.schedule(() -> tasksRun.add("task"), WHEEL_SIZE * 2 + 3, TimeUnit.SECONDS);
+
+    advanceSeconds(WHEEL_SIZE * 2 + 2);
+    assertThat(tasksRun, empty());
+
+    advanceSeconds(1);
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  public void whenSeveralTimersExpire_runTasksInOrder() {
+    timers.schedule(() -> tasksRun.add("second"), 5, TimeUnit.SECONDS);
+    timers.schedule(() -> tasksRun.add("first"), 2, TimeUnit.SECONDS);
+    timers.schedule(() -> tasksRun.add("third"), 11, TimeUnit.SECONDS);
+
+    advanceSeconds(11);
+
+    assertThat(tasksRun, contains("first", "second", "third"));
+  }
+
+  @Test
+  public void whenTimerCancelled_dontRunTask() {
+    TimerWheel.Timer timer = timers.schedule(() -> tasksRun.add("task"), 3, TimeUnit.SECONDS);
+
+    assertThat(timer.cancel(), is(true));
+    advanceSeconds(3);
+
+    assertThat(tasksRun, empty());
+  }
+
+  @Test
+  public void pendingCount_excludesExpiredAndCancelledTimers() {
+    timers.schedule(() -> tasksRun.add("expired"), 1, TimeUnit.SECONDS);
+    timers.schedule(() -> tasksRun.add("pending"), 5, TimeUnit.SECONDS);
+    timers.schedule(() -> tasksRun.add("cancelled"), 5, TimeUnit.SECONDS).cancel();
+
+    advanceSeconds(2);
+
+    assertThat(timers.getPendingCount(), equalTo(1));
+  }
+
+  private void advanceSeconds(int seconds) {
+    for (int i = 0; i < seconds; i++) {
+      nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+      timers.advance();
+    }
+  }
+}
@@ -25,6 +25,10 @@ public class SystemClockTestSupport {
     clock.increment();
   }
 
+  public static void increment(long seconds) {
+    clock.increment(seconds);
+  }
+
   static class TestSystemClock extends SystemClock {
     private long testStartTime = 0;
     private long currentTime = testStartTime;
@@ -35,7 +39,11 @@ public class SystemClockTestSupport {
     }
 
     void increment() {
-      currentTime = currentTime + 1000;
+      increment(1);
+    }
+
+    void increment(long seconds) {
+      currentTime = currentTime + seconds * 1000;
     }
   }
 
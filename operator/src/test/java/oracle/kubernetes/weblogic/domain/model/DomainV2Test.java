@@ -42,6 +42,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -1624,4 +1625,59 @@ public class DomainV2Test extends DomainTestBase {
 
     assertThat(domain.getOverrideDistributionStrategy(), equalTo(OverrideDistributionStrategy.ON_RESTART));
   }
+
+  @Test
+  public void whenDomainHasNoGeneration_effectiveServerSpecIsRecomputed() {
+    assertThat(domain.getServer("server1", "cluster1"),
+          not(sameInstance(domain.getServer("server1", "cluster1"))));
+  }
+
+  @Test
+  public void whenDomainHasGeneration_effectiveServerSpecIsReused() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getServer("server1", "cluster1"),
+          sameInstance(domain.getServer("server1", "cluster1")));
+  }
+
+  @Test
+  public void whenDomainHasGeneration_effectiveClusterSpecIsReused() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getCluster("cluster1"), sameInstance(domain.getCluster("cluster1")));
+  }
+
+  @Test
+  public void whenDomainGenerationChanges_effectiveServerSpecIsRecomputed() {
+    domain.getMetadata().setGeneration(1L);
+    ServerSpec original = domain.getServer("server1", "cluster1");
+
+    configureServer("server1").withEnvironmentVariable("name1", "value1");
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getServer("server1", "cluster1").getEnvironmentVariables(),
+          contains(new V1EnvVar().name("name1").value("value1")));
+    assertThat(domain.getServer("server1", "cluster1"), not(sameInstance(original)));
+  }
+
+  @Test
+  public void whenDomainSpecReplaced_effectiveServerSpecIsRecomputed() {
+    domain.getMetadata().setGeneration(1L);
+    ServerSpec original = domain.getServer("server1", "cluster1");
+
+    domain.setSpec(new DomainSpec().withDomainUid(DOMAIN_UID));
+
+    assertThat(domain.getServer("server1", "cluster1"), not(sameInstance(original)));
+  }
+
+  @Test
+  public void whenReplicaCountChanged_cachedServerSpecReflectsNewLimit() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withReplicas(1);
+    domain.getServer("server1", "cluster1");
+
+    domain.setReplicaCount("cluster1", 3);
+
+    assertThat(domain.getServer("server1", "cluster1").shouldStart(2), is(true));
+  }
 }